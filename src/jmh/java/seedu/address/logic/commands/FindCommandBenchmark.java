@@ -0,0 +1,131 @@
+package seedu.address.logic.commands;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+
+/**
+ * Measures {@code find} with two keywords on an address book of {@code size} persons: resolving the keywords in
+ * the name index alone, the whole command, and filtering the list with the keyword predicate the way {@code find}
+ * did before the index.
+ * <p>
+ * Each person has a unique first name and one of 1000 last names, so the keywords match 1 + size / 1000 persons.
+ * The prefix of {@link #prefixLookup()} matches about size / 676 first names and 2 of the last names.
+ * The name of {@link #soundAlikeNameLookup()} sounds like the name of person 42, with "sun" for "son".
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=FindCommandBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class FindCommandBenchmark {
+
+    private static final int LAST_NAMES = 1000;
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private Model model;
+    private NameContainsKeywordsPredicate predicate;
+    private Name soundAlikeName;
+
+    /**
+     * Builds the address book and the predicate of {@code find <first name of person 7> <last name 42>}.
+     */
+    @Setup
+    public void setUp() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < size; i++) {
+            addressBook.addPerson(new Parent(new Name(toLetters(i) + " " + toLetters(i % LAST_NAMES) + "son"),
+                    new Phone("91234567"), new Email("parent" + i + "@example.com"), new Address("Blk " + i),
+                    new Remark("")));
+        }
+        model = new ModelManager(addressBook, new UserPrefs());
+        predicate = new NameContainsKeywordsPredicate(List.of(toLetters(7), toLetters(42) + "son"));
+        soundAlikeName = new Name(toLetters(42) + " " + toLetters(42) + "sun");
+    }
+
+    /**
+     * Resolves the keywords to the ids of the matching persons through the name index.
+     */
+    @Benchmark
+    public Set<PersonId> indexLookup() {
+        return model.getPersonIdsWithNameKeywords(predicate.getWords());
+    }
+
+    /**
+     * Resolves a two-letter prefix, as typed so far in the command box, through the name index.
+     */
+    @Benchmark
+    public Set<PersonId> prefixLookup() {
+        return model.getPersonIdsWithNamePrefixes(List.of(toLetters(42)));
+    }
+
+    /**
+     * Resolves a whole name that is not in the address book to the persons whose names sound like it, as
+     * {@code link} and {@code findlink} do, through the phonetic name index.
+     */
+    @Benchmark
+    public Set<Person> soundAlikeNameLookup() {
+        return model.getPersonsWithNameSoundingLike(soundAlikeName);
+    }
+
+    /**
+     * Runs {@code find}, which also refilters the displayed list with the resolved ids.
+     */
+    @Benchmark
+    public CommandResult findCommand() {
+        return new FindCommand(predicate).execute(model);
+    }
+
+    /**
+     * Filters the displayed list by matching the keywords against every name.
+     */
+    @Benchmark
+    public int predicateScan() {
+        model.updateFilteredPersonList(predicate);
+        return model.getFilteredPersonList().size();
+    }
+
+    /**
+     * Encodes {@code i} using letters only, since names may not contain digits.
+     */
+    private static String toLetters(int i) {
+        StringBuilder sb = new StringBuilder();
+        int value = i;
+        do {
+            sb.append((char) ('a' + value % 26));
+            value /= 26;
+        } while (value > 0);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.address.logic.commands;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+
+/**
+ * Measures {@code fuzzyfind} with two misspelt keywords on an address book of {@code size} persons, against
+ * computing the edit distance between the keywords and every word of every name.
+ * <p>
+ * Names are made of two to four random syllables each, so that, as in real address books, many persons share a
+ * name word and many name words are a few edits apart.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=FuzzyFindCommandBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class FuzzyFindCommandBenchmark {
+
+    private static final String[] SYLLABLES = {"an", "be", "chi", "do", "el", "fa", "gi", "ho", "li", "ma", "ne",
+        "ol", "pa", "ri", "sa", "to", "vi", "wei", "yeo", "zo"};
+
+    @Param({"500000"})
+    private int size;
+
+    private Model model;
+    private FuzzyFindCommand command;
+    private List<String> keywords;
+
+    /**
+     * Builds the address book and the keywords, which are name words of the book with one letter changed.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        AddressBook addressBook = new AddressBook();
+        String first = null;
+        String last = null;
+        for (int i = 0; i < size; i++) {
+            Name name;
+            do {
+                first = randomWord(random);
+                last = randomWord(random);
+                name = new Name(first + " " + last);
+            } while (addressBook.getPersonWithName(name).isPresent());
+            addressBook.addPerson(new Parent(name, new Phone("91234567"), new Email("parent" + i + "@example.com"),
+                    new Address("Blk " + i), new Remark("")));
+        }
+        model = new ModelManager(addressBook, new UserPrefs());
+        keywords = List.of(first.substring(1), last + "h");
+        command = new FuzzyFindCommand(keywords);
+        // the BK-tree is built by the first search, which is not what is measured
+        command.execute(model);
+    }
+
+    /**
+     * Runs {@code fuzzyfind}, which finds the similar name words in a BK-tree.
+     */
+    @Benchmark
+    public CommandResult fuzzyFind() {
+        return command.execute(model);
+    }
+
+    /**
+     * Finds the persons with a name word within two edits of a keyword by comparing the keywords with every name.
+     */
+    @Benchmark
+    public Set<PersonId> bruteForce() {
+        Set<PersonId> matches = new HashSet<>();
+        for (Person person : model.getAddressBook().getPersonList()) {
+            for (String token : person.getName().getSearchTokens()) {
+                for (String keyword : keywords) {
+                    if (StringUtil.editDistance(keyword, token) <= 2) {
+                        matches.add(person.getId());
+                    }
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 2 + random.nextInt(3); i > 0; i--) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return word.toString();
+    }
+}
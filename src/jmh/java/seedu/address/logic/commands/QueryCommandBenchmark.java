@@ -0,0 +1,135 @@
+package seedu.address.logic.commands;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Student;
+import seedu.address.model.query.QueryExpression;
+import seedu.address.model.query.QueryField;
+import seedu.address.model.query.QueryPlanner;
+import seedu.address.model.query.QueryRelation;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures {@code query role:student and tag:Subjectb and not tag:Subjectc and parent(phone:9*)} on an address
+ * book of {@code size} persons: executing the plan the planner chooses, the whole command, and filtering the list
+ * by testing every person against the query, as a single predicate would.
+ * <p>
+ * Half of the persons are students, each with two of 100 subject tags and linked to one parent, and half of the
+ * parents have a phone number starting with 9. The plan looks up the about size / 100 students tagged Subjectb and
+ * tests only those against the rest of the query.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=QueryCommandBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class QueryCommandBenchmark {
+
+    private static final int SUBJECTS = 100;
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private Model model;
+    private QueryCommand command;
+    private QueryExpression expression;
+
+    /**
+     * Builds the address book and the query.
+     */
+    @Setup
+    public void setUp() {
+        AddressBook addressBook = new AddressBook();
+        Tag[] subjects = new Tag[SUBJECTS];
+        for (int i = 0; i < SUBJECTS; i++) {
+            subjects[i] = new Tag("Subject" + toLetters(i));
+        }
+        addressBook.addTagTypes(Set.of(subjects));
+        for (int i = 0; i < size / 2; i++) {
+            Phone parentPhone = new Phone(i % 2 == 0 ? "91234567" : "81234567");
+            Parent parent = new Parent(new Name("Parent " + toLetters(i)), parentPhone,
+                    new Email("parent" + i + "@example.com"), new Address("Blk " + i), new Remark(""));
+            Student student = new Student(new Name("Student " + toLetters(i)), new Phone("81234567"),
+                    new Email("student" + i + "@example.com"), new Address("Blk " + i), new Remark(""),
+                    Set.of(subjects[i % SUBJECTS], subjects[(i + 1 + i / SUBJECTS % (SUBJECTS - 1)) % SUBJECTS]));
+            addressBook.addPerson(parent);
+            addressBook.addPerson(student);
+            addressBook.linkPersons(student, parent);
+        }
+        model = new ModelManager(addressBook, new UserPrefs());
+        expression = QueryExpression.and(List.of(
+                QueryExpression.condition(QueryField.ROLE, "student"),
+                QueryExpression.condition(QueryField.TAG, "Subjectb"),
+                QueryExpression.not(QueryExpression.condition(QueryField.TAG, "Subjectc")),
+                QueryExpression.related(QueryRelation.PARENT, QueryExpression.condition(QueryField.PHONE, "9*"))));
+        command = new QueryCommand(expression, false);
+    }
+
+    /**
+     * Plans the query and executes the plan, which looks the tag up and tests the students found.
+     */
+    @Benchmark
+    public Set<PersonId> plannedQuery() {
+        return new QueryPlanner(model).plan(expression).execute();
+    }
+
+    /**
+     * Runs {@code query}, which also refilters the displayed list with the ids found.
+     */
+    @Benchmark
+    public CommandResult queryCommand() {
+        return command.execute(model);
+    }
+
+    /**
+     * Filters the displayed list by testing every person against the query.
+     */
+    @Benchmark
+    public int predicateScan() {
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        model.updateFilteredPersonList(person -> expression.test(person, addressBook));
+        return model.getFilteredPersonList().size();
+    }
+
+    /**
+     * Encodes {@code i} using letters only, since names may not contain digits.
+     */
+    private static String toLetters(int i) {
+        StringBuilder sb = new StringBuilder();
+        int value = i;
+        do {
+            sb.append((char) ('a' + value % 26));
+            value /= 26;
+        } while (value > 0);
+        return sb.toString();
+    }
+}
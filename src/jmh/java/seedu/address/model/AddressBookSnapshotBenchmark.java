@@ -0,0 +1,100 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+
+/**
+ * Measures editing one person of an address book of {@code size} persons and then taking a consistent view of it
+ * for a reader, as a snapshot against a copy made with {@code new AddressBook(addressBook)}.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=AddressBookSnapshotBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AddressBookSnapshotBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private AddressBook addressBook;
+    private int edits;
+
+    /**
+     * Builds an address book of {@code size} parents, every second one linked to the next.
+     */
+    @Setup
+    public void setUp() {
+        addressBook = new AddressBook();
+        Person previous = null;
+        for (int i = 0; i < size; i++) {
+            Person parent = new Parent(new Name("Parent " + toLetters(i)), new Phone("91234567"),
+                    new Email("parent" + i + "@example.com"), new Address("Blk " + i), new Remark(""));
+            addressBook.addPerson(parent);
+            if (i % 2 == 1) {
+                addressBook.linkPersons(previous, parent);
+            }
+            previous = parent;
+        }
+    }
+
+    /**
+     * Edits a person and takes a snapshot, which shares all but the edited paths with the previous one.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook editAndSnapshot() {
+        editPerson();
+        return addressBook.snapshot();
+    }
+
+    /**
+     * Edits a person and copies the address book, the way readers took a consistent view before snapshots.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook editAndCopy() {
+        editPerson();
+        return new AddressBook(addressBook);
+    }
+
+    private void editPerson() {
+        Person person = addressBook.getPersonList().get(edits++ % size);
+        addressBook.setPerson(person, new Parent(person.getId(), person.getName(),
+                new Phone(String.valueOf(80000000 + edits)), person.getEmail(), person.getAddress(),
+                person.getRemark()));
+    }
+
+    /**
+     * Encodes {@code i} using letters only, since names may not contain digits.
+     */
+    private static String toLetters(int i) {
+        StringBuilder sb = new StringBuilder();
+        int value = i;
+        do {
+            sb.append((char) ('a' + value % 26));
+            value /= 26;
+        } while (value > 0);
+        return sb.toString();
+    }
+}
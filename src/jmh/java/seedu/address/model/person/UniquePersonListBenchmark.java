@@ -0,0 +1,105 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares identity lookups through the name index of {@code UniquePersonList} against the list scan
+ * that {@code UniquePersonList#contains(Person)} used to perform.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=UniquePersonListBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private List<Person> persons;
+    private UniquePersonList uniquePersonList;
+    private Person presentProbe;
+    private Person absentProbe;
+
+    /**
+     * Builds {@code size} persons with distinct names and loads them into a {@code UniquePersonList}.
+     */
+    @Setup
+    public void setUp() {
+        persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(createParent(i));
+        }
+        uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(persons);
+        presentProbe = createParent(size / 2);
+        absentProbe = createParent(size + 1);
+    }
+
+    @Benchmark
+    public boolean containsIndexedHit() {
+        return uniquePersonList.contains(presentProbe);
+    }
+
+    @Benchmark
+    public boolean containsIndexedMiss() {
+        return uniquePersonList.contains(absentProbe);
+    }
+
+    @Benchmark
+    public boolean containsListScanHit() {
+        return persons.stream().anyMatch(presentProbe::isSamePerson);
+    }
+
+    @Benchmark
+    public boolean containsListScanMiss() {
+        return persons.stream().anyMatch(absentProbe::isSamePerson);
+    }
+
+    /**
+     * Bulk replacement with duplicate detection through the name index, which is O(n).
+     * The previous pairwise check is O(n^2) and does not finish in reasonable time at the larger sizes,
+     * so it has no counterpart here.
+     */
+    @Benchmark
+    public UniquePersonList setPersonsIndexed() {
+        UniquePersonList list = new UniquePersonList();
+        list.setPersons(persons);
+        return list;
+    }
+
+    private static Parent createParent(int i) {
+        return new Parent(new Name("Parent " + toLetters(i)), new Phone("91234567"),
+                new Email("parent" + i + "@example.com"), new Address("Blk " + i), new Remark(""));
+    }
+
+    /**
+     * Encodes {@code i} using letters only, since names may not contain digits.
+     */
+    private static String toLetters(int i) {
+        StringBuilder sb = new StringBuilder();
+        int value = i;
+        do {
+            sb.append((char) ('a' + value % 26));
+            value /= 26;
+        } while (value > 0);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.model.person;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares validating the fields of {@code size} person records through the {@code isValid*} methods, which use
+ * pre-compiled patterns and hand-written scanners, against {@code String#matches} with the validation regexes,
+ * which compiles each regex again for every call.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=ValidationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ValidationBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private String[] names;
+    private String[] phones;
+    private String[] emails;
+    private String[] addresses;
+    private String[] remarks;
+    private String[] tags;
+
+    /**
+     * Builds {@code size} records of valid field values.
+     */
+    @Setup
+    public void setUp() {
+        names = new String[size];
+        phones = new String[size];
+        emails = new String[size];
+        addresses = new String[size];
+        remarks = new String[size];
+        tags = new String[size];
+        for (int i = 0; i < size; i++) {
+            names[i] = "Student " + toLetters(i);
+            phones[i] = "+65 " + (80000000 + i);
+            emails[i] = "student." + i + "@school-" + (i % 100) + ".edu.sg";
+            addresses[i] = "Blk " + i + ", Jurong West Ave 6, #08-111";
+            remarks[i] = i % 2 == 0 ? "" : "Needs help with algebra";
+            tags[i] = "Class_" + (i % 40);
+        }
+    }
+
+    @Benchmark
+    public int validateCompiled() {
+        int valid = 0;
+        for (int i = 0; i < size; i++) {
+            if (Name.isValidName(names[i]) && Phone.isValidPhone(phones[i]) && Email.isValidEmail(emails[i])
+                    && Address.isValidAddress(addresses[i]) && Remark.isValidRemark(remarks[i])
+                    && Tag.isValidTagName(tags[i])) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int validateStringMatches() {
+        int valid = 0;
+        for (int i = 0; i < size; i++) {
+            if (names[i].matches(Name.VALIDATION_REGEX) && phones[i].matches(Phone.VALIDATION_REGEX)
+                    && emails[i].matches(Email.VALIDATION_REGEX) && addresses[i].matches(Address.VALIDATION_REGEX)
+                    && remarks[i].matches(Remark.VALIDATION_REGEX) && tags[i].matches(Tag.VALIDATION_REGEX)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Encodes {@code i} using letters only, since names may not contain digits.
+     */
+    private static String toLetters(int i) {
+        StringBuilder sb = new StringBuilder();
+        int value = i;
+        do {
+            sb.append((char) ('a' + value % 26));
+            value /= 26;
+        } while (value > 0);
+        return sb.toString();
+    }
+}
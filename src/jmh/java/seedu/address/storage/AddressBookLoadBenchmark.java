@@ -0,0 +1,133 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Student;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures loading an address book in which every student is linked to a parent, at increasing sizes.
+ * <p>
+ * Persons, ids and links are all resolved through the hash indexes of {@code AddressBook}, so the time per load
+ * should grow linearly with {@code size}: a tenfold larger address book should take about ten times as long.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=AddressBookLoadBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AddressBookLoadBenchmark {
+
+    @Param({"8000", "80000", "800000"})
+    private int size;
+
+    private Path dataFile;
+    private Path manifestFile;
+    private JsonSerializableAddressBook boundAddressBook;
+
+    /**
+     * Saves an address book of {@code size} persons, half students and half parents, with each student linked
+     * to one parent.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        Tag tag = new Tag("Physics");
+        addressBook.addTagTypes(Set.of(tag));
+        for (int i = 0; i < size / 2; i++) {
+            Parent parent = new Parent(new Name("Parent " + toLetters(i)), new Phone("91234567"),
+                    new Email("parent" + i + "@example.com"), new Address("Blk " + i), new Remark(""));
+            Student student = new Student(new Name("Student " + toLetters(i)), new Phone("81234567"),
+                    new Email("student" + i + "@example.com"), new Address("Blk " + i), new Remark(""),
+                    Set.of(tag));
+            addressBook.addPerson(parent);
+            addressBook.addPerson(student);
+            addressBook.linkPersons(student, parent);
+        }
+
+        dataFile = Files.createTempFile("addressbook", ".json");
+        new JsonAddressBookStorage(dataFile, false).saveAddressBook(addressBook);
+        boundAddressBook = JsonUtil.readJsonFile(dataFile, JsonSerializableAddressBook.class).get();
+        manifestFile = ShardedAddressBookStorage.getManifestFilePath(dataFile);
+        new ShardedAddressBookStorage(manifestFile).saveAddressBook(addressBook);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(dataFile);
+        try (Stream<Path> files = Files.list(manifestFile.getParent())) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(manifestFile.getParent());
+    }
+
+    /**
+     * Converts an already bound address book, which includes the duplicate checks and rebuilding the links.
+     */
+    @Benchmark
+    public AddressBook toModelType() throws Exception {
+        return boundAddressBook.toModelType();
+    }
+
+    /**
+     * Loads the address book from the data file the way {@code JsonAddressBookStorage} does.
+     */
+    @Benchmark
+    public AddressBook readStreaming() throws Exception {
+        return JsonUtil.readJsonFile(dataFile, JsonSerializableAddressBook::read).get();
+    }
+
+    /**
+     * Loads the address book from segment files the way {@code ShardedAddressBookStorage} does, which reads the
+     * segments on all cores.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook readSharded() throws Exception {
+        return new ShardedAddressBookStorage(manifestFile).readAddressBook().get();
+    }
+
+    /**
+     * Encodes {@code i} using letters only, since names may not contain digits.
+     */
+    private static String toLetters(int i) {
+        StringBuilder sb = new StringBuilder();
+        int value = i;
+        do {
+            sb.append((char) ('a' + value % 26));
+            value /= 26;
+        } while (value > 0);
+        return sb.toString();
+    }
+}
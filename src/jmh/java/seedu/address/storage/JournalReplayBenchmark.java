@@ -0,0 +1,181 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Student;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures starting up from a snapshot and a journal of {@code saves} saves, against reading a snapshot of the same
+ * address book without a journal.
+ * <p>
+ * By default the journal is a synthetic workload of adds, edits, links and deletes on an address book of
+ * {@code size} persons. A journal recorded by the application can be replayed instead by passing the manifest it
+ * was saved next to, e.g. a copy of {@code data/ClassConnect.shards/manifest.json}, as {@code trace}:
+ * {@code ./gradlew jmhJar} and then
+ * {@code java -jar build/libs/*-jmh.jar JournalReplayBenchmark -p trace=<copy of the manifest>}.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=JournalReplayBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class JournalReplayBenchmark {
+
+    @Param({"8000"})
+    private int size;
+
+    @Param({"1000"})
+    private int saves;
+
+    @Param({""})
+    private String trace;
+
+    private Path directory;
+    private Path traceFile;
+    private Path snapshotFile;
+
+    /**
+     * Records the synthetic workload (unless a {@code trace} is given) and saves the address book it results in as
+     * a snapshot of its own.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("journal-replay");
+        if (trace.isEmpty()) {
+            traceFile = directory.resolve("trace.shards").resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+            recordWorkload(new JournalingAddressBookStorage(new ShardedAddressBookStorage(traceFile),
+                    Integer.MAX_VALUE));
+        } else {
+            traceFile = Paths.get(trace);
+        }
+
+        ReadOnlyAddressBook replayed = replay();
+        snapshotFile = directory.resolve("snapshot.shards").resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        new ShardedAddressBookStorage(snapshotFile).saveAddressBook(replayed);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Reads the snapshot and replays the journal on top of it, the way the application starts up.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook replay() throws Exception {
+        return new JournalingAddressBookStorage(new ShardedAddressBookStorage(traceFile)).readAddressBook().get();
+    }
+
+    /**
+     * Reads the snapshot of the address book as it is after the journal, for comparison.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook readSnapshot() throws Exception {
+        return new ShardedAddressBookStorage(snapshotFile).readAddressBook().get();
+    }
+
+    /**
+     * Saves an address book of {@code size} persons, half students and half parents, to {@code storage} and then
+     * saves it {@code saves} more times, each time after one command's worth of changes.
+     */
+    private void recordWorkload(JournalingAddressBookStorage storage) throws IOException {
+        Tag tag = new Tag("Physics");
+        AddressBook addressBook = new AddressBook();
+        addressBook.addTagTypes(Set.of(tag));
+        List<Student> students = new ArrayList<>();
+        List<Parent> parents = new ArrayList<>();
+        for (int i = 0; i < size / 2; i++) {
+            Parent parent = new Parent(new Name("Parent " + toLetters(i)), new Phone("91234567"),
+                    new Email("parent" + i + "@example.com"), new Address("Blk " + i), new Remark(""));
+            addressBook.addPerson(parent);
+            parents.add(parent);
+            students.add(addStudent(addressBook, i, tag));
+        }
+        storage.saveAddressBookChanges(addressBook, addressBook.takeChanges());
+
+        Random random = new Random(42);
+        for (int i = 0; i < saves; i++) {
+            int index = random.nextInt(students.size());
+            Student student = students.get(index);
+            switch (i % 4) {
+            case 0:
+                students.add(addStudent(addressBook, size + i, tag));
+                break;
+            case 1:
+                Student edited = new Student(student.getId(), student.getName(),
+                        new Phone(String.valueOf(80000000 + i)), student.getEmail(), student.getAddress(),
+                        student.getRemark(), student.getTags());
+                addressBook.setPerson(student, edited);
+                students.set(index, edited);
+                break;
+            case 2:
+                addressBook.linkPersons(student, parents.get(random.nextInt(parents.size())));
+                break;
+            default:
+                addressBook.removePerson(student);
+                students.remove(index);
+            }
+            storage.saveAddressBookChanges(addressBook, addressBook.takeChanges());
+        }
+    }
+
+    private static Student addStudent(AddressBook addressBook, int i, Tag tag) {
+        Student student = new Student(new Name("Student " + toLetters(i)), new Phone("81234567"),
+                new Email("student" + i + "@example.com"), new Address("Blk " + i), new Remark(""), Set.of(tag));
+        addressBook.addPerson(student);
+        return student;
+    }
+
+    /**
+     * Encodes {@code i} using letters only, since names may not contain digits.
+     */
+    private static String toLetters(int i) {
+        StringBuilder sb = new StringBuilder();
+        int value = i;
+        do {
+            sb.append((char) ('a' + value % 26));
+            value /= 26;
+        } while (value > 0);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Dictionary;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.Student;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares converting {@code size} adapted students into model students through {@code toModelType} against the
+ * previous conversion, which collected the validated fields in a {@code Hashtable} and validated every field again
+ * in the value constructors.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=JsonAdaptedPersonBenchmark -Pjmh.profilers=gc} to compare the
+ * allocation rates ({@code gc.alloc.rate.norm}) of the two conversions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class JsonAdaptedPersonBenchmark {
+
+    @Param({"100000"})
+    private int size;
+
+    private JsonAdaptedStudent[] students;
+    private String[] tagNames;
+
+    /**
+     * Builds {@code size} adapted students with valid details and one tag each.
+     */
+    @Setup
+    public void setUp() {
+        students = new JsonAdaptedStudent[size];
+        tagNames = new String[size];
+        for (int i = 0; i < size; i++) {
+            tagNames[i] = "Class" + (i % 40);
+            students[i] = new JsonAdaptedStudent(Role.STUDENT, i + 1, "Student " + toLetters(i), "9123 4567",
+                    "student" + i + "@example.com", "Blk " + i + ", Jurong West Ave 6", "",
+                    List.of(new JsonAdaptedTag(tagNames[i])));
+        }
+    }
+
+    @Benchmark
+    public void toModelType(Blackhole blackhole) throws IllegalValueException {
+        for (JsonAdaptedStudent student : students) {
+            blackhole.consume(student.toModelType());
+        }
+    }
+
+    @Benchmark
+    public void toModelTypeThroughHashtable(Blackhole blackhole) throws IllegalValueException {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(toModelTypeThroughHashtable(students[i], tagNames[i]));
+        }
+    }
+
+    /**
+     * The conversion as it was before, for comparison.
+     */
+    private static Student toModelTypeThroughHashtable(JsonAdaptedStudent student, String tagName)
+            throws IllegalValueException {
+        Dictionary<String, Object> fieldSet = new Hashtable<>();
+        PersonId modelId = new PersonId(student.id);
+        PersonId.reserve(modelId);
+        fieldSet.put("modelId", modelId);
+        if (!Name.isValidName(student.name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        fieldSet.put("modelName", new Name(student.name));
+        if (!Phone.isValidPhone(student.phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        fieldSet.put("modelPhone", new Phone(student.phone));
+        if (!Email.isValidEmail(student.email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+        fieldSet.put("modelEmail", new Email(student.email));
+        if (!Address.isValidAddress(student.address)) {
+            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+        }
+        fieldSet.put("modelAddress", new Address(student.address));
+        if (!Remark.isValidRemark(student.remark)) {
+            throw new IllegalValueException(Remark.MESSAGE_CONSTRAINTS);
+        }
+        fieldSet.put("modelRemark", new Remark(student.remark));
+
+        List<Tag> personTags = new ArrayList<>();
+        if (!Tag.isValidTagName(tagName)) {
+            throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+        }
+        personTags.add(new Tag(tagName));
+        Set<Tag> modelTags = new HashSet<>(personTags);
+        return new Student((PersonId) fieldSet.get("modelId"), (Name) fieldSet.get("modelName"),
+                (Phone) fieldSet.get("modelPhone"), (Email) fieldSet.get("modelEmail"),
+                (Address) fieldSet.get("modelAddress"), (Remark) fieldSet.get("modelRemark"), modelTags);
+    }
+
+    /**
+     * Encodes {@code i} using letters only, since names may not contain digits.
+     */
+    private static String toLetters(int i) {
+        StringBuilder sb = new StringBuilder();
+        int value = i;
+        do {
+            sb.append((char) ('a' + value % 26));
+            value /= 26;
+        } while (value > 0);
+        return sb.toString();
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -18,6 +20,7 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Instant recoveryPoint;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,6 +30,17 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the point in time to recover the address book to, or null if the latest address book is to be used.
+     */
+    public Instant getRecoveryPoint() {
+        return recoveryPoint;
+    }
+
+    public void setRecoveryPoint(Instant recoveryPoint) {
+        this.recoveryPoint = recoveryPoint;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -41,6 +55,15 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String recoverToParameter = namedParameters.get("recover-to");
+        if (recoverToParameter != null) {
+            try {
+                appParameters.setRecoveryPoint(Instant.parse(recoverToParameter));
+            } catch (DateTimeParseException e) {
+                logger.warning("Invalid recovery point " + recoverToParameter + ". Using the latest data instead.");
+            }
+        }
+
         return appParameters;
     }
 
@@ -56,18 +79,20 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(recoveryPoint, otherAppParameters.recoveryPoint);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, recoveryPoint);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("recoveryPoint", recoveryPoint)
                 .toString();
     }
 }
@@ -1,6 +1,7 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -23,8 +24,12 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BackgroundAddressBookSaver;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalingAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -43,6 +48,9 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected AddressBookStorage jsonExportStorage;
+    protected long loadedModificationCount;
+    protected BackgroundAddressBookSaver addressBookSaver;
     protected Model model;
     protected Config config;
 
@@ -57,20 +65,51 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        jsonExportStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        JournalingAddressBookStorage addressBookStorage = new JournalingAddressBookStorage(
+                initAddressBookStorage(config.getAddressBookFormat(), jsonExportStorage));
+        if (appParameters.getRecoveryPoint() != null) {
+            logger.info("Recovering the address book as saved at " + appParameters.getRecoveryPoint());
+            addressBookStorage.setRecoveryPoint(appParameters.getRecoveryPoint());
+        }
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
+        loadedModificationCount = model.getAddressBook().getModificationCount();
 
-        logic = new LogicManager(model, storage);
+        addressBookSaver = new BackgroundAddressBookSaver(storage, config.getSaveDebounceMillis());
+        logic = new LogicManager(model, addressBookSaver);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the storage that keeps the address book in {@code format}, next to the JSON data file of
+     * {@code jsonStorage}. While there is no address book in {@code format} yet, it is imported from the other
+     * format or, failing that, from the JSON data file.
+     */
+    private AddressBookStorage initAddressBookStorage(Config.AddressBookFormat format,
+            AddressBookStorage jsonStorage) {
+        Path jsonFilePath = jsonStorage.getAddressBookFilePath();
+        Path manifestFilePath = ShardedAddressBookStorage.getManifestFilePath(jsonFilePath);
+        Path snapshotFilePath = BinaryAddressBookStorage.getSnapshotFilePath(jsonFilePath);
+        logger.info("Keeping the address book in " + format + " format");
+
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(snapshotFilePath,
+                    new ShardedAddressBookStorage(manifestFilePath, jsonStorage));
+        default:
+            return new ShardedAddressBookStorage(manifestFilePath,
+                    new BinaryAddressBookStorage(snapshotFilePath, jsonStorage));
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book
+     * that its storage cannot recover from by falling back to an earlier snapshot.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
@@ -85,8 +124,8 @@ public class MainApp extends Application {
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded, nor could"
+                    + " an earlier snapshot of it. Will be starting with an empty AddressBook.");
             initialData = new AddressBook();
         }
 
@@ -174,9 +213,30 @@ public class MainApp extends Application {
         ui.start(primaryStage);
     }
 
+    /**
+     * Writes the address book to the JSON data file, which is kept as a readable copy of the data, if it changed
+     * during this run or there is no such copy yet. It is written once on exit rather than on every save, as every
+     * write rewrites the whole file.
+     */
+    private void exportAddressBook() {
+        boolean isChanged = model.getAddressBook().getModificationCount() != loadedModificationCount;
+        if (!isChanged && Files.exists(jsonExportStorage.getAddressBookFilePath())) {
+            return;
+        }
+        try {
+            jsonExportStorage.saveAddressBook(model.getAddressBook());
+        } catch (IOException e) {
+            logger.severe("Failed to export address book " + StringUtil.getDetails(e));
+        }
+    }
+
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        addressBookSaver.shutdown();
+        addressBookSaver.takeFailure().ifPresent(e ->
+                logger.severe("Failed to save address book " + StringUtil.getDetails(e)));
+        exportAddressBook();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
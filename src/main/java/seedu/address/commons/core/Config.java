@@ -14,9 +14,20 @@ public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
 
+    /**
+     * The formats the address book can be kept in.
+     * {@code SHARDED} keeps it in JSON segment files, of which a save rewrites only the changed ones.
+     * {@code BINARY} keeps it in a compact binary snapshot, which is faster to load but rewritten whole.
+     */
+    public enum AddressBookFormat {
+        SHARDED, BINARY
+    }
+
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long saveDebounceMillis = 200;
+    private AddressBookFormat addressBookFormat = AddressBookFormat.SHARDED;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +45,22 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public long getSaveDebounceMillis() {
+        return saveDebounceMillis;
+    }
+
+    public void setSaveDebounceMillis(long saveDebounceMillis) {
+        this.saveDebounceMillis = saveDebounceMillis;
+    }
+
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        this.addressBookFormat = addressBookFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +74,14 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && saveDebounceMillis == otherConfig.saveDebounceMillis
+                && addressBookFormat == otherConfig.addressBookFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, saveDebounceMillis, addressBookFormat);
     }
 
     @Override
@@ -60,6 +89,8 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("saveDebounceMillis", saveDebounceMillis)
+                .add("addressBookFormat", addressBookFormat)
                 .toString();
     }
 
@@ -1,10 +1,19 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 /**
  * Writes and reads files
@@ -74,10 +83,103 @@ public class FileUtil {
 
     /**
      * Writes given string to a file.
-     * Will create the file if it does not exist yet.
+     * Will create the file if it does not exist yet. The file is replaced as a whole, as by
+     * {@link #replaceFile(Path, ContentWriter)}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        replaceFile(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to {@code file}, creating missing parent directories.
+     * The content is written to a temporary file next to {@code file} and synced to the storage device, after which
+     * the temporary file replaces {@code file} in a single move. A failed write, or a crash at any point, therefore
+     * leaves either the old or the new content in {@code file}, never a mix of both.
+     */
+    public static void replaceFile(Path file, ContentWriter contentWriter) throws IOException {
+        replaceFile(file, contentWriter, true);
+    }
+
+    /**
+     * Similar to {@link #replaceFile(Path, ContentWriter)}, but the new content is only synced to the storage device
+     * if {@code isSynced} is true. Callers that write several files before making them current can leave out the
+     * sync here and sync all of them at once with {@link #syncFiles(Collection)}.
+     */
+    public static void replaceFile(Path file, ContentWriter contentWriter, boolean isSynced) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                contentWriter.writeTo(out);
+            }
+            if (isSynced) {
+                syncFile(tempFile);
+            }
+            moveReplacing(tempFile, file);
+            if (isSynced) {
+                syncDirectory(directory);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Syncs the content of each of {@code files} to the storage device, followed by the directories they are in,
+     * so that they survive a crash under their current names. Each directory is synced only once.
+     */
+    public static void syncFiles(Collection<Path> files) throws IOException {
+        Set<Path> directories = new LinkedHashSet<>();
+        for (Path file : files) {
+            syncFile(file);
+            directories.add(file.toAbsolutePath().getParent());
+        }
+        for (Path directory : directories) {
+            syncDirectory(directory);
+        }
+    }
+
+    /**
+     * Syncs the content of {@code file} to the storage device.
+     */
+    private static void syncFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Syncs the entries of {@code directory} to the storage device, so that files moved into it are not lost in a
+     * crash. Not all platforms allow a directory to be opened for this; there, the platform is trusted to persist
+     * the move with the file.
+     */
+    public static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // e.g. Windows, which does not open directories as files
+        }
+    }
+
+    /**
+     * Moves {@code source} to {@code target}, replacing {@code target} atomically where the file system allows.
+     */
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +12,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -22,6 +26,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -40,12 +45,14 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        writeJsonFile(jsonFile, true, generator -> generator.writeObject(objectToSerialize));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = Files.newInputStream(jsonFile)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -77,6 +84,35 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Returns the content read by {@code contentReader} from the given file, or {@code Optional.empty()} if the file
+     * is not found. The file is parsed as a stream of tokens, so it is never held in memory as a whole.
+     *
+     * @param filePath cannot be null.
+     * @param contentReader reads the content from a parser positioned before the first token of the file.
+     * @throws DataLoadingException if reading the file failed or its content violates data constraints.
+     */
+    public static <T> Optional<T> readJsonFile(Path filePath, JsonContentReader<T> contentReader)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(contentReader);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(Files.newInputStream(filePath))) {
+            return Optional.of(contentReader.readFrom(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -92,6 +128,42 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Writes the JSON content produced by {@code contentWriter} to the specified file.
+     * The content is streamed to a temporary file next to {@code filePath}, which is synced to the storage device and
+     * then replaces {@code filePath} in a single move, so the content is never held in memory as a whole and a failed
+     * write, or a crash, leaves {@code filePath} untouched.
+     * @param filePath cannot be null
+     * @param isPrettyPrinted whether the content is indented and spread over multiple lines
+     * @param contentWriter writes the content to the given generator, which serializes objects like this class does
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static void writeJsonFile(Path filePath, boolean isPrettyPrinted, JsonContentWriter contentWriter)
+            throws IOException {
+        writeJsonFile(filePath, isPrettyPrinted, true, contentWriter);
+    }
+
+    /**
+     * Similar to {@link #writeJsonFile(Path, boolean, JsonContentWriter)}, but the content is only synced to the
+     * storage device if {@code isSynced} is true.
+     *
+     * @see FileUtil#replaceFile(Path, FileUtil.ContentWriter, boolean)
+     */
+    public static void writeJsonFile(Path filePath, boolean isPrettyPrinted, boolean isSynced,
+            JsonContentWriter contentWriter) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(contentWriter);
+
+        FileUtil.replaceFile(filePath, out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                if (isPrettyPrinted) {
+                    generator.useDefaultPrettyPrinter();
+                }
+                contentWriter.writeTo(generator);
+            }
+        }, isSynced);
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +183,32 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, without line breaks.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance on a single line
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Reads JSON content from a {@link JsonParser}.
+     */
+    @FunctionalInterface
+    public interface JsonContentReader<T> {
+        T readFrom(JsonParser parser) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * Writes JSON content to a {@link JsonGenerator}.
+     */
+    @FunctionalInterface
+    public interface JsonContentWriter {
+        void writeTo(JsonGenerator generator) throws IOException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,201 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Encodes words by how they sound in English, so that words that sound alike, such as "Yeoh" and "Yeo" or
+ * "Bernice" and "Berenice", get the same key.
+ * <p>
+ * This is Lawrence Philips' original Metaphone: the consonants of the word are mapped to 16 consonant sounds,
+ * written with the letters {@code BFHJKLMNPRSTWXY} and {@code 0} for "th", and vowels are dropped unless they
+ * start the word. Unlike the original, every starting vowel is written as {@code A}, as in Double Metaphone, since
+ * names such as "Ian" and "Ean" differ most often in their first vowel.
+ */
+public class Metaphone {
+
+    private static final String VOWELS = "AEIOU";
+
+    private Metaphone() {}
+
+    /**
+     * Returns the Metaphone key of {@code word}. Case is ignored, as are characters other than the letters A to Z.
+     * Returns an empty string if the word has no letters, or none that are sounded (for example "h").
+     *   <br>examples:<pre>
+     *       encode("Yeoh") == encode("yeo") == "Y"
+     *       encode("Bernice") == encode("Berenice") == "BRNS"
+     *       encode("Stephen") == encode("Steven") == "STFN"
+     *       encode("O'Brien") == "ABRN"
+     *       </pre>
+     */
+    public static String encode(String word) {
+        requireNonNull(word);
+        String letters = toUpperCaseLetters(word);
+        if (letters.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder key = new StringBuilder(letters.length());
+        int start = 0;
+        // initial letter groups that are not sounded as written
+        if (letters.startsWith("AE") || letters.startsWith("GN") || letters.startsWith("KN")
+                || letters.startsWith("PN") || letters.startsWith("WR")) {
+            start = 1;
+        } else if (letters.charAt(0) == 'X') {
+            key.append('S');
+            start = 1;
+        } else if (letters.startsWith("WH")) {
+            key.append('W');
+            start = 2;
+        }
+
+        for (int i = start; i < letters.length(); i++) {
+            char c = letters.charAt(i);
+            // doubled letters are sounded once, except C as in "accident"
+            if (c != 'C' && i > 0 && letters.charAt(i - 1) == c) {
+                continue;
+            }
+            if (isVowel(c)) {
+                if (i == start && key.length() == 0) {
+                    key.append('A');
+                }
+                continue;
+            }
+            encodeConsonant(letters, i, key);
+        }
+        return key.toString();
+    }
+
+    /**
+     * Appends the sound of the consonant at {@code i} of {@code letters}, if it is sounded, to {@code key}.
+     */
+    private static void encodeConsonant(String letters, int i, StringBuilder key) {
+        char c = letters.charAt(i);
+        char previous = i > 0 ? letters.charAt(i - 1) : 0;
+        char next = i + 1 < letters.length() ? letters.charAt(i + 1) : 0;
+        boolean isLast = i == letters.length() - 1;
+
+        switch (c) {
+        case 'B':
+            // silent in a final "MB", as in "Lamb"
+            if (!(isLast && previous == 'M')) {
+                key.append('B');
+            }
+            break;
+        case 'C':
+            if ((next == 'I' && at(letters, i + 2, 'A')) || (next == 'H' && previous != 'S')) {
+                key.append('X');
+            } else if (next == 'I' || next == 'E' || next == 'Y') {
+                // silent in "SCI", "SCE" and "SCY", as in "Science"
+                if (previous != 'S') {
+                    key.append('S');
+                }
+            } else {
+                key.append('K');
+            }
+            break;
+        case 'D':
+            if (next == 'G' && (at(letters, i + 2, 'E') || at(letters, i + 2, 'I') || at(letters, i + 2, 'Y'))) {
+                key.append('J');
+            } else {
+                key.append('T');
+            }
+            break;
+        case 'G':
+            if (next == 'H') {
+                // hard before a vowel, as in "Ghana", and silent otherwise, as in "Hugh" and "Wright"
+                if (isVowel(at(letters, i + 2))) {
+                    key.append('K');
+                }
+            } else if (next == 'N' && (i + 2 == letters.length()
+                    || (i + 4 == letters.length() && letters.startsWith("ED", i + 2)))) {
+                // silent in a final "GN" or "GNED", as in "Sign" and "Signed"
+                break;
+            } else if (next == 'I' || next == 'E' || next == 'Y') {
+                // already sounded as part of "DGE", "DGI" or "DGY", as in "Dodge"
+                if (previous != 'D') {
+                    key.append('J');
+                }
+            } else {
+                key.append('K');
+            }
+            break;
+        case 'H':
+            // sounded only before a vowel, and not as part of "CH", "GH", "PH", "SH" or "TH"
+            if (isVowel(next) && "CGPST".indexOf(previous) < 0) {
+                key.append('H');
+            }
+            break;
+        case 'K':
+            if (previous != 'C') {
+                key.append('K');
+            }
+            break;
+        case 'P':
+            key.append(next == 'H' ? 'F' : 'P');
+            break;
+        case 'Q':
+            key.append('K');
+            break;
+        case 'S':
+            if (next == 'H' || (next == 'I' && (at(letters, i + 2, 'O') || at(letters, i + 2, 'A')))) {
+                key.append('X');
+            } else {
+                key.append('S');
+            }
+            break;
+        case 'T':
+            if (next == 'I' && (at(letters, i + 2, 'O') || at(letters, i + 2, 'A'))) {
+                key.append('X');
+            } else if (next == 'H') {
+                key.append('0');
+            } else if (!(next == 'C' && at(letters, i + 2, 'H'))) {
+                // silent in "TCH", as in "Mitchell"
+                key.append('T');
+            }
+            break;
+        case 'V':
+            key.append('F');
+            break;
+        case 'W':
+        case 'Y':
+            // sounded only before a vowel
+            if (isVowel(next)) {
+                key.append(c);
+            }
+            break;
+        case 'X':
+            key.append("KS");
+            break;
+        case 'Z':
+            key.append('S');
+            break;
+        default:
+            // F, J, L, M, N and R are sounded as written
+            key.append(c);
+            break;
+        }
+    }
+
+    private static String toUpperCaseLetters(String word) {
+        StringBuilder letters = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char c = Character.toUpperCase(word.charAt(i));
+            if (c >= 'A' && c <= 'Z') {
+                letters.append(c);
+            }
+        }
+        return letters.toString();
+    }
+
+    private static boolean isVowel(char c) {
+        return c != 0 && VOWELS.indexOf(c) >= 0;
+    }
+
+    private static char at(String letters, int i) {
+        return i < letters.length() ? letters.charAt(i) : 0;
+    }
+
+    private static boolean at(String letters, int i, char c) {
+        return at(letters, i) == c;
+    }
+}
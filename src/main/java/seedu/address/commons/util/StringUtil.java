@@ -47,6 +47,38 @@ public class StringUtil {
         t.printStackTrace(new PrintWriter(sw));
         return t.getMessage() + "\n" + sw.toString();
     }
+    /**
+     * Returns the edit (Levenshtein) distance between {@code first} and {@code second}: the fewest insertions,
+     * deletions and substitutions of one character that turn one into the other. Case is not ignored.
+     *   <br>examples:<pre>
+     *       editDistance("oliveiro", "oliveira") == 1
+     *       editDistance("yeo", "yeoh") == 1
+     *       editDistance("abc", "ABC") == 3
+     *       </pre>
+     */
+    public static int editDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        // keeps the last two rows of the table of distances between the prefixes of first and second
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            char c = first.charAt(i - 1);
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (c == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
 
     /**
      * Returns true if {@code s} represents a non-zero unsigned integer
@@ -2,6 +2,7 @@ package seedu.address.logic;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -25,6 +26,15 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Previews the results of {@code commandText} while it is being typed, if it is a {@code find} command, treating
+     * its keywords as prefixes. Neither the address book nor the filtered person list is changed.
+     * @param commandText The command as typed so far.
+     * @return the number of persons found and the first few of their names, or an empty {@code Optional} if
+     *     {@code commandText} is not previewed.
+     */
+    Optional<CommandResult> previewCommand(String commandText);
+
     /**
      * Returns the AddressBook.
      *
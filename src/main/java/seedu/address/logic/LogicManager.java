@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -11,12 +12,15 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.FindCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.BackgroundAddressBookSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -31,16 +35,29 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final BackgroundAddressBookSaver saver;
+    private long requestedModificationCount;
     private final AddressBookParser addressBookParser;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, new BackgroundAddressBookSaver(storage));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} that saves the address book through
+     * {@code saver} after each command.
+     */
+    public LogicManager(Model model, BackgroundAddressBookSaver saver) {
         this.model = model;
-        this.storage = storage;
-        addressBookParser = new AddressBookParser(model);
+        this.saver = saver;
+        addressBookParser = new AddressBookParser();
+
+        // the address book as it is now is already in storage, or is sample data that need not be saved yet
+        requestedModificationCount = model.getAddressBook().getModificationCount();
+        model.takeAddressBookChanges();
     }
 
     @Override
@@ -49,17 +66,61 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            // whatever the command changed, even if it then failed, is undone as one
+            model.commitAddressBook();
+        }
+
+        // the address book is written in the background; a failed write is reported with the next command
+        saveIfModified();
+        return withSaveFailure(commandResult);
+    }
 
+    @Override
+    public Optional<CommandResult> previewCommand(String commandText) {
+        Optional<String> arguments = addressBookParser.parseArguments(commandText, FindCommand.COMMAND_WORD);
+        if (arguments.isEmpty()) {
+            return Optional.empty();
+        }
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            return Optional.of(new FindCommandParser().parsePrefixSearch(arguments.get()).preview(model));
+        } catch (ParseException e) {
+            // the keywords typed so far, e.g. none or a lone wildcard, are not a search yet
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Requests the address book to be saved along with its changes, unless it has not been modified since it was
+     * last saved, e.g. because only commands such as {@code list} and {@code find} were executed.
+     */
+    private void saveIfModified() {
+        long modificationCount = model.getAddressBook().getModificationCount();
+        if (modificationCount == requestedModificationCount) {
+            return;
+        }
+        saver.requestSave(model.getAddressBook(), model.takeAddressBookChanges());
+        requestedModificationCount = modificationCount;
+    }
+
+    /**
+     * Returns {@code commandResult} with a warning describing the last background save that failed, if any,
+     * appended to its feedback. The command itself succeeded, so the failure does not replace its result.
+     */
+    private CommandResult withSaveFailure(CommandResult commandResult) {
+        Optional<IOException> failure = saver.takeFailure();
+        if (failure.isEmpty()) {
+            return commandResult;
         }
 
-        return commandResult;
+        IOException ioe = failure.get();
+        String warning = ioe instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+        return new CommandResult(commandResult.getFeedbackToUser() + "\n" + warning,
+                commandResult.isShowHelp(), commandResult.isExit());
     }
 
     @Override
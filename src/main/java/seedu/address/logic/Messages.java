@@ -1,5 +1,6 @@
 package seedu.address.logic;
 
+import java.util.Collection;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -19,6 +20,10 @@ public class Messages {
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
     public static final String MESSAGE_DUPLICATE_FIELDS =
             "Multiple values specified for the following single-valued field(s): ";
+    public static final String MESSAGE_AMBIGUOUS_NAME =
+            "No one is named %1$s, and several names sound like it: %2$s. Please give the full name.";
+    public static final String MESSAGE_INEXACT_NAME =
+            "No one is named %1$s. Did you mean %2$s? Please give the exact name.";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
@@ -32,6 +37,31 @@ public class Messages {
         return MESSAGE_DUPLICATE_FIELDS + String.join(" ", duplicateFields);
     }
 
+    /**
+     * Returns an error message indicating that no one is named {@code name} and that the names of
+     * {@code soundAlikes} all sound like it.
+     */
+    public static String getErrorMessageForAmbiguousName(String name, Collection<Person> soundAlikes) {
+        assert soundAlikes.size() > 1;
+        return String.format(MESSAGE_AMBIGUOUS_NAME, name, joinNames(soundAlikes));
+    }
+
+    /**
+     * Returns an error message indicating that no one is named {@code name} exactly, and that the names of
+     * {@code soundAlikes} sound like it.
+     */
+    public static String getErrorMessageForInexactName(String name, Collection<Person> soundAlikes) {
+        assert !soundAlikes.isEmpty();
+        return String.format(MESSAGE_INEXACT_NAME, name, joinNames(soundAlikes));
+    }
+
+    private static String joinNames(Collection<Person> persons) {
+        return persons.stream()
+                .map(person -> person.getName().fullName)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
     /**
      * Formats the {@code person} for display to the user.
      */
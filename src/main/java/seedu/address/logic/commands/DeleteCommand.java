@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -86,11 +87,12 @@ public class DeleteCommand extends Command {
                     Messages.format(personToDelete)));
         }
 
-        // Attribute-based behaviour: filter the currently shown list (consistent with AB3 workflow).
-        List<Person> candidates = model.getFilteredPersonList();
+        // Attribute-based behaviour: look up the candidates through the most selective index, then narrow them
+        // down to the persons that match every given detail and are in the currently shown list.
+        Collection<Person> candidates = getCandidates(model);
 
-        // Starts with a predicate that matches everyone.
-        Predicate<Person> predicate = p -> true;
+        // Starts with a predicate that matches everyone in the currently shown list.
+        Predicate<Person> predicate = model::isInFilteredPersonList;
 
         // For each provided optional, we AND another test to narrow down the set
         // Usage of equalsIgnoreCase for name/ email, but exact match for phone
@@ -125,6 +127,29 @@ public class DeleteCommand extends Command {
                 Messages.format(personToDelete)));
     }
 
+    /**
+     * Returns the smallest set of persons that could match the given details, using the
+     * name, email and phone indexes of the {@code model}.
+     */
+    private Collection<Person> getCandidates(Model model) {
+        Collection<Person> candidates = null;
+        if (name.isPresent()) {
+            candidates = model.getPersonWithName(name.get()).map(List::of).orElse(List.of());
+        }
+        if (email.isPresent()) {
+            candidates = smaller(candidates, model.getPersonsWithEmail(email.get()));
+        }
+        if (phone.isPresent()) {
+            candidates = smaller(candidates, model.getPersonsWithPhone(phone.get()));
+        }
+        assert candidates != null;
+        return candidates;
+    }
+
+    private static Collection<Person> smaller(Collection<Person> current, Collection<Person> other) {
+        return current == null || other.size() < current.size() ? other : current;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -100,22 +100,9 @@ public class EditCommand extends Command {
             throw new CommandException(e.getMessage());
         }
 
-        // Preserve existing links before editing
-        List<Person> oldLinks = model.getLinkedPersons(personToEdit);
-
-        // Remove all old links to avoid stale references
-        for (Person linked : oldLinks) {
-            model.unlink(personToEdit, linked);
-        }
-
-        // Replace the old person with the edited one
+        // The edited person keeps the id of the old one, so its links are kept as they are
         model.setPerson(personToEdit, editedPerson);
 
-        // Recreate all links using the updated person instance
-        for (Person linked : oldLinks) {
-            model.link(editedPerson, linked);
-        }
-
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
     }
@@ -145,13 +132,15 @@ public class EditCommand extends Command {
         // Tags are only applicable to Students.
         if (personToEdit instanceof Student) {
             Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(((Student) personToEdit).getTags());
-            return new Student(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedRemark, updatedTags);
+            return new Student(personToEdit.getId(), updatedName, updatedPhone, updatedEmail, updatedAddress,
+                    updatedRemark, updatedTags);
         } else {
             Optional<Set<Tag>> updatedTags = editPersonDescriptor.getTags();
             if (updatedTags.isPresent()) {
                 throw new CommandException(MESSAGE_CANNOT_EDIT_PARENT_TAGS);
             }
-            return new Parent(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedRemark);
+            return new Parent(personToEdit.getId(), updatedName, updatedPhone, updatedEmail, updatedAddress,
+                    updatedRemark);
         }
 
     }
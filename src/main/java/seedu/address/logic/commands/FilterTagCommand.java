@@ -7,7 +7,11 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import seedu.address.model.Model;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonLookupPredicate;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.UniqueTagList;
 
 /**
  * Filters and lists all students whose tags contain any of the specified keywords.
@@ -30,23 +34,20 @@ public class FilterTagCommand extends Command {
         requireNonNull(model);
 
         // Use the master registry instead of scanning current Students
-        Set<String> knownTags = model.getAddressBook().getTagList().getTags()
-                .stream()
-                .map(t -> t.tagName.trim().toLowerCase())
-                .collect(Collectors.toSet());
+        UniqueTagList tagList = model.getAddressBook().getTagList();
 
         List<String> requested = predicate.getKeywords();
 
         List<String> valid = requested.stream()
                 .map(String::trim)
                 .filter(s -> !s.isEmpty())
-                .filter(s -> knownTags.contains(s.toLowerCase()))
+                .filter(s -> isKnownTag(tagList, s))
                 .collect(Collectors.toList());
 
         List<String> missing = requested.stream()
                 .map(String::trim)
                 .filter(s -> !s.isEmpty())
-                .filter(s -> !knownTags.contains(s.toLowerCase()))
+                .filter(s -> !isKnownTag(tagList, s))
                 .collect(Collectors.toList());
 
         if (valid.isEmpty()) {
@@ -59,9 +60,12 @@ public class FilterTagCommand extends Command {
             return new CommandResult(msg);
         }
 
-        // Filter by only the valid tags
-        TagContainsKeywordsPredicate validPredicate = new TagContainsKeywordsPredicate(valid);
-        model.updateFilteredPersonList(validPredicate);
+        // Filter by only the valid tags, taking the union of their students from the tag index; students edited
+        // later are tested against the tags themselves
+        List<Tag> validTags = valid.stream().map(Tag::new).collect(Collectors.toList());
+        Set<PersonId> matches = tagList.getStudentsWithAnyTag(validTags);
+        model.updateFilteredPersonList(new PersonLookupPredicate(model.getAddressBook(), matches,
+                new TagContainsKeywordsPredicate(valid)));
 
         String base = String.format("Listed %d persons with tag(s): %s.",
                 model.getFilteredPersonList().size(), String.join(", ", valid));
@@ -77,6 +81,14 @@ public class FilterTagCommand extends Command {
         return new CommandResult(base);
     }
 
+    /**
+     * Returns true if {@code keyword} names a tag type in {@code tagList}, ignoring case.
+     * Tag names are normalised on construction, so the keyword is looked up as a {@code Tag}.
+     */
+    private static boolean isKnownTag(UniqueTagList tagList, String keyword) {
+        return Tag.isValidTagName(keyword) && tagList.contains(new Tag(keyword));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
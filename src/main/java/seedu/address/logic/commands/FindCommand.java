@@ -2,23 +2,47 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonLookupPredicate;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case-insensitive.
+ * Keyword matching is case-insensitive, keywords ending with a wildcard match the start of words, and keywords
+ * marked as sound-alikes match words that sound like them.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String FLAG_PREFIX_SEARCH = "-p";
+    public static final String FLAG_SOUND_ALIKE_SEARCH = "-s";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: NAME [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "A keyword ending with " + NameContainsKeywordsPredicate.PREFIX_WILDCARD + ", or every keyword if "
+            + FLAG_PREFIX_SEARCH + " is given, matches the words that start with it.\n"
+            + "A keyword starting with " + NameContainsKeywordsPredicate.SOUND_ALIKE_MARKER + ", or every keyword if "
+            + FLAG_SOUND_ALIKE_SEARCH + " is given, matches the words that sound like it.\n"
+            + "Parameters: [" + FLAG_PREFIX_SEARCH + " | " + FLAG_SOUND_ALIKE_SEARCH + "] NAME [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " al* bob, " + COMMAND_WORD + " " + FLAG_PREFIX_SEARCH + " al bo\n"
+            + "Example: " + COMMAND_WORD + " ~yeo bob, "
+            + COMMAND_WORD + " " + FLAG_SOUND_ALIKE_SEARCH + " yeo berenice";
+
+    public static final String MESSAGE_PREVIEW = "%1$d persons found: %2$s";
+
+    /** The number of names listed in the preview of a search. */
+    public static final int MAX_PREVIEWED_NAMES = 5;
 
     private final NameContainsKeywordsPredicate predicate;
 
@@ -29,11 +53,41 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        // persons edited later are matched against the keywords themselves
+        Set<PersonId> matches = findMatches(model);
+        model.updateFilteredPersonList(new PersonLookupPredicate(model.getAddressBook(), matches, predicate));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    /**
+     * Returns the number of persons this command would list, and the first {@link #MAX_PREVIEWED_NAMES} of their
+     * names in alphabetical order, without filtering the person list of {@code model}.
+     */
+    public CommandResult preview(Model model) {
+        requireNonNull(model);
+        Set<PersonId> matches = findMatches(model);
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        List<String> names = matches.stream()
+                .map(id -> addressBook.getPersonWithId(id).get().getName().fullName)
+                .sorted(String.CASE_INSENSITIVE_ORDER)
+                .limit(MAX_PREVIEWED_NAMES)
+                .collect(Collectors.toList());
+        String shownNames = String.join(", ", names) + (matches.size() > names.size() ? ", ..." : "");
+        return new CommandResult(String.format(MESSAGE_PREVIEW, matches.size(), shownNames));
+    }
+
+    /**
+     * Returns the ids of the persons whose names match the keywords, looked up in the name indexes of {@code model}
+     * instead of matching the keywords against every name.
+     */
+    private Set<PersonId> findMatches(Model model) {
+        Set<PersonId> matches = new HashSet<>(model.getPersonIdsWithNameKeywords(predicate.getWords()));
+        matches.addAll(model.getPersonIdsWithNamePrefixes(predicate.getPrefixes()));
+        matches.addAll(model.getPersonIdsWithNameSoundingLike(predicate.getSoundAlikeWords()));
+        return matches;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
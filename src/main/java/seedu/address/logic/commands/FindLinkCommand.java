@@ -8,9 +8,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 
 /**
@@ -44,8 +45,8 @@ public class FindLinkCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        // Resolves the target Person by name (case-insensitive)
-        Person target = findPersonByNameIgnoreCase(model, targetName)
+        // Resolves the target Person by name (case-insensitive), or else by a name that sounds like it
+        Person target = findPersonByNameOrSoundAlike(model, targetName)
                 .orElseThrow(() -> new CommandException(String.format(MESSAGE_NOT_FOUND, targetName)));
 
         // Ask the Model for linked persons (Student<->Parent)
@@ -59,13 +60,20 @@ public class FindLinkCommand extends Command {
         return new CommandResult(header);
     }
 
-    /** Find a person by name (case-insensitive) among all persons in the address book. */
-    private Optional<Person> findPersonByNameIgnoreCase(Model model, String name) {
-        ObservableList<Person> all = model.getAddressBook().getPersonList();
-        String needle = name.toLowerCase();
-        return all.stream()
-                .filter(p -> p.getName().fullName.toLowerCase().equals(needle))
-                .findFirst();
+    /**
+     * Finds the person with the given name (case-insensitive) or, if no one has that name, the only person whose
+     * name sounds like it, looked up in the name indexes of the model.
+     * @throws CommandException if no one has that name and several names sound like it
+     */
+    private Optional<Person> findPersonByNameOrSoundAlike(Model model, String name) throws CommandException {
+        if (!Name.isValidName(name)) {
+            return Optional.empty();
+        }
+        Set<Person> persons = model.getPersonsWithNameOrSoundingLike(new Name(name));
+        if (persons.size() > 1) {
+            throw new CommandException(Messages.getErrorMessageForAmbiguousName(name, persons));
+        }
+        return persons.stream().findFirst();
     }
 
     /** Builds a predicate that returns true only for members of the given list. */
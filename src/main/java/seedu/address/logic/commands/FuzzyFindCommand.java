@@ -0,0 +1,171 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonLookupPredicate;
+
+/**
+ * Finds and lists the persons whose names are closest to the argument keywords, allowing for misspellings.
+ * Keyword matching is case-insensitive.
+ */
+public class FuzzyFindCommand extends Command {
+
+    public static final String COMMAND_WORD = "fuzzyfind";
+
+    /** Number of persons listed at most. */
+    public static final int MAX_RESULTS = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the persons whose names contain words "
+            + "closest in spelling to the specified keywords (case-insensitive), allowing 1 typo in keywords of up to "
+            + "4 letters and 2 in longer ones, and displays up to " + MAX_RESULTS + " of them as a list with index "
+            + "numbers.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " charlote oliveira";
+
+    public static final String MESSAGE_SUCCESS = Messages.MESSAGE_PERSONS_LISTED_OVERVIEW + " Closest first: %2$s";
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a FuzzyFindCommand to find the persons whose names are closest to {@code keywords}.
+     */
+    public FuzzyFindCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    /**
+     * Returns the number of edits by which a name word may differ from {@code keyword} to match it.
+     */
+    static int getMaxDistance(String keyword) {
+        return keyword.length() <= 4 ? 1 : 2;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        // the candidates are the persons with a name word within a few edits of a keyword, found in a BK-tree of
+        // the name words, so that the keywords are never compared with every name
+        Map<PersonId, Candidate> candidates = new HashMap<>();
+        for (int i = 0; i < keywords.size(); i++) {
+            String keyword = keywords.get(i);
+            Map<String, Integer> similarTokens = model.getSimilarNameTokens(keyword, getMaxDistance(keyword));
+            for (Map.Entry<String, Integer> entry : similarTokens.entrySet()) {
+                for (PersonId id : model.getPersonIdsWithNameKeywords(List.of(entry.getKey()))) {
+                    candidates.computeIfAbsent(id, unused -> new Candidate(id, keywords.size()))
+                            .record(i, entry.getValue());
+                }
+            }
+        }
+
+        List<Candidate> closest = new ArrayList<>(candidates.values());
+        closest.sort(Candidate.CLOSEST_FIRST);
+        closest = closest.subList(0, Math.min(MAX_RESULTS, closest.size()));
+
+        Set<PersonId> matches = new HashSet<>();
+        List<String> names = new ArrayList<>();
+        for (Candidate candidate : closest) {
+            matches.add(candidate.id);
+            model.getAddressBook().getPersonWithId(candidate.id)
+                    .map(Person::getName)
+                    .ifPresent(name -> names.add(name.fullName));
+        }
+        // persons edited later are listed if their names are still close enough to a keyword
+        model.updateFilteredPersonList(new PersonLookupPredicate(model.getAddressBook(), matches, this::isClose));
+
+        if (matches.isEmpty()) {
+            return new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 0));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFilteredPersonList().size(),
+                names.stream().collect(Collectors.joining(", "))));
+    }
+
+    /**
+     * Returns true if a word of the name of {@code person} is within the allowed number of edits of a keyword.
+     */
+    private boolean isClose(Person person) {
+        for (String keyword : keywords) {
+            String token = Name.toSearchToken(keyword);
+            for (String word : person.getName().getSearchTokens()) {
+                if (StringUtil.editDistance(token, word) <= getMaxDistance(keyword)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyFindCommand)) {
+            return false;
+        }
+
+        FuzzyFindCommand otherFuzzyFindCommand = (FuzzyFindCommand) other;
+        return keywords.equals(otherFuzzyFindCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .toString();
+    }
+
+    /**
+     * A person found for some of the keywords, with the fewest edits between each keyword and a word of its name.
+     */
+    private static final class Candidate {
+        // more keywords matched first, then fewer edits in total, then the person added earlier
+        static final Comparator<Candidate> CLOSEST_FIRST = Comparator
+                .comparingInt((Candidate candidate) -> -candidate.matchedCount)
+                .thenComparingInt(candidate -> candidate.totalDistance)
+                .thenComparingInt(candidate -> candidate.id.value);
+
+        private final PersonId id;
+        private final int[] distances;
+        private int matchedCount;
+        private int totalDistance;
+
+        Candidate(PersonId id, int keywordCount) {
+            this.id = id;
+            this.distances = new int[keywordCount];
+            Arrays.fill(distances, -1);
+        }
+
+        void record(int keywordIndex, int distance) {
+            int previous = distances[keywordIndex];
+            if (previous == -1) {
+                matchedCount++;
+                totalDistance += distance;
+                distances[keywordIndex] = distance;
+            } else if (distance < previous) {
+                totalDistance -= previous - distance;
+                distances[keywordIndex] = distance;
+            }
+        }
+    }
+}
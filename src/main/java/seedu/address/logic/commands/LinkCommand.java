@@ -2,14 +2,18 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
+
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Student;
 
 /**
- * Links two contacts together (e.g. a student and a parent).
+ * Links a student contact to a parent contact, both given by name.
  */
 public class LinkCommand extends Command {
 
@@ -21,54 +25,34 @@ public class LinkCommand extends Command {
 
     public static final String MESSAGE_LINK_SUCCESS = "Linked %1$s ↔ %2$s";
     public static final String MESSAGE_DUPLICATE_LINK = "These contacts are already linked.";
-    public static final String MESSAGE_SAME_PERSON = "Cannot link a contact to itself.";
     public static final String MESSAGE_NOT_FOUND = "One or both contacts could not be found.";
-    public static final String MESSAGE_WRONG_INSTANCE = " must be a student or a parent contact.";
-    public static final String MESSAGE_STUDENTS_INVALID_LINK = "Cannot link two students together.";
-    public static final String MESSAGE_PARENTS_INVALID_LINK = "Cannot link two parents together.";
     public static final String MESSAGE_NOT_STUDENT = "Student contact not found or is not of type Student.";
     public static final String MESSAGE_NOT_PARENT = "Parent contact not found or is not of type Parent.";
     public static final String MESSAGE_STUDENT_LINK_LIMIT = "Each student can only be linked to up to 2 parents.";
-    private final Person personA;
-    private final Person personB;
+    private final Name studentName;
+    private final Name parentName;
 
     /**
-     * Creates a LinkCommand with both contacts resolved.
+     * Creates a LinkCommand to link the student named {@code studentName} to the parent named {@code parentName}.
      */
-    public LinkCommand(Person personA, Person personB) {
-        requireNonNull(personA);
-        requireNonNull(personB);
-        this.personA = personA;
-        this.personB = personB;
+    public LinkCommand(Name studentName, Name parentName) {
+        requireNonNull(studentName);
+        requireNonNull(parentName);
+        this.studentName = studentName;
+        this.parentName = parentName;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        //check for duplicate contact
-        if (personA.equals(personB)) {
-            throw new CommandException(MESSAGE_SAME_PERSON);
-        }
-        //check if contact is parent student class
-        if (!(personA instanceof Student) && !(personA instanceof Parent)) {
-            throw new CommandException(personA.getName() + MESSAGE_WRONG_INSTANCE);
-        }
-
-        if (!(personB instanceof Student) && !(personB instanceof Parent)) {
-            throw new CommandException(personB.getName() + MESSAGE_WRONG_INSTANCE);
+        Person student = findPersonNamed(model, studentName, MESSAGE_NOT_STUDENT);
+        if (!(student instanceof Student)) {
+            throw new CommandException(MESSAGE_NOT_STUDENT);
         }
-
-        //Prevent Student–Student and Parent–Parent links
-        if (personA instanceof Student && personB instanceof Student) {
-            throw new CommandException(MESSAGE_STUDENTS_INVALID_LINK);
-        }
-
-        if (personA instanceof Parent && personB instanceof Parent) {
-            throw new CommandException(MESSAGE_PARENTS_INVALID_LINK);
+        Person parent = findPersonNamed(model, parentName, MESSAGE_NOT_PARENT);
+        if (!(parent instanceof Parent)) {
+            throw new CommandException(MESSAGE_NOT_PARENT);
         }
-        //force Student↔Parent order (so link order doesn’t matter)
-        Person student = personA instanceof Student ? personA : personB;
-        Person parent = personA instanceof Parent ? personA : personB;
 
         boolean success = model.link(student, parent);
         if (!success) {
@@ -85,6 +69,26 @@ public class LinkCommand extends Command {
                 parent.getName().fullName));
     }
 
+    /**
+     * Returns the person named {@code name} (case-insensitive), looked up in the name indexes of {@code model}.
+     * Links are only changed between persons named exactly, so the names that merely sound like {@code name} are
+     * reported instead of being used.
+     *
+     * @throws CommandException with {@code notFoundMessage} if no name is or sounds like {@code name}, or listing the
+     *     names that sound like it if no one is named {@code name} exactly.
+     */
+    static Person findPersonNamed(Model model, Name name, String notFoundMessage) throws CommandException {
+        Set<Person> persons = model.getPersonsWithNameOrSoundingLike(name);
+        if (persons.isEmpty()) {
+            throw new CommandException(notFoundMessage);
+        }
+        Person person = persons.iterator().next();
+        if (persons.size() > 1 || !person.getName().equals(name)) {
+            throw new CommandException(Messages.getErrorMessageForInexactName(name.fullName, persons));
+        }
+        return person;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -94,8 +98,7 @@ public class LinkCommand extends Command {
             return false;
         }
         LinkCommand otherCommand = (LinkCommand) other;
-        return personA.equals(otherCommand.personA)
-                && personB.equals(otherCommand.personB);
+        return studentName.equals(otherCommand.studentName)
+                && parentName.equals(otherCommand.parentName);
     }
 }
-
@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonLookupPredicate;
+import seedu.address.model.query.QueryExpression;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.QueryPlanner;
+
+/**
+ * Finds and lists all persons in address book who match a query that combines conditions on their fields and on the
+ * persons linked to them. Given {@code explain}, shows how the query was answered instead of listing the persons.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+
+    public static final String EXPLAIN_KEYWORD = "explain";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons who match the query and displays "
+            + "them as a list with index numbers.\n"
+            + "A query is made of conditions FIELD:VALUE, where FIELD is name, email, phone, address, remark, tag or "
+            + "role, and relations parent(QUERY), child(QUERY) or linked(QUERY), combined with and, or, not and "
+            + "parentheses. A VALUE ending with " + QueryExpression.PREFIX_WILDCARD + " matches the start of the "
+            + "field, and a VALUE with spaces is written in double quotes.\n"
+            + "Parameters: [" + EXPLAIN_KEYWORD + "] QUERY\n"
+            + "Example: " + COMMAND_WORD + " role:student and tag:Math and not tag:Science and parent(phone:9*)\n"
+            + "Example: " + COMMAND_WORD + " " + EXPLAIN_KEYWORD + " name:\"alex yeo\" or email:alex@example.com";
+
+    public static final String MESSAGE_EXPLAIN = "Query plan for: %1$s\n%2$s";
+
+    private final QueryExpression expression;
+    private final boolean isExplain;
+
+    /**
+     * @param expression The query to find the persons of.
+     * @param isExplain Whether to show the plan of the query instead of listing the persons found.
+     */
+    public QueryCommand(QueryExpression expression, boolean isExplain) {
+        requireNonNull(expression);
+        this.expression = expression;
+        this.isExplain = isExplain;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        QueryPlan plan = new QueryPlanner(model).plan(expression);
+        Set<PersonId> matches = plan.execute();
+        if (isExplain) {
+            return new CommandResult(String.format(MESSAGE_EXPLAIN, expression, plan.explain()));
+        }
+
+        // persons edited later are tested against the query itself
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        model.updateFilteredPersonList(new PersonLookupPredicate(addressBook, matches,
+                person -> expression.test(person, addressBook)));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryCommand)) {
+            return false;
+        }
+
+        QueryCommand otherQueryCommand = (QueryCommand) other;
+        return expression.equals(otherQueryCommand.expression)
+                && isExplain == otherQueryCommand.isExplain;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("expression", expression)
+                .add("isExplain", isExplain)
+                .toString();
+    }
+}
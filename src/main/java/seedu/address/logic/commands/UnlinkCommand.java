@@ -1,13 +1,18 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.commands.LinkCommand.MESSAGE_NOT_PARENT;
+import static seedu.address.logic.commands.LinkCommand.MESSAGE_NOT_STUDENT;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
 
 /**
- * Removes a link between two contacts (e.g. a student and a parent).
+ * Removes the link between a student contact and a parent contact, both given by name.
  */
 public class UnlinkCommand extends Command {
 
@@ -20,28 +25,32 @@ public class UnlinkCommand extends Command {
 
     public static final String MESSAGE_UNLINK_SUCCESS = "Unlinked %1$s ↔ %2$s";
     public static final String MESSAGE_NOT_LINKED = "These contacts are not currently linked.";
-    public static final String MESSAGE_SAME_PERSON = "Cannot unlink a contact from itself.";
     public static final String MESSAGE_NOT_FOUND = "One or both contacts could not be found.";
 
-    private final Person student;
-    private final Person parent;
+    private final Name studentName;
+    private final Name parentName;
 
     /**
-     * Create an UnlinkCommand with both contacts resolved.
+     * Creates an UnlinkCommand to unlink the student named {@code studentName} from the parent named
+     * {@code parentName}.
      */
-    public UnlinkCommand(Person student, Person parent) {
-        requireNonNull(student);
-        requireNonNull(parent);
-        this.student = student;
-        this.parent = parent;
+    public UnlinkCommand(Name studentName, Name parentName) {
+        requireNonNull(studentName);
+        requireNonNull(parentName);
+        this.studentName = studentName;
+        this.parentName = parentName;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-
-        if (student.equals(parent)) {
-            throw new CommandException(MESSAGE_SAME_PERSON);
+        Person student = LinkCommand.findPersonNamed(model, studentName, MESSAGE_NOT_STUDENT);
+        if (!(student instanceof Student)) {
+            throw new CommandException(MESSAGE_NOT_STUDENT);
+        }
+        Person parent = LinkCommand.findPersonNamed(model, parentName, MESSAGE_NOT_PARENT);
+        if (!(parent instanceof Parent)) {
+            throw new CommandException(MESSAGE_NOT_PARENT);
         }
 
         boolean success = model.unlink(student, parent);
@@ -59,8 +68,8 @@ public class UnlinkCommand extends Command {
     public boolean equals(Object other) {
         return other == this
                 || (other instanceof UnlinkCommand
-                && student.equals(((UnlinkCommand) other).student)
-                && parent.equals(((UnlinkCommand) other).parent));
+                && studentName.equals(((UnlinkCommand) other).studentName)
+                && parentName.equals(((UnlinkCommand) other).parentName));
     }
 }
 
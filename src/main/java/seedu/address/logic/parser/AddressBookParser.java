@@ -3,6 +3,8 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Locale;
+import java.util.Optional;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -20,12 +22,15 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FilterTagCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindLinkCommand;
+import seedu.address.logic.commands.FuzzyFindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.LinkCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UnlinkCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.Model;
 
 /**
  * Parses user input.
@@ -37,11 +42,6 @@ public class AddressBookParser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
-    private final Model model;
-
-    public AddressBookParser(Model model) {
-        this.model = model;
-    }
 
     /**
      * Parses user input into command for execution.
@@ -56,7 +56,7 @@ public class AddressBookParser {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord").toLowerCase(); // support for case-insensitive commands
+        final String commandWord = toCommandWord(matcher);
         final String arguments = matcher.group("arguments");
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
@@ -90,9 +90,18 @@ public class AddressBookParser {
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case FuzzyFindCommand.COMMAND_WORD:
+            return new FuzzyFindCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -100,10 +109,10 @@ public class AddressBookParser {
             return new HelpCommand();
 
         case LinkCommand.COMMAND_WORD:
-            return new LinkCommandParser(model).parse(arguments);
+            return new LinkCommandParser().parse(arguments);
 
         case UnlinkCommand.COMMAND_WORD:
-            return new UnlinkCommandParser(model).parse(arguments);
+            return new UnlinkCommandParser().parse(arguments);
 
         case FindLinkCommand.COMMAND_WORD:
             return new FindLinkCommandParser().parse(arguments);
@@ -111,10 +120,30 @@ public class AddressBookParser {
         case FilterTagCommand.COMMAND_WORD:
             return new FilterTagCommandParser().parse(arguments);
 
+        case QueryCommand.COMMAND_WORD:
+            return new QueryCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
     }
 
+
+    /**
+     * Returns the arguments of {@code userInput} if its command word is {@code commandWord}, recognised as by
+     * {@link #parseCommand(String)}, or an empty {@code Optional} otherwise.
+     */
+    public Optional<String> parseArguments(String userInput, String commandWord) {
+        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+        if (!matcher.matches() || !toCommandWord(matcher).equals(commandWord)) {
+            return Optional.empty();
+        }
+        return Optional.of(matcher.group("arguments"));
+    }
+
+    private static String toCommandWord(Matcher matcher) {
+        // support for case-insensitive commands
+        return matcher.group("commandWord").toLowerCase(Locale.ROOT);
+    }
 }
@@ -2,7 +2,9 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -19,15 +21,49 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
+        return parseKeywords(args, false);
+    }
+
+    /**
+     * Parses the given {@code String} of arguments as if they were given with {@code -p}, so that every keyword
+     * matches the words that start with it. Used to show the results of {@code find} as it is typed.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindCommand parsePrefixSearch(String args) throws ParseException {
+        return parseKeywords(args, true);
+    }
+
+    private FindCommand parseKeywords(String args, boolean isPrefixSearchByDefault) throws ParseException {
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        List<String> nameKeywords = new ArrayList<>(Arrays.asList(trimmedArgs.split("\\s+")));
+        boolean isPrefixSearch = isPrefixSearchByDefault;
+        boolean isSoundAlikeSearch = false;
+        if (nameKeywords.get(0).equals(FindCommand.FLAG_PREFIX_SEARCH)) {
+            nameKeywords.remove(0);
+            isPrefixSearch = true;
+        } else if (nameKeywords.get(0).equals(FindCommand.FLAG_SOUND_ALIKE_SEARCH)) {
+            nameKeywords.remove(0);
+            isSoundAlikeSearch = true;
+        }
+        if (nameKeywords.isEmpty() || nameKeywords.contains(NameContainsKeywordsPredicate.PREFIX_WILDCARD)
+                || nameKeywords.contains(NameContainsKeywordsPredicate.SOUND_ALIKE_MARKER)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        if (isSoundAlikeSearch) {
+            nameKeywords.replaceAll(keyword -> keyword.startsWith(NameContainsKeywordsPredicate.SOUND_ALIKE_MARKER)
+                    ? keyword : NameContainsKeywordsPredicate.SOUND_ALIKE_MARKER + keyword);
+        } else if (isPrefixSearch) {
+            nameKeywords.replaceAll(keyword -> keyword.endsWith(NameContainsKeywordsPredicate.PREFIX_WILDCARD)
+                    ? keyword : keyword + NameContainsKeywordsPredicate.PREFIX_WILDCARD);
+        }
+        return new FindCommand(new NameContainsKeywordsPredicate(nameKeywords));
     }
 
 }
@@ -0,0 +1,235 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.query.QueryExpression;
+import seedu.address.model.query.QueryField;
+import seedu.address.model.query.QueryRelation;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object.
+ * <p>
+ * The query is parsed by recursive descent over this grammar, in which keywords are case-insensitive, {@code and}
+ * binds tighter than {@code or}, and {@code and} may be left out between operands:
+ * <pre>
+ *     query     := ["explain"] or
+ *     or        := and ("or" and)*
+ *     and       := unary (["and"] unary)*
+ *     unary     := "not" unary | primary
+ *     primary   := "(" or ")" | RELATION "(" or ")" | FIELD ":" VALUE
+ * </pre>
+ * A VALUE runs up to the next whitespace or parenthesis, unless it is written in double quotes.
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    public static final String MESSAGE_UNKNOWN_FIELD = "Unknown query field: %1$s. The fields are name, email, phone, "
+            + "address, remark, tag and role.";
+    public static final String MESSAGE_UNBALANCED_PARENTHESES = "The parentheses of the query are not balanced.";
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted value of the query has no closing quote.";
+
+    private static final String KEYWORD_AND = "and";
+    private static final String KEYWORD_OR = "or";
+    private static final String KEYWORD_NOT = "not";
+    private static final char FIELD_SEPARATOR = ':';
+    private static final char QUOTE = '"';
+
+    private List<Token> tokens;
+    private int position;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryCommand parse(String args) throws ParseException {
+        tokens = tokenize(args.trim());
+        position = 0;
+
+        boolean isExplain = peekWord(QueryCommand.EXPLAIN_KEYWORD);
+        if (isExplain) {
+            position++;
+        }
+        if (position == tokens.size()) {
+            throw invalidFormat();
+        }
+
+        QueryExpression expression = parseOr();
+        if (position < tokens.size()) {
+            throw tokens.get(position).kind == Token.Kind.CLOSE
+                    ? new ParseException(MESSAGE_UNBALANCED_PARENTHESES)
+                    : invalidFormat();
+        }
+        return new QueryCommand(expression, isExplain);
+    }
+
+    private QueryExpression parseOr() throws ParseException {
+        List<QueryExpression> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (peekWord(KEYWORD_OR)) {
+            position++;
+            operands.add(parseAnd());
+        }
+        return QueryExpression.or(operands);
+    }
+
+    private QueryExpression parseAnd() throws ParseException {
+        List<QueryExpression> operands = new ArrayList<>();
+        operands.add(parseUnary());
+        while (position < tokens.size() && tokens.get(position).kind != Token.Kind.CLOSE && !peekWord(KEYWORD_OR)) {
+            if (peekWord(KEYWORD_AND)) {
+                position++;
+            }
+            operands.add(parseUnary());
+        }
+        return QueryExpression.and(operands);
+    }
+
+    private QueryExpression parseUnary() throws ParseException {
+        if (peekWord(KEYWORD_NOT)) {
+            position++;
+            return QueryExpression.not(parseUnary());
+        }
+        return parsePrimary();
+    }
+
+    private QueryExpression parsePrimary() throws ParseException {
+        if (position == tokens.size()) {
+            throw invalidFormat();
+        }
+
+        Token token = tokens.get(position++);
+        switch (token.kind) {
+        case OPEN:
+            return parseParenthesized();
+        case CONDITION:
+            return parseCondition(token);
+        case WORD:
+            Optional<QueryRelation> relation = QueryRelation.fromKeyword(token.text);
+            if (relation.isPresent() && position < tokens.size() && tokens.get(position).kind == Token.Kind.OPEN) {
+                position++;
+                return QueryExpression.related(relation.get(), parseParenthesized());
+            }
+            throw invalidFormat();
+        default:
+            // an operand is missing before the closing parenthesis
+            throw invalidFormat();
+        }
+    }
+
+    /**
+     * Parses a query up to the closing parenthesis of the opening one just parsed.
+     */
+    private QueryExpression parseParenthesized() throws ParseException {
+        QueryExpression expression = parseOr();
+        if (position == tokens.size() || tokens.get(position).kind != Token.Kind.CLOSE) {
+            throw new ParseException(MESSAGE_UNBALANCED_PARENTHESES);
+        }
+        position++;
+        return expression;
+    }
+
+    private static QueryExpression parseCondition(Token token) throws ParseException {
+        QueryField field = QueryField.fromKeyword(token.text)
+                .orElseThrow(() -> new ParseException(String.format(MESSAGE_UNKNOWN_FIELD, token.text)));
+        if (!field.isValidValue(token.value)) {
+            throw new ParseException(field.getValueConstraints());
+        }
+        return QueryExpression.condition(field, token.value);
+    }
+
+    private boolean peekWord(String keyword) {
+        if (position == tokens.size()) {
+            return false;
+        }
+        Token token = tokens.get(position);
+        return token.kind == Token.Kind.WORD && token.text.equalsIgnoreCase(keyword);
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * Splits {@code query} into parentheses, bare words and {@code FIELD:VALUE} conditions.
+     * @throws ParseException if a quote does not start the value of a condition, or has no closing quote
+     */
+    private static List<Token> tokenize(String query) throws ParseException {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')') {
+                tokens.add(new Token(c == '(' ? Token.Kind.OPEN : Token.Kind.CLOSE, String.valueOf(c), null));
+                i++;
+            } else if (c == QUOTE) {
+                // only the value of a condition can be quoted
+                throw invalidFormat();
+            } else {
+                int end = endOfBareText(query, i);
+                String word = query.substring(i, end);
+                int separator = word.indexOf(FIELD_SEPARATOR);
+                if (separator < 0) {
+                    tokens.add(new Token(Token.Kind.WORD, word, null));
+                    i = end;
+                    continue;
+                }
+
+                String value = word.substring(separator + 1);
+                if (value.isEmpty() && end < query.length() && query.charAt(end) == QUOTE) {
+                    int closingQuote = query.indexOf(QUOTE, end + 1);
+                    if (closingQuote < 0) {
+                        throw new ParseException(MESSAGE_UNTERMINATED_QUOTE);
+                    }
+                    value = query.substring(end + 1, closingQuote);
+                    end = closingQuote + 1;
+                }
+                tokens.add(new Token(Token.Kind.CONDITION, word.substring(0, separator), value));
+                i = end;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the index just past the bare text starting at {@code start}, which ends at whitespace, a parenthesis
+     * or a quote.
+     */
+    private static int endOfBareText(String query, int start) {
+        int end = start;
+        while (end < query.length()) {
+            char c = query.charAt(end);
+            if (Character.isWhitespace(c) || c == '(' || c == ')' || c == QUOTE) {
+                break;
+            }
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * A token of a query. A condition keeps its field in {@code text} and its value in {@code value}.
+     */
+    private static class Token {
+        private enum Kind {
+            OPEN, CLOSE, WORD, CONDITION
+        }
+
+        private final Kind kind;
+        private final String text;
+        private final String value;
+
+        Token(Kind kind, String text, String value) {
+            this.kind = kind;
+            this.text = text;
+            this.value = value;
+        }
+    }
+}
@@ -3,15 +3,28 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonAttributeIndex;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonPrefixIndex;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Student;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.UniqueTagList;
+import seedu.address.model.util.BkTree;
 import seedu.address.model.util.RelationshipGraph;
 
 /**
@@ -23,6 +36,21 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList persons;
     private final UniqueTagList tags;
     private final RelationshipGraph relationshipGraph = new RelationshipGraph();
+    private final PersonAttributeIndex<String> emailIndex =
+            new PersonAttributeIndex<>(person -> List.of(person.getEmail().getSearchKey()));
+    private final PersonAttributeIndex<String> phoneIndex =
+            new PersonAttributeIndex<>(person -> List.of(person.getPhone().getSearchKey()));
+    private final PersonPrefixIndex nameTokenIndex =
+            new PersonPrefixIndex(person -> person.getName().getSearchTokens());
+    private final PersonAttributeIndex<String> namePhoneticIndex =
+            new PersonAttributeIndex<>(person -> person.getName().getPhoneticKeys());
+    // the words of nameTokenIndex, built when first searched and kept up to date afterwards
+    private BkTree similarNameTokens;
+    private final AddressBookChanges.Builder changes = new AddressBookChanges.Builder();
+    private long modificationCount;
+    private AddressBookHistory history;
+    // the contents of this address book, kept in persistent collections as they change
+    private AddressBookSnapshot current = AddressBookSnapshot.EMPTY;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -53,7 +81,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
+        recordInverseOfReplacement();
+        replacePersons(persons);
+        current = AddressBookSnapshot.of(this);
     }
 
     /**
@@ -62,11 +92,33 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
+        recordInverseOfReplacement();
+        replacePersons(newData.getPersonList());
         this.tags.setTags(newData.getTagList());
-        if (newData instanceof AddressBook) {
-            this.relationshipGraph.copyFrom(((AddressBook) newData).getRelationshipGraph());
+        this.relationshipGraph.copyFrom(newData.getRelationshipGraph());
+        current = AddressBookSnapshot.of(this);
+    }
+
+    private void replacePersons(List<Person> persons) {
+        this.persons.setPersons(persons);
+        emailIndex.clear();
+        phoneIndex.clear();
+        nameTokenIndex.clear();
+        namePhoneticIndex.clear();
+        similarNameTokens = null;
+        tags.clearStudents();
+        for (Person person : this.persons) {
+            indexPerson(person);
         }
+        recordReplaced();
+    }
+
+    /**
+     * Makes this {@code AddressBook} record the inverse of each of its mutations in {@code history}, so that they can
+     * be undone. Recording stops if {@code history} is null.
+     */
+    public void setHistory(AddressBookHistory history) {
+        this.history = history;
     }
 
     //// person-level operations
@@ -85,7 +137,19 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        insertPerson(getPersonList().size(), p);
+    }
+
+    /**
+     * Adds a person to the address book at position {@code index} of the person list.
+     */
+    private void insertPerson(int index, Person p) {
+        persons.add(index, p);
+        indexPerson(p);
+        current = current.withPersonAdded(index, p);
+        changes.recordPersonChanged(p.getId());
+        modificationCount++;
+        recordInverse(addressBook -> addressBook.removePerson(p));
     }
 
     /**
@@ -96,7 +160,24 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        Person stored = getStoredPerson(target);
+        int index = persons.setPerson(target, editedPerson);
+        unindexPerson(stored);
+        indexPerson(editedPerson);
+        relationshipGraph.replace(stored, editedPerson);
+        current = current.withPersonReplaced(index, stored, editedPerson);
+
+        if (!stored.getId().equals(editedPerson.getId())) {
+            // the links have moved to the new id
+            for (PersonId linkedId : relationshipGraph.getLinked(editedPerson)) {
+                changes.recordLinkRemoved(stored.getId(), linkedId);
+                changes.recordLinkAdded(editedPerson.getId(), linkedId);
+            }
+            changes.recordPersonRemoved(stored.getId());
+        }
+        changes.recordPersonChanged(editedPerson.getId());
+        modificationCount++;
+        recordInverse(addressBook -> addressBook.setPerson(editedPerson, stored));
     }
 
     /**
@@ -104,9 +185,199 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        Person stored = getStoredPerson(key);
+        int index = persons.remove(key);
         // remove any existing links involving this person
-        removeAllLinksFor(key);
-        persons.remove(key);
+        removeAllLinksFor(stored);
+        unindexPerson(stored);
+        current = current.withPersonRemoved(index, stored);
+        changes.recordPersonRemoved(stored.getId());
+        modificationCount++;
+        // undone before the links, which need the person back
+        recordInverse(addressBook -> addressBook.insertPerson(index, stored));
+    }
+
+    /**
+     * Returns the person with the given {@code name} (case-insensitive), if any.
+     */
+    public Optional<Person> getPersonWithName(Name name) {
+        requireNonNull(name);
+        return persons.get(name);
+    }
+
+    /**
+     * Returns the persons whose email is equal to {@code email} (case-insensitive).
+     */
+    public Set<Person> getPersonsWithEmail(Email email) {
+        requireNonNull(email);
+        return getPersonsWithIds(emailIndex.get(email.getSearchKey()));
+    }
+
+    /**
+     * Returns the persons whose phone number has the same digits as {@code phone}.
+     * Callers that need an exact match should compare the returned persons' phone numbers.
+     */
+    public Set<Person> getPersonsWithPhone(Phone phone) {
+        requireNonNull(phone);
+        return getPersonsWithIds(phoneIndex.get(phone.getSearchKey()));
+    }
+
+    /**
+     * Returns the ids of the persons whose name contains any of {@code keywords} as a word (case-insensitive).
+     * The ids are the union of the postings of the keywords in the name index, so no person is scanned.
+     */
+    public Set<PersonId> getPersonIdsWithNameKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<PersonId> result = new HashSet<>();
+        for (String keyword : keywords) {
+            result.addAll(nameTokenIndex.get(Name.toSearchToken(keyword)));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the ids of the persons whose name contains a word that starts with any of {@code prefixes}
+     * (case-insensitive), found in the name index in time proportional to the prefixes and the matches.
+     */
+    public Set<PersonId> getPersonIdsWithNamePrefixes(Collection<String> prefixes) {
+        requireNonNull(prefixes);
+        Set<PersonId> result = new HashSet<>();
+        for (String prefix : prefixes) {
+            result.addAll(nameTokenIndex.getWithPrefix(Name.toSearchToken(prefix)));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the words of the names in the address book that are within {@code maxDistance} edits of
+     * {@code keyword} (case-insensitive), each with its edit distance to the keyword.
+     * The words are found in a BK-tree, which is built from the name index when first searched.
+     */
+    public Map<String, Integer> getSimilarNameTokens(String keyword, int maxDistance) {
+        requireNonNull(keyword);
+        if (similarNameTokens == null) {
+            similarNameTokens = new BkTree();
+            nameTokenIndex.keys().forEach(similarNameTokens::add);
+        }
+        return similarNameTokens.search(Name.toSearchToken(keyword), maxDistance);
+    }
+
+    /**
+     * Returns the ids of the persons whose name contains a word that sounds like any of {@code keywords}, that is,
+     * a word with the same {@link Name#toPhoneticKey phonetic key}. The ids are the union of the postings of the
+     * keys in the phonetic index, so no person is scanned.
+     */
+    public Set<PersonId> getPersonIdsWithNameSoundingLike(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<PersonId> result = new HashSet<>();
+        for (String keyword : keywords) {
+            String key = Name.toPhoneticKey(keyword);
+            if (!key.isEmpty()) {
+                result.addAll(namePhoneticIndex.get(key));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the persons whose whole name sounds like {@code name}: their names have the same phonetic keys, in
+     * the same order. Only the persons indexed under the least common key of {@code name} are compared.
+     */
+    public Set<Person> getPersonsWithNameSoundingLike(Name name) {
+        requireNonNull(name);
+        List<String> keys = name.getPhoneticKeys();
+        Set<PersonId> rarest = null;
+        for (String key : keys) {
+            Set<PersonId> posting = namePhoneticIndex.get(key);
+            if (rarest == null || posting.size() < rarest.size()) {
+                rarest = posting;
+            }
+        }
+        if (rarest == null) {
+            return new HashSet<>();
+        }
+        Set<Person> result = new HashSet<>();
+        for (PersonId id : rarest) {
+            persons.get(id).filter(person -> person.getName().getPhoneticKeys().equals(keys)).ifPresent(result::add);
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<Person> getPersonWithId(PersonId id) {
+        requireNonNull(id);
+        return persons.get(id);
+    }
+
+    /**
+     * Returns the instance stored in the person list that is equal to {@code person},
+     * or {@code person} itself if the list does not hold one.
+     * The stored instance carries the id that links and indexes refer to.
+     */
+    private Person getStoredPerson(Person person) {
+        return persons.get(person.getName()).filter(person::equals).orElse(person);
+    }
+
+    /**
+     * Returns the persons in the address book with the given {@code ids}.
+     */
+    private Set<Person> getPersonsWithIds(Collection<PersonId> ids) {
+        Set<Person> result = new HashSet<>();
+        for (PersonId id : ids) {
+            persons.get(id).ifPresent(result::add);
+        }
+        return result;
+    }
+
+    private void recordReplaced() {
+        changes.recordReplaced();
+        modificationCount++;
+    }
+
+    private void recordInverse(Consumer<AddressBook> inverse) {
+        if (history != null) {
+            history.record(inverse);
+        }
+    }
+
+    /**
+     * Records the inverse of replacing the whole address book, which is to restore a snapshot of it as it is now.
+     */
+    private void recordInverseOfReplacement() {
+        if (history != null) {
+            AddressBookSnapshot replaced = snapshot();
+            history.record(addressBook -> addressBook.resetData(replaced));
+        }
+    }
+
+    private void indexPerson(Person person) {
+        emailIndex.add(person);
+        phoneIndex.add(person);
+        if (similarNameTokens != null) {
+            for (String token : person.getName().getSearchTokens()) {
+                if (nameTokenIndex.get(token).isEmpty()) {
+                    similarNameTokens.add(token);
+                }
+            }
+        }
+        nameTokenIndex.add(person);
+        namePhoneticIndex.add(person);
+        tags.indexStudent(person);
+    }
+
+    private void unindexPerson(Person person) {
+        emailIndex.remove(person);
+        phoneIndex.remove(person);
+        nameTokenIndex.remove(person);
+        namePhoneticIndex.remove(person);
+        if (similarNameTokens != null) {
+            for (String token : person.getName().getSearchTokens()) {
+                if (nameTokenIndex.get(token).isEmpty()) {
+                    similarNameTokens.remove(token);
+                }
+            }
+        }
+        tags.unindexStudent(person);
     }
 
     //// util methods
@@ -141,16 +412,41 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     @Override
     public void addTagTypes(Set<Tag> tags) {
-        this.tags.addTagTypes(tags);
+        Set<Tag> alreadyPresent = this.tags.addTagTypes(tags);
+        Set<Tag> added = new HashSet<>();
+        for (Tag tag : tags) {
+            if (!alreadyPresent.contains(tag)) {
+                changes.recordTagAdded(tag);
+                modificationCount++;
+                added.add(tag);
+            }
+        }
+        if (!added.isEmpty()) {
+            current = current.withTagTypesAdded(added);
+            recordInverse(addressBook -> addressBook.deleteTagTypes(added));
+        }
     }
 
     @Override
     public void deleteTagTypes(Set<Tag> tags) {
-        this.tags.deleteTagTypes(tags);
-        for (Person person : persons) {
-            person.removeTags(tags);
+        Set<Tag> deleted = new HashSet<>();
+        for (Tag tag : tags) {
+            if (this.tags.contains(tag)) {
+                changes.recordTagRemoved(tag);
+                modificationCount++;
+                deleted.add(tag);
+            }
+        }
+        // only the students carrying a deleted tag need to be touched
+        for (PersonId id : this.tags.deleteTagTypes(tags)) {
+            Student student = (Student) persons.get(id).orElseThrow();
+            setPerson(student, student.withoutTags(tags));
+        }
+        // undone before the students, which can only carry the tags once they are back
+        if (!deleted.isEmpty()) {
+            current = current.withTagTypesDeleted(deleted);
+            recordInverse(addressBook -> addressBook.addTagTypes(deleted));
         }
-
     }
 
     @Override
@@ -158,6 +454,33 @@ public class AddressBook implements ReadOnlyAddressBook {
         return tags.getTags();
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns a snapshot of this address book as it is now, in O(1) time.
+     */
+    @Override
+    public AddressBookSnapshot snapshot() {
+        current = current.withModificationCount(modificationCount);
+        return current;
+    }
+
+    /**
+     * Returns the persons, links and tag types that were touched since the previous call, or since this
+     * {@code AddressBook} was created, and starts recording afresh.
+     */
+    public AddressBookChanges takeChanges() {
+        if (changes.isEmpty()) {
+            return AddressBookChanges.NONE;
+        }
+        AddressBookChanges taken = changes.build();
+        changes.clear();
+        return taken;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -178,6 +501,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.hashCode();
     }
 
+    @Override
     public RelationshipGraph getRelationshipGraph() {
         return relationshipGraph;
     }
@@ -187,7 +511,14 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Returns true if successful, false if link already exists.
      */
     public boolean linkPersons(Person a, Person b) {
-        return relationshipGraph.addLink(a, b);
+        if (!relationshipGraph.addLink(a, b)) {
+            return false;
+        }
+        changes.recordLinkAdded(a.getId(), b.getId());
+        current = current.withLink(a.getId(), b.getId());
+        modificationCount++;
+        recordInverse(addressBook -> addressBook.unlinkPersons(a, b));
+        return true;
     }
 
     /**
@@ -195,41 +526,66 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Returns true if successful, false if no such link exists.
      */
     public boolean unlinkPersons(Person a, Person b) {
-        return relationshipGraph.removeLink(a, b);
+        if (!relationshipGraph.removeLink(a, b)) {
+            return false;
+        }
+        changes.recordLinkRemoved(a.getId(), b.getId());
+        current = current.withoutLink(a.getId(), b.getId());
+        modificationCount++;
+        recordInverse(addressBook -> addressBook.linkPersons(a, b));
+        return true;
     }
 
     /**
      * Returns all persons linked to the given person.
      */
     public List<Person> getLinkedPersons(Person person) {
-        return new ArrayList<>(relationshipGraph.getLinked(person));
+        List<Person> linked = new ArrayList<>();
+        for (PersonId id : relationshipGraph.getLinked(person)) {
+            persons.get(id).ifPresent(linked::add);
+        }
+        return linked;
     }
 
     /**
      * Removes all relationships involving this person (called during delete).
      */
     public void removeAllLinksFor(Person person) {
+        Set<PersonId> linkedIds = relationshipGraph.getLinked(person);
+        if (linkedIds.isEmpty()) {
+            return;
+        }
         relationshipGraph.removeAll(person);
+        PersonId personId = person.getId();
+        for (PersonId linkedId : linkedIds) {
+            changes.recordLinkRemoved(personId, linkedId);
+            current = current.withoutLink(personId, linkedId);
+            recordInverse(addressBook -> addressBook.linkPersonsWithIds(personId, linkedId));
+        }
+        modificationCount++;
+    }
+
+    private void linkPersonsWithIds(PersonId a, PersonId b) {
+        linkPersons(persons.get(a).orElseThrow(), persons.get(b).orElseThrow());
     }
 
     /**
-     * Returns the first {@code Person} in the address book whose name matches the given {@code name},
+     * Returns the {@code Person} in the address book whose name matches the given {@code name},
      * ignoring case sensitivity.
      * <p>
-     * This method performs a linear search over the list of persons stored in the address book.
-     * If multiple persons share the same name, the first match encountered will be returned.
+     * This method looks the name up in the name index of the person list, so it does not scan the address book.
+     * Names are unique within the address book, so there is at most one match.
      * If no match is found, {@code null} is returned.
      *
      * @param name The name of the person to find. Must not be {@code null}.
      * @return The matching {@code Person} object if found; otherwise {@code null}.
      */
     public Person findPersonByName(String name) {
-        for (Person p : persons) {
-            if (p.getName().fullName.equalsIgnoreCase(name)) {
-                return p;
-            }
+        requireNonNull(name);
+        if (!Name.isValidName(name)) {
+            return null;
         }
-        return null;
+        return persons.get(new Name(name)).orElse(null);
     }
 
 }
@@ -0,0 +1,297 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import javafx.util.Pair;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The persons, links and tag types of an address book that were touched since a given point, e.g. since it was
+ * last saved. Storages can use it to write only what changed instead of the whole address book.
+ * <p>
+ * Persons are identified by id; their current state is the one in the address book. Links are pairs of ids with
+ * the smaller id first, as in {@link seedu.address.model.util.RelationshipGraph#getAllLinksAsPairs()}. A change that
+ * is undone later, such as a link that is added and then removed again, is not recorded.
+ * If the whole address book was replaced, no other changes are recorded and {@link #isReplaced()} is true.
+ * Guarantees: immutable
+ */
+public class AddressBookChanges {
+
+    /** No changes at all. */
+    public static final AddressBookChanges NONE = new Builder().build();
+
+    /** The whole address book was replaced. */
+    public static final AddressBookChanges ALL = new Builder().recordReplaced().build();
+
+    private final boolean isReplaced;
+    private final Set<PersonId> changedPersonIds;
+    private final Set<PersonId> removedPersonIds;
+    private final Set<Pair<PersonId, PersonId>> addedLinks;
+    private final Set<Pair<PersonId, PersonId>> removedLinks;
+    private final Set<Tag> addedTags;
+    private final Set<Tag> removedTags;
+
+    private AddressBookChanges(Builder builder) {
+        isReplaced = builder.isReplaced;
+        changedPersonIds = Collections.unmodifiableSet(new HashSet<>(builder.changedPersonIds));
+        removedPersonIds = Collections.unmodifiableSet(new HashSet<>(builder.removedPersonIds));
+        addedLinks = Collections.unmodifiableSet(new HashSet<>(builder.addedLinks));
+        removedLinks = Collections.unmodifiableSet(new HashSet<>(builder.removedLinks));
+        addedTags = Collections.unmodifiableSet(new HashSet<>(builder.addedTags));
+        removedTags = Collections.unmodifiableSet(new HashSet<>(builder.removedTags));
+    }
+
+    /**
+     * Returns true if the whole address book was replaced, so that every part of it has to be considered changed.
+     */
+    public boolean isReplaced() {
+        return isReplaced;
+    }
+
+    /**
+     * Returns true if nothing was changed.
+     */
+    public boolean isEmpty() {
+        return !isReplaced && changedPersonIds.isEmpty() && removedPersonIds.isEmpty() && addedLinks.isEmpty()
+                && removedLinks.isEmpty() && addedTags.isEmpty() && removedTags.isEmpty();
+    }
+
+    /** Returns the ids of the persons that were added or edited. */
+    public Set<PersonId> getChangedPersonIds() {
+        return changedPersonIds;
+    }
+
+    /** Returns the ids of the persons that were removed. */
+    public Set<PersonId> getRemovedPersonIds() {
+        return removedPersonIds;
+    }
+
+    /** Returns the links that were added. */
+    public Set<Pair<PersonId, PersonId>> getAddedLinks() {
+        return addedLinks;
+    }
+
+    /** Returns the links that were removed. */
+    public Set<Pair<PersonId, PersonId>> getRemovedLinks() {
+        return removedLinks;
+    }
+
+    /** Returns the tag types that were added. */
+    public Set<Tag> getAddedTags() {
+        return addedTags;
+    }
+
+    /** Returns the tag types that were removed. */
+    public Set<Tag> getRemovedTags() {
+        return removedTags;
+    }
+
+    /**
+     * Returns the changes of this followed by the changes of {@code later}.
+     */
+    public AddressBookChanges merge(AddressBookChanges later) {
+        requireNonNull(later);
+        if (later.isEmpty()) {
+            return this;
+        }
+        if (isEmpty() || later.isReplaced) {
+            return later;
+        }
+        return new Builder(this).recordAll(later).build();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookChanges)) {
+            return false;
+        }
+
+        AddressBookChanges otherChanges = (AddressBookChanges) other;
+        return isReplaced == otherChanges.isReplaced
+                && changedPersonIds.equals(otherChanges.changedPersonIds)
+                && removedPersonIds.equals(otherChanges.removedPersonIds)
+                && addedLinks.equals(otherChanges.addedLinks)
+                && removedLinks.equals(otherChanges.removedLinks)
+                && addedTags.equals(otherChanges.addedTags)
+                && removedTags.equals(otherChanges.removedTags);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isReplaced, changedPersonIds, removedPersonIds, addedLinks, removedLinks, addedTags,
+                removedTags);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("isReplaced", isReplaced)
+                .add("changedPersonIds", changedPersonIds)
+                .add("removedPersonIds", removedPersonIds)
+                .add("addedLinks", addedLinks)
+                .add("removedLinks", removedLinks)
+                .add("addedTags", addedTags)
+                .add("removedTags", removedTags)
+                .toString();
+    }
+
+    /**
+     * Records changes one at a time, cancelling out changes that undo earlier ones.
+     */
+    public static class Builder {
+
+        private boolean isReplaced;
+        private final Set<PersonId> changedPersonIds = new HashSet<>();
+        private final Set<PersonId> removedPersonIds = new HashSet<>();
+        private final Set<Pair<PersonId, PersonId>> addedLinks = new HashSet<>();
+        private final Set<Pair<PersonId, PersonId>> removedLinks = new HashSet<>();
+        private final Set<Tag> addedTags = new HashSet<>();
+        private final Set<Tag> removedTags = new HashSet<>();
+
+        public Builder() {}
+
+        /**
+         * Creates a {@code Builder} that starts with the changes in {@code changes}.
+         */
+        public Builder(AddressBookChanges changes) {
+            recordAll(changes);
+        }
+
+        /**
+         * Records that the whole address book was replaced, which supersedes all other changes.
+         */
+        public Builder recordReplaced() {
+            clear();
+            isReplaced = true;
+            return this;
+        }
+
+        /**
+         * Records that the person with {@code id} was added or edited.
+         */
+        public Builder recordPersonChanged(PersonId id) {
+            requireNonNull(id);
+            if (!isReplaced) {
+                changedPersonIds.add(id);
+                removedPersonIds.remove(id);
+            }
+            return this;
+        }
+
+        /**
+         * Records that the person with {@code id} was removed.
+         */
+        public Builder recordPersonRemoved(PersonId id) {
+            requireNonNull(id);
+            if (!isReplaced) {
+                changedPersonIds.remove(id);
+                removedPersonIds.add(id);
+            }
+            return this;
+        }
+
+        /**
+         * Records that the persons with ids {@code a} and {@code b} were linked.
+         */
+        public Builder recordLinkAdded(PersonId a, PersonId b) {
+            Pair<PersonId, PersonId> link = toLink(a, b);
+            if (!isReplaced && !removedLinks.remove(link)) {
+                addedLinks.add(link);
+            }
+            return this;
+        }
+
+        /**
+         * Records that the persons with ids {@code a} and {@code b} were unlinked.
+         */
+        public Builder recordLinkRemoved(PersonId a, PersonId b) {
+            Pair<PersonId, PersonId> link = toLink(a, b);
+            if (!isReplaced && !addedLinks.remove(link)) {
+                removedLinks.add(link);
+            }
+            return this;
+        }
+
+        /**
+         * Records that the tag type {@code tag} was added.
+         */
+        public Builder recordTagAdded(Tag tag) {
+            requireNonNull(tag);
+            if (!isReplaced && !removedTags.remove(tag)) {
+                addedTags.add(tag);
+            }
+            return this;
+        }
+
+        /**
+         * Records that the tag type {@code tag} was removed.
+         */
+        public Builder recordTagRemoved(Tag tag) {
+            requireNonNull(tag);
+            if (!isReplaced && !addedTags.remove(tag)) {
+                removedTags.add(tag);
+            }
+            return this;
+        }
+
+        /**
+         * Records all of {@code changes} after the changes recorded so far.
+         */
+        public Builder recordAll(AddressBookChanges changes) {
+            requireNonNull(changes);
+            if (changes.isReplaced) {
+                return recordReplaced();
+            }
+            changes.changedPersonIds.forEach(this::recordPersonChanged);
+            changes.removedPersonIds.forEach(this::recordPersonRemoved);
+            changes.addedLinks.forEach(link -> recordLinkAdded(link.getKey(), link.getValue()));
+            changes.removedLinks.forEach(link -> recordLinkRemoved(link.getKey(), link.getValue()));
+            changes.addedTags.forEach(this::recordTagAdded);
+            changes.removedTags.forEach(this::recordTagRemoved);
+            return this;
+        }
+
+        /**
+         * Returns true if no changes have been recorded.
+         */
+        public boolean isEmpty() {
+            return !isReplaced && changedPersonIds.isEmpty() && removedPersonIds.isEmpty() && addedLinks.isEmpty()
+                    && removedLinks.isEmpty() && addedTags.isEmpty() && removedTags.isEmpty();
+        }
+
+        /**
+         * Forgets all changes recorded so far.
+         */
+        public void clear() {
+            isReplaced = false;
+            changedPersonIds.clear();
+            removedPersonIds.clear();
+            addedLinks.clear();
+            removedLinks.clear();
+            addedTags.clear();
+            removedTags.clear();
+        }
+
+        public AddressBookChanges build() {
+            return new AddressBookChanges(this);
+        }
+
+        private static Pair<PersonId, PersonId> toLink(PersonId a, PersonId b) {
+            requireNonNull(a);
+            requireNonNull(b);
+            return a.value < b.value ? new Pair<>(a, b) : new Pair<>(b, a);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The edits made to an {@link AddressBook}, so that they can be undone and redone.
+ * <p>
+ * An edit is not a copy of the address book but the list of inverse operations of the mutations it consists of,
+ * e.g. removing a person for each person that was added, recorded by the address book as it is mutated. An edit
+ * thus takes memory in proportion to how much it changed. Undoing an edit applies its inverse operations in reverse
+ * order, through the same mutations, so undoing records the inverse of the edit, which is kept as the edit that
+ * redoes it.
+ * <p>
+ * At most {@code capacity} edits are kept for undoing; older ones are forgotten.
+ */
+public class AddressBookHistory {
+
+    /** Number of edits that can be undone by default. */
+    public static final int DEFAULT_CAPACITY = 100;
+
+    private final int capacity;
+    private final Deque<List<Consumer<AddressBook>>> undoEdits = new ArrayDeque<>();
+    private final Deque<List<Consumer<AddressBook>>> redoEdits = new ArrayDeque<>();
+    private List<Consumer<AddressBook>> currentEdit = new ArrayList<>();
+
+    /**
+     * Creates an {@code AddressBookHistory} that keeps the default number of edits.
+     */
+    public AddressBookHistory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an {@code AddressBookHistory} that keeps the last {@code capacity} edits.
+     */
+    public AddressBookHistory(int capacity) {
+        checkArgument(capacity > 0, "History capacity should be positive.");
+        this.capacity = capacity;
+    }
+
+    /**
+     * Records {@code inverse} as the operation that undoes the latest mutation of the current edit.
+     */
+    void record(Consumer<AddressBook> inverse) {
+        requireNonNull(inverse);
+        currentEdit.add(inverse);
+    }
+
+    /**
+     * Ends the current edit, which can then be undone, and forgets the edits that could be redone.
+     * Returns false, changing nothing, if the current edit is empty.
+     */
+    public boolean commit() {
+        if (currentEdit.isEmpty()) {
+            return false;
+        }
+        push(undoEdits, currentEdit);
+        currentEdit = new ArrayList<>();
+        redoEdits.clear();
+        return true;
+    }
+
+    public boolean canUndo() {
+        return !undoEdits.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoEdits.isEmpty();
+    }
+
+    /**
+     * Undoes the last committed edit of {@code addressBook}.
+     * Uncommitted mutations are committed first, so that they are what is undone.
+     */
+    public void undo(AddressBook addressBook) {
+        commit();
+        if (!canUndo()) {
+            throw new IllegalStateException("There is no edit to undo.");
+        }
+        push(redoEdits, apply(undoEdits.pop(), addressBook));
+    }
+
+    /**
+     * Redoes the last undone edit of {@code addressBook}.
+     */
+    public void redo(AddressBook addressBook) {
+        if (!canRedo()) {
+            throw new IllegalStateException("There is no edit to redo.");
+        }
+        push(undoEdits, apply(redoEdits.pop(), addressBook));
+    }
+
+    /**
+     * Applies the inverse operations of {@code edit} to {@code addressBook} in reverse order, and returns the edit
+     * recorded meanwhile, which is the inverse of {@code edit}.
+     */
+    private List<Consumer<AddressBook>> apply(List<Consumer<AddressBook>> edit, AddressBook addressBook) {
+        assert currentEdit.isEmpty();
+        for (int i = edit.size() - 1; i >= 0; i--) {
+            edit.get(i).accept(addressBook);
+        }
+        List<Consumer<AddressBook>> inverse = currentEdit;
+        currentEdit = new ArrayList<>();
+        return inverse;
+    }
+
+    private void push(Deque<List<Consumer<AddressBook>>> edits, List<Consumer<AddressBook>> edit) {
+        edits.push(edit);
+        if (edits.size() > capacity) {
+            edits.removeLast();
+        }
+    }
+
+}
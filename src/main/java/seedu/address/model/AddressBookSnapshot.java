@@ -0,0 +1,342 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Student;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.UniqueTagList;
+import seedu.address.model.tag.exceptions.TagNotFoundException;
+import seedu.address.model.util.PersistentHashMap;
+import seedu.address.model.util.PersistentList;
+import seedu.address.model.util.RelationshipGraph;
+
+/**
+ * An unmodifiable address book, as an {@link AddressBook} was at one point in time.
+ * <p>
+ * The persons, tag types and links are kept in persistent collections, which share structure with the collections
+ * they were derived from. An {@code AddressBook} derives a new snapshot from its last one with each mutation, in
+ * O(log n) time, so {@link AddressBook#snapshot()} takes O(1) time and never copies the address book.
+ * A snapshot never changes, so it can be read from any thread while its address book is being modified.
+ * <p>
+ * The tag list and the relationship graph are built from the persistent collections when first asked for.
+ * Snapshots whose links are the same share one relationship graph.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    static final AddressBookSnapshot EMPTY = new AddressBookSnapshot(PersistentList.empty(),
+            PersistentHashMap.empty(), PersistentHashMap.empty(), Links.EMPTY, 0);
+
+    private static final String MESSAGE_UNMODIFIABLE = "An address book snapshot cannot be modified.";
+
+    private final PersistentList<Person> persons;
+    private final PersistentHashMap<PersonId, Person> personsById;
+    private final PersistentHashMap<Tag, Boolean> tags;
+    private final Links links;
+    private final long modificationCount;
+
+    // built when first asked for; guarded by this
+    private UniqueTagList tagList;
+
+    private AddressBookSnapshot(PersistentList<Person> persons, PersistentHashMap<PersonId, Person> personsById,
+            PersistentHashMap<Tag, Boolean> tags, Links links, long modificationCount) {
+        this.persons = persons;
+        this.personsById = personsById;
+        this.tags = tags;
+        this.links = links;
+        this.modificationCount = modificationCount;
+    }
+
+    /**
+     * Returns a snapshot of the current contents of {@code source}, built in O(n log n) time.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        PersistentHashMap<PersonId, Person> personsById = PersistentHashMap.empty();
+        for (Person person : source.getPersonList()) {
+            personsById = personsById.plus(person.getId(), person);
+        }
+        PersistentHashMap<Tag, Boolean> tags = PersistentHashMap.empty();
+        for (Tag tag : source.getTags()) {
+            tags = tags.plus(tag, true);
+        }
+        Links[] links = {Links.EMPTY};
+        source.forEachLink((a, b) -> links[0] = links[0].with(a, b));
+        return new AddressBookSnapshot(PersistentList.of(source.getPersonList()), personsById, tags, links[0],
+                source.getModificationCount());
+    }
+
+    //// derived snapshots, used by AddressBook to keep its snapshot up to date
+
+    AddressBookSnapshot withModificationCount(long newModificationCount) {
+        return newModificationCount == modificationCount ? this
+                : new AddressBookSnapshot(persons, personsById, tags, links, newModificationCount);
+    }
+
+    AddressBookSnapshot withPersonAdded(int index, Person person) {
+        return new AddressBookSnapshot(persons.plus(index, person), personsById.plus(person.getId(), person), tags,
+                links, modificationCount);
+    }
+
+    /**
+     * Returns a snapshot with {@code editedPerson} in place of {@code target}, which is at position {@code index}.
+     * The links of {@code target} move to {@code editedPerson} if it has a different id.
+     */
+    AddressBookSnapshot withPersonReplaced(int index, Person target, Person editedPerson) {
+        PersistentHashMap<PersonId, Person> newPersonsById = personsById;
+        Links newLinks = links;
+        if (!target.getId().equals(editedPerson.getId())) {
+            newPersonsById = newPersonsById.minus(target.getId());
+            newLinks = links.withIdReplaced(target.getId(), editedPerson.getId());
+        }
+        return new AddressBookSnapshot(persons.with(index, editedPerson),
+                newPersonsById.plus(editedPerson.getId(), editedPerson), tags, newLinks, modificationCount);
+    }
+
+    /**
+     * Returns a snapshot without {@code person}, which is at position {@code index} and has no links.
+     */
+    AddressBookSnapshot withPersonRemoved(int index, Person person) {
+        return new AddressBookSnapshot(persons.minus(index), personsById.minus(person.getId()), tags, links,
+                modificationCount);
+    }
+
+    AddressBookSnapshot withLink(PersonId a, PersonId b) {
+        return new AddressBookSnapshot(persons, personsById, tags, links.with(a, b), modificationCount);
+    }
+
+    AddressBookSnapshot withoutLink(PersonId a, PersonId b) {
+        return new AddressBookSnapshot(persons, personsById, tags, links.without(a, b), modificationCount);
+    }
+
+    AddressBookSnapshot withTagTypesAdded(Collection<Tag> added) {
+        PersistentHashMap<Tag, Boolean> newTags = tags;
+        for (Tag tag : added) {
+            newTags = newTags.plus(tag, true);
+        }
+        return new AddressBookSnapshot(persons, personsById, newTags, links, modificationCount);
+    }
+
+    AddressBookSnapshot withTagTypesDeleted(Collection<Tag> deleted) {
+        PersistentHashMap<Tag, Boolean> newTags = tags;
+        for (Tag tag : deleted) {
+            newTags = newTags.minus(tag);
+        }
+        return new AddressBookSnapshot(persons, personsById, newTags, links, modificationCount);
+    }
+
+    //// read operations
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+    }
+
+    @Override
+    public Optional<Person> getPersonWithId(PersonId id) {
+        requireNonNull(id);
+        return Optional.ofNullable(personsById.get(id));
+    }
+
+    /**
+     * Returns a tag list built from this snapshot. It must not be modified.
+     */
+    @Override
+    public synchronized UniqueTagList getTagList() {
+        if (tagList == null) {
+            tagList = new UniqueTagList();
+            tagList.addTagTypes(getTags());
+            persons.forEach(tagList::indexStudent);
+        }
+        return tagList;
+    }
+
+    @Override
+    public boolean personHasValidTags(Person person) throws TagNotFoundException {
+        requireNonNull(person);
+        if (!(person instanceof Student student)) {
+            return false;
+        }
+        for (Tag tag : student.getTags()) {
+            if (!tags.containsKey(tag)) {
+                throw new TagNotFoundException(tag);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean hasTag(Tag tag) {
+        requireNonNull(tag);
+        return tags.containsKey(tag);
+    }
+
+    @Override
+    public Set<Tag> getTags() {
+        Set<Tag> tagSet = new HashSet<>();
+        tags.forEach((tag, unused) -> tagSet.add(tag));
+        return Collections.unmodifiableSet(tagSet);
+    }
+
+    @Override
+    public void addTagTypes(Set<Tag> tags) {
+        throw new UnsupportedOperationException(MESSAGE_UNMODIFIABLE);
+    }
+
+    @Override
+    public void deleteTagTypes(Set<Tag> tags) {
+        throw new UnsupportedOperationException(MESSAGE_UNMODIFIABLE);
+    }
+
+    /**
+     * Returns the links between the persons of this snapshot, as a graph built in O(L) time when first asked for.
+     * The graph must not be modified. Use {@link #forEachLink(BiConsumer)} to go through the links instead.
+     */
+    @Override
+    public RelationshipGraph getRelationshipGraph() {
+        return links.toGraph(personsById);
+    }
+
+    @Override
+    public void forEachLink(BiConsumer<PersonId, PersonId> action) {
+        requireNonNull(action);
+        links.forEach(action);
+    }
+
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    public AddressBookSnapshot snapshot() {
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return persons.equals(otherSnapshot.persons);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .toString();
+    }
+
+    /**
+     * The links of a snapshot, as the ids linked to each linked person.
+     */
+    private static final class Links {
+        static final Links EMPTY = new Links(PersistentHashMap.empty());
+
+        private final PersistentHashMap<PersonId, PersistentHashMap<PersonId, Boolean>> linked;
+
+        // built when first asked for; guarded by this
+        private RelationshipGraph graph;
+
+        Links(PersistentHashMap<PersonId, PersistentHashMap<PersonId, Boolean>> linked) {
+            this.linked = linked;
+        }
+
+        Links with(PersonId a, PersonId b) {
+            return new Links(withHalf(withHalf(linked, a, b), b, a));
+        }
+
+        Links without(PersonId a, PersonId b) {
+            return new Links(withoutHalf(withoutHalf(linked, a, b), b, a));
+        }
+
+        /**
+         * Returns these links with the links of {@code oldId} moved to {@code newId}.
+         */
+        Links withIdReplaced(PersonId oldId, PersonId newId) {
+            PersistentHashMap<PersonId, Boolean> neighbours = linked.get(oldId);
+            if (neighbours == null) {
+                return this;
+            }
+            List<PersonId> others = new ArrayList<>();
+            neighbours.forEach((other, unused) -> others.add(other));
+            PersistentHashMap<PersonId, PersistentHashMap<PersonId, Boolean>> result =
+                    linked.minus(oldId).plus(newId, neighbours);
+            for (PersonId other : others) {
+                result = withHalf(withoutHalf(result, other, oldId), other, newId);
+            }
+            return new Links(result);
+        }
+
+        /**
+         * Performs {@code action} on each link once, passing the smaller id first.
+         */
+        void forEach(BiConsumer<PersonId, PersonId> action) {
+            linked.forEach((a, neighbours) -> neighbours.forEach((b, unused) -> {
+                if (a.value < b.value) {
+                    action.accept(a, b);
+                }
+            }));
+        }
+
+        synchronized RelationshipGraph toGraph(PersistentHashMap<PersonId, Person> personsById) {
+            if (graph == null) {
+                graph = new RelationshipGraph();
+                linked.forEach((a, neighbours) -> neighbours.forEach((b, unused) -> {
+                    Person personA = personsById.get(a);
+                    Person personB = personsById.get(b);
+                    if (a.value < b.value && personA != null && personB != null) {
+                        graph.addLink(personA, personB);
+                    }
+                }));
+            }
+            return graph;
+        }
+
+        private static PersistentHashMap<PersonId, PersistentHashMap<PersonId, Boolean>> withHalf(
+                PersistentHashMap<PersonId, PersistentHashMap<PersonId, Boolean>> linked, PersonId from, PersonId to) {
+            PersistentHashMap<PersonId, Boolean> neighbours = linked.get(from);
+            if (neighbours == null) {
+                neighbours = PersistentHashMap.empty();
+            }
+            return linked.plus(from, neighbours.plus(to, true));
+        }
+
+        private static PersistentHashMap<PersonId, PersistentHashMap<PersonId, Boolean>> withoutHalf(
+                PersistentHashMap<PersonId, PersistentHashMap<PersonId, Boolean>> linked, PersonId from, PersonId to) {
+            PersistentHashMap<PersonId, Boolean> neighbours = linked.get(from);
+            if (neighbours == null) {
+                return linked;
+            }
+            PersistentHashMap<PersonId, Boolean> remaining = neighbours.minus(to);
+            return remaining.isEmpty() ? linked.minus(from) : linked.plus(from, remaining);
+        }
+    }
+
+}
@@ -1,13 +1,20 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -55,6 +62,38 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the persons, links and tag types of the address book that were touched since the previous call,
+     * and starts recording afresh.
+     */
+    AddressBookChanges takeAddressBookChanges();
+
+    /**
+     * Ends the current edit of the address book, made up of the changes since the previous commit, so that it can
+     * be undone. Does nothing if the address book has not changed since.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is an edit of the address book that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone edit of the address book that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Undoes the last edit of the address book.
+     */
+    void undoAddressBook();
+
+    /**
+     * Redoes the last undone edit of the address book.
+     */
+    void redoAddressBook();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -79,6 +118,57 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the person with the given {@code name} (case-insensitive), if any.
+     */
+    Optional<Person> getPersonWithName(Name name);
+
+    /**
+     * Returns the persons whose email is equal to {@code email} (case-insensitive).
+     */
+    Set<Person> getPersonsWithEmail(Email email);
+
+    /**
+     * Returns the persons whose phone number has the same digits as {@code phone}.
+     */
+    Set<Person> getPersonsWithPhone(Phone phone);
+
+    /**
+     * Returns the ids of the persons whose name contains any of {@code keywords} as a word (case-insensitive),
+     * looked up in the name index of the address book.
+     */
+    Set<PersonId> getPersonIdsWithNameKeywords(Collection<String> keywords);
+
+    /**
+     * Returns the ids of the persons whose name contains a word that starts with any of {@code prefixes}
+     * (case-insensitive), looked up in the name index of the address book.
+     */
+    Set<PersonId> getPersonIdsWithNamePrefixes(Collection<String> prefixes);
+
+    /**
+     * Returns the words of the names in the address book that are within {@code maxDistance} edits of
+     * {@code keyword} (case-insensitive), each with its edit distance to the keyword.
+     */
+    Map<String, Integer> getSimilarNameTokens(String keyword, int maxDistance);
+
+    /**
+     * Returns the ids of the persons whose name contains a word that sounds like any of {@code keywords},
+     * looked up in the phonetic name index of the address book.
+     */
+    Set<PersonId> getPersonIdsWithNameSoundingLike(Collection<String> keywords);
+
+    /**
+     * Returns the persons whose whole name sounds like {@code name}, looked up in the phonetic name index of the
+     * address book.
+     */
+    Set<Person> getPersonsWithNameSoundingLike(Name name);
+
+    /**
+     * Returns the person named {@code name} if there is one, and otherwise the persons whose names sound like it.
+     * Both are looked up in the name indexes of the address book rather than by a scan.
+     */
+    Set<Person> getPersonsWithNameOrSoundingLike(Name name);
+
     Set<Tag> getTags();
 
     /** Returns an unmodifiable view of the filtered person list */
@@ -90,6 +180,12 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+
+    /**
+     * Returns true if {@code person}, which must be in the address book, is shown in the filtered person list.
+     */
+    boolean isInFilteredPersonList(Person person);
+
     //=========== Relationship management =============================================================
 
     /**
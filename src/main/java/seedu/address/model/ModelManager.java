@@ -4,7 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -13,7 +16,11 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -23,6 +30,7 @@ public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final AddressBook addressBook;
+    private final AddressBookHistory history = new AddressBookHistory();
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
 
@@ -35,6 +43,7 @@ public class ModelManager implements Model {
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
+        this.addressBook.setHistory(history);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
     }
@@ -90,6 +99,36 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public AddressBookChanges takeAddressBookChanges() {
+        return addressBook.takeChanges();
+    }
+
+    @Override
+    public void commitAddressBook() {
+        history.commit();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        history.undo(addressBook);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        history.redo(addressBook);
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -113,6 +152,61 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public Optional<Person> getPersonWithName(Name name) {
+        requireNonNull(name);
+        return addressBook.getPersonWithName(name);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithEmail(Email email) {
+        requireNonNull(email);
+        return addressBook.getPersonsWithEmail(email);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithPhone(Phone phone) {
+        requireNonNull(phone);
+        return addressBook.getPersonsWithPhone(phone);
+    }
+
+    @Override
+    public Set<PersonId> getPersonIdsWithNameKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.getPersonIdsWithNameKeywords(keywords);
+    }
+
+    @Override
+    public Set<PersonId> getPersonIdsWithNamePrefixes(Collection<String> prefixes) {
+        requireNonNull(prefixes);
+        return addressBook.getPersonIdsWithNamePrefixes(prefixes);
+    }
+
+    @Override
+    public Map<String, Integer> getSimilarNameTokens(String keyword, int maxDistance) {
+        requireNonNull(keyword);
+        return addressBook.getSimilarNameTokens(keyword, maxDistance);
+    }
+
+    @Override
+    public Set<PersonId> getPersonIdsWithNameSoundingLike(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.getPersonIdsWithNameSoundingLike(keywords);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithNameSoundingLike(Name name) {
+        requireNonNull(name);
+        return addressBook.getPersonsWithNameSoundingLike(name);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithNameOrSoundingLike(Name name) {
+        requireNonNull(name);
+        Optional<Person> person = addressBook.getPersonWithName(name);
+        return person.isPresent() ? Set.of(person.get()) : addressBook.getPersonsWithNameSoundingLike(name);
+    }
+
     @Override
     public boolean personHasValidTags(Person p) {
         requireNonNull(p);
@@ -159,6 +253,14 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+
+    @Override
+    public boolean isInFilteredPersonList(Person person) {
+        requireNonNull(person);
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        return predicate == null || predicate.test(person);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
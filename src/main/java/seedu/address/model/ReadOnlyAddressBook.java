@@ -1,11 +1,15 @@
 package seedu.address.model;
 
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.UniqueTagList;
+import seedu.address.model.util.RelationshipGraph;
 
 /**
  * Unmodifiable view of an address book
@@ -18,6 +22,11 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the person with the given {@code id}, if any.
+     */
+    Optional<Person> getPersonWithId(PersonId id);
+
     UniqueTagList getTagList();
 
     boolean personHasValidTags(Person person);
@@ -29,4 +38,29 @@ public interface ReadOnlyAddressBook {
     void deleteTagTypes(Set<Tag> tags);
 
     Set<Tag> getTags();
+
+    /**
+     * Returns the links between the persons of the address book. The graph must not be modified through this view.
+     */
+    RelationshipGraph getRelationshipGraph();
+
+    /**
+     * Performs {@code action} on each link between the persons of the address book once, passing the smaller id
+     * first. Unlike {@link #getRelationshipGraph()}, this never has to build a graph.
+     */
+    default void forEachLink(BiConsumer<PersonId, PersonId> action) {
+        getRelationshipGraph().forEachLink(action);
+    }
+
+    /**
+     * Returns a number that increases whenever the contents of the address book change.
+     * Callers can compare it with an earlier value to skip work, such as saving, when nothing changed.
+     */
+    long getModificationCount();
+
+    /**
+     * Returns an unmodifiable snapshot of the address book as it is now, which later changes to the address book do
+     * not affect and which can be read from any thread.
+     */
+    AddressBookSnapshot snapshot();
 }
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -29,6 +31,8 @@ public class Email {
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
     public static final String VALIDATION_REGEX = "(?=.{1,320}$)" + LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
 
+    private static final int MAX_LENGTH = 320;
+
     public final String value;
 
     /**
@@ -46,7 +50,83 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // a hand-written equivalent of VALIDATION_REGEX, whose nested quantifiers backtrack heavily on
+        // addresses that are almost valid
+        int at = test.indexOf('@');
+        if (test.length() > MAX_LENGTH || at < 0) {
+            return false;
+        }
+        return isValidLocalPart(test, 0, at) && isValidDomain(test, at + 1, test.length());
+    }
+
+    /**
+     * Returns true if {@code test} from {@code start} to {@code end} is a run of alphanumeric characters, or several
+     * such runs separated by single special characters.
+     */
+    private static boolean isValidLocalPart(String test, int start, int end) {
+        boolean isAfterAlphanumeric = false;
+        for (int i = start; i < end; i++) {
+            char c = test.charAt(i);
+            if (isAlphanumeric(c)) {
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && SPECIAL_CHARACTERS.indexOf(c) >= 0) {
+                isAfterAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric;
+    }
+
+    /**
+     * Returns true if {@code test} from {@code start} to {@code end} consists of valid domain labels separated by
+     * periods.
+     */
+    private static boolean isValidDomain(String test, int start, int end) {
+        int labelStart = start;
+        for (int i = start; i <= end; i++) {
+            if (i < end && test.charAt(i) != '.') {
+                continue;
+            }
+            if (!isValidDomainLabel(test, labelStart, i, i == end)) {
+                return false;
+            }
+            labelStart = i + 1;
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} from {@code start} to {@code end} is a run of alphanumeric characters, or several
+     * such runs separated by single hyphens. The last label must also have two alphanumeric characters in a row.
+     */
+    private static boolean isValidDomainLabel(String test, int start, int end, boolean isLastLabel) {
+        boolean isAfterAlphanumeric = false;
+        boolean hasAdjacentAlphanumerics = false;
+        for (int i = start; i < end; i++) {
+            char c = test.charAt(i);
+            if (isAlphanumeric(c)) {
+                hasAdjacentAlphanumerics |= isAfterAlphanumeric;
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && c == '-') {
+                isAfterAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric && (hasAdjacentAlphanumerics || !isLastLabel);
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * Returns the key under which this email is indexed, which is the email in lower case
+     * since emails are compared case-insensitively.
+     */
+    public String getSearchKey() {
+        return value.toLowerCase(Locale.ROOT);
     }
 
     @Override
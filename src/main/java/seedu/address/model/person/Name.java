@@ -3,6 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.commons.util.Metaphone;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,8 +26,13 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[A-Za-z][A-Za-z '-]{0,59}";
 
+    private static final int MAX_LENGTH = 60;
+
     public final String fullName;
 
+    // computed once, since every name is indexed by them and compared with them
+    private final List<String> phoneticKeys;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -31,15 +42,84 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        phoneticKeys = toPhoneticKeys(getSearchTokens());
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // a hand-written equivalent of VALIDATION_REGEX
+        int length = test.length();
+        if (length == 0 || length > MAX_LENGTH || !isLetter(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < length; i++) {
+            char c = test.charAt(i);
+            if (!isLetter(c) && c != ' ' && c != '\'' && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns the words of this name in lower case, which are the keys this name is indexed under for searching.
+     */
+    public List<String> getSearchTokens() {
+        // names contain no whitespace other than spaces, so there is no need for a regex split
+        List<String> tokens = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= fullName.length(); i++) {
+            if (i == fullName.length() || fullName.charAt(i) == ' ') {
+                if (i > start) {
+                    tokens.add(fullName.substring(start, i).toLowerCase(Locale.ROOT));
+                }
+                start = i + 1;
+            }
+        }
+        return tokens;
     }
 
+    /**
+     * Returns the key under which names having {@code keyword} as a word are indexed.
+     */
+    public static String toSearchToken(String keyword) {
+        requireNonNull(keyword);
+        return keyword.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the {@link Metaphone} keys of the words of this name, in order, which are the keys this name is
+     * indexed under for finding names that sound alike. Words that have no sounded letters have no key.
+     */
+    public List<String> getPhoneticKeys() {
+        return phoneticKeys;
+    }
+
+    /**
+     * Returns the key under which names having a word that sounds like {@code keyword} are indexed.
+     * Returns an empty string if the keyword has no sounded letters.
+     */
+    public static String toPhoneticKey(String keyword) {
+        requireNonNull(keyword);
+        return Metaphone.encode(keyword);
+    }
+
+    private static List<String> toPhoneticKeys(List<String> words) {
+        List<String> keys = new ArrayList<>(words.size());
+        for (String word : words) {
+            String key = toPhoneticKey(word);
+            if (!key.isEmpty()) {
+                keys.add(key);
+            }
+        }
+        return List.copyOf(keys);
+    }
 
     @Override
     public String toString() {
@@ -62,7 +142,7 @@ public class Name {
 
     @Override
     public int hashCode() {
-        return fullName.toLowerCase().hashCode();
+        return fullName.toLowerCase(Locale.ROOT).hashCode();
     }
 
 }
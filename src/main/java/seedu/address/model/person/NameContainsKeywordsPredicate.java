@@ -1,25 +1,93 @@
 package seedu.address.model.person;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * A keyword matches a name that has it as a whole word, ignoring case, or, if the keyword ends with
+ * {@value #PREFIX_WILDCARD}, a name that has a word starting with the rest of the keyword, or, if the keyword
+ * starts with {@value #SOUND_ALIKE_MARKER}, a name that has a word sounding like the rest of the keyword.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
+
+    public static final String PREFIX_WILDCARD = "*";
+    public static final String SOUND_ALIKE_MARKER = "~";
+
     private final List<String> keywords;
+    private final Set<String> words = new HashSet<>();
+    private final List<String> prefixes = new ArrayList<>();
+    private final List<String> soundAlikeWords = new ArrayList<>();
+    private final Set<String> phoneticKeys = new HashSet<>();
 
+    /**
+     * Creates a predicate that matches the persons whose name contains any of {@code keywords} as a word,
+     * or a word starting with any of the keywords that end with {@value #PREFIX_WILDCARD}, or a word sounding like
+     * any of the keywords that start with {@value #SOUND_ALIKE_MARKER}.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        for (String keyword : keywords) {
+            String trimmed = keyword.trim();
+            if (trimmed.startsWith(SOUND_ALIKE_MARKER)) {
+                String word = Name.toSearchToken(trimmed.substring(SOUND_ALIKE_MARKER.length()));
+                soundAlikeWords.add(word);
+                phoneticKeys.add(Name.toPhoneticKey(word));
+            } else if (trimmed.endsWith(PREFIX_WILDCARD)) {
+                prefixes.add(Name.toSearchToken(trimmed.substring(0, trimmed.length() - PREFIX_WILDCARD.length())));
+            } else {
+                words.add(Name.toSearchToken(trimmed));
+            }
+        }
+    }
+
+    /**
+     * Returns the keywords that match whole words, in lower case.
+     */
+    public Set<String> getWords() {
+        return Collections.unmodifiableSet(words);
+    }
+
+    /**
+     * Returns the keywords that match the start of words, without the wildcard and in lower case.
+     */
+    public List<String> getPrefixes() {
+        return Collections.unmodifiableList(prefixes);
+    }
+
+    /**
+     * Returns the keywords that match words sounding like them, without the marker and in lower case.
+     */
+    public List<String> getSoundAlikeWords() {
+        return Collections.unmodifiableList(soundAlikeWords);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        if (!phoneticKeys.isEmpty()) {
+            for (String key : person.getName().getPhoneticKeys()) {
+                if (phoneticKeys.contains(key)) {
+                    return true;
+                }
+            }
+        }
+        for (String token : person.getName().getSearchTokens()) {
+            if (words.contains(token)) {
+                return true;
+            }
+            for (String prefix : prefixes) {
+                if (token.startsWith(prefix)) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     @Override
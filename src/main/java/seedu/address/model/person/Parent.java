@@ -19,6 +19,15 @@ public class Parent extends Person {
         requireAllNonNull(name, phone, email, address);
     }
 
+    /**
+     * Every field must be present and not null except remark.
+     * Use this constructor to keep the id of an existing parent.
+     */
+    public Parent(PersonId id, Name name, Phone phone, Email email, Address address, Remark remark) {
+        super(id, PARENT, name, phone, email, address, remark);
+        requireAllNonNull(name, phone, email, address);
+    }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
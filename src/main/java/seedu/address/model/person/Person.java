@@ -3,10 +3,8 @@ package seedu.address.model.person;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
-import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.model.tag.Tag;
 
 /**
  * Represents a Person in the address book.
@@ -17,6 +15,9 @@ public class Person {
     // Role field
     private final Role role;
 
+    // Stable id, kept across edits
+    private final PersonId id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -28,10 +29,20 @@ public class Person {
 
     /**
      * Every field must be present and not null except remark.
+     * The person is given a newly generated id.
      */
     public Person(Role role, Name name, Phone phone, Email email, Address address, Remark remark) {
+        this(PersonId.generate(), role, name, phone, email, address, remark);
+    }
+
+    /**
+     * Every field must be present and not null except remark.
+     * Use this constructor to keep the id of an existing person, e.g. when editing or loading it.
+     */
+    public Person(PersonId id, Role role, Name name, Phone phone, Email email, Address address, Remark remark) {
+        requireAllNonNull(id, name, phone, email, address);
+        this.id = id;
         this.role = role;
-        requireAllNonNull(name, phone, email, address);
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -39,6 +50,10 @@ public class Person {
         this.remark = remark;
     }
 
+    public PersonId getId() {
+        return id;
+    }
+
     public Role getRole() {
         return role;
     }
@@ -76,17 +91,10 @@ public class Person {
                 && otherPerson.getName().equals(getName());
     }
 
-    /**
-     * If student, removes the given tags from the student's tag list.
-     * If parent, does nothing.
-     * Does nothing if the tag is not present.
-     */
-    public void removeTags(Set<Tag> tag) {
-    }
-
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
+     * The id is not compared, as it only records which entry of the address book a person is.
      */
     @Override
     public boolean equals(Object other) {
@@ -0,0 +1,94 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A secondary index that maps keys derived from a {@code Person} to the ids of the persons having that key.
+ * Each person may be indexed under any number of keys, as given by the key extractor.
+ * <p>
+ * Postings hold {@code PersonId}s, so callers resolve them against the person list. To remove a person, callers
+ * must pass the person as it was indexed, so that the same keys are derived.
+ *
+ * @param <K> type of the index keys
+ */
+public class PersonAttributeIndex<K> {
+
+    private final Function<Person, ? extends Collection<K>> keyExtractor;
+    private final Map<K, Set<PersonId>> postings = new HashMap<>();
+
+    /**
+     * Creates an empty index whose keys for each person are given by {@code keyExtractor}.
+     */
+    public PersonAttributeIndex(Function<Person, ? extends Collection<K>> keyExtractor) {
+        requireNonNull(keyExtractor);
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Indexes {@code person} under each of its keys.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (K key : keyExtractor.apply(person)) {
+            postings.computeIfAbsent(key, unused -> new HashSet<>()).add(person.getId());
+        }
+    }
+
+    /**
+     * Removes {@code person} from the postings of each of its keys.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (K key : keyExtractor.apply(person)) {
+            Set<PersonId> posting = postings.get(key);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(person.getId());
+            if (posting.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Removes all postings from the index.
+     */
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of the ids of the persons indexed under {@code key}.
+     * Returns an empty set if there are none.
+     */
+    public Set<PersonId> get(K key) {
+        requireNonNull(key);
+        Set<PersonId> posting = postings.get(key);
+        return posting == null ? Collections.emptySet() : Collections.unmodifiableSet(posting);
+    }
+
+    /**
+     * Returns the number of persons indexed under {@code key}.
+     */
+    public int count(K key) {
+        requireNonNull(key);
+        Set<PersonId> posting = postings.get(key);
+        return posting == null ? 0 : posting.size();
+    }
+
+    /**
+     * Returns an unmodifiable view of all keys that currently have at least one person.
+     */
+    public Set<K> keys() {
+        return Collections.unmodifiableSet(postings.keySet());
+    }
+}
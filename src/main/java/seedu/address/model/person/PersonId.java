@@ -0,0 +1,84 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Represents the stable identifier of a Person in the address book.
+ * A person keeps its id when it is edited, so the id can be used to refer to the person from links and indexes.
+ * Guarantees: immutable; is valid as declared in {@link #isValidId(int)}
+ *
+ * <p>New ids come from one counter shared by every address book in the JVM, because a {@code Person} is given its id
+ * when it is created, e.g. by a parser, before it belongs to any address book. Ids only have to be unique within one
+ * address book, and a shared counter is safe for that: no two generated ids are equal, and the ids read from
+ * storage are reserved before the persons read with them are added, so no generated id equals a stored one.
+ * Copies of an address book, such as undo states and snapshots, keep the ids of their persons, which is what lets
+ * them refer to the same persons. Reserving an id read for one address book only makes the ids generated for others
+ * skip it, and the counter does not run out before more than two billion persons have been created.
+ */
+public class PersonId {
+
+    public static final String MESSAGE_CONSTRAINTS = "Person ids should be positive integers.";
+
+    /** The largest id generated or reserved so far; atomic because persons are converted on several threads. */
+    private static final AtomicInteger lastAssigned = new AtomicInteger();
+
+    public final int value;
+
+    /**
+     * Constructs a {@code PersonId}.
+     *
+     * @param value A valid id.
+     */
+    public PersonId(int value) {
+        checkArgument(isValidId(value), MESSAGE_CONSTRAINTS);
+        this.value = value;
+    }
+
+    /**
+     * Returns a new id that has not been assigned or reserved before.
+     */
+    public static PersonId generate() {
+        return new PersonId(lastAssigned.incrementAndGet());
+    }
+
+    /**
+     * Ensures that {@link #generate()} never returns {@code id}, e.g. after {@code id} has been read from storage.
+     */
+    public static void reserve(PersonId id) {
+        lastAssigned.accumulateAndGet(id.value, Math::max);
+    }
+
+    /**
+     * Returns true if a given integer is a valid id.
+     */
+    public static boolean isValidId(int test) {
+        return test > 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonId)) {
+            return false;
+        }
+
+        PersonId otherId = (PersonId) other;
+        return value == otherId.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Tests that a {@code Person} was found by an index lookup, or, for a person added or edited since the lookup, that
+ * it passes the predicate the lookup answered.
+ * <p>
+ * A filtered list tests every person once when its predicate is set, and then only the persons that are added or
+ * replaced. Answering those from the ids found would keep a filter built on an index lookup from following later
+ * edits, so they are tested against {@code predicate} instead. Persons are told apart from their edited versions by
+ * comparing them with the persons of a snapshot taken at the lookup, which takes O(1) time.
+ */
+public class PersonLookupPredicate implements Predicate<Person> {
+    private final AddressBookSnapshot lookedUp;
+    private final Set<PersonId> found;
+    private final Predicate<Person> predicate;
+
+    /**
+     * Creates a {@code PersonLookupPredicate} for the persons {@code found} in {@code addressBook} as it is now,
+     * which are the persons of it that pass {@code predicate}.
+     */
+    public PersonLookupPredicate(ReadOnlyAddressBook addressBook, Set<PersonId> found, Predicate<Person> predicate) {
+        requireNonNull(addressBook);
+        requireNonNull(found);
+        requireNonNull(predicate);
+        this.lookedUp = addressBook.snapshot();
+        this.found = found;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        boolean isUnchanged = lookedUp.getPersonWithId(person.getId()).orElse(null) == person;
+        return isUnchanged ? found.contains(person.getId()) : predicate.test(person);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("found", found)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
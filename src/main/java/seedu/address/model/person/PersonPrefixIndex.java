@@ -0,0 +1,223 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A secondary index that maps string keys derived from a {@code Person} to the ids of the persons having that key,
+ * and that also finds the persons having any key that starts with a given prefix.
+ * <p>
+ * The keys are kept in a trie with a node per character, whose children are kept in small sorted arrays rather
+ * than maps. Looking up a key walks down its characters. Looking up a prefix walks down the prefix and then
+ * collects the postings of the subtree below it, so it takes O(prefix length + matches) time however many keys
+ * the index holds.
+ * <p>
+ * As with {@link PersonAttributeIndex}, callers must pass a person as it was indexed to remove it.
+ */
+public class PersonPrefixIndex {
+
+    private final Function<Person, ? extends Collection<String>> keyExtractor;
+    private Node root = new Node();
+
+    /**
+     * Creates an empty index whose keys for each person are given by {@code keyExtractor}.
+     */
+    public PersonPrefixIndex(Function<Person, ? extends Collection<String>> keyExtractor) {
+        requireNonNull(keyExtractor);
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Indexes {@code person} under each of its keys.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String key : keyExtractor.apply(person)) {
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.childOrNew(key.charAt(i));
+            }
+            if (node.postings == null) {
+                node.postings = new HashSet<>();
+            }
+            node.postings.add(person.getId());
+        }
+    }
+
+    /**
+     * Removes {@code person} from the postings of each of its keys, and the nodes that no key needs any more.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String key : keyExtractor.apply(person)) {
+            remove(root, key, 0, person.getId());
+        }
+    }
+
+    /**
+     * Removes {@code id} from the postings of {@code key}, below {@code node} which is reached by its first
+     * {@code depth} characters. Returns true if {@code node} is left with neither postings nor children.
+     */
+    private static boolean remove(Node node, String key, int depth, PersonId id) {
+        if (depth == key.length()) {
+            if (node.postings != null) {
+                node.postings.remove(id);
+                if (node.postings.isEmpty()) {
+                    node.postings = null;
+                }
+            }
+            return node.isEmpty();
+        }
+        char c = key.charAt(depth);
+        Node child = node.child(c);
+        if (child != null && remove(child, key, depth + 1, id)) {
+            node.removeChild(c);
+        }
+        return node.isEmpty();
+    }
+
+    /**
+     * Removes all postings from the index.
+     */
+    public void clear() {
+        root = new Node();
+    }
+
+    /**
+     * Returns an unmodifiable view of the ids of the persons indexed under {@code key}.
+     * Returns an empty set if there are none.
+     */
+    public Set<PersonId> get(String key) {
+        requireNonNull(key);
+        Node node = find(key);
+        return node == null || node.postings == null ? Collections.emptySet()
+                : Collections.unmodifiableSet(node.postings);
+    }
+
+    /**
+     * Returns the ids of the persons indexed under a key that starts with {@code prefix}.
+     */
+    public Set<PersonId> getWithPrefix(String prefix) {
+        requireNonNull(prefix);
+        Set<PersonId> result = new HashSet<>();
+        Node start = find(prefix);
+        if (start == null) {
+            return result;
+        }
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(start);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            if (node.postings != null) {
+                result.addAll(node.postings);
+            }
+            for (Node child : node.children) {
+                pending.push(child);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns all keys that currently have at least one person, in alphabetical order.
+     */
+    public List<String> keys() {
+        List<String> keys = new ArrayList<>();
+        collectKeys(root, new StringBuilder(), keys);
+        return keys;
+    }
+
+    private static void collectKeys(Node node, StringBuilder key, List<String> keys) {
+        if (node.postings != null) {
+            keys.add(key.toString());
+        }
+        for (int i = 0; i < node.children.length; i++) {
+            key.append(node.labels[i]);
+            collectKeys(node.children[i], key, keys);
+            key.setLength(key.length() - 1);
+        }
+    }
+
+    /**
+     * Returns the node reached by the characters of {@code key}, or null if no key starts with it.
+     */
+    private Node find(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * A node of the trie: the postings of the key that ends here, if any, and the children by next character.
+     */
+    private static final class Node {
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        // sorted, so that a child is found by binary search
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private Set<PersonId> postings;
+
+        Node child(char c) {
+            int index = Arrays.binarySearch(labels, c);
+            return index < 0 ? null : children[index];
+        }
+
+        Node childOrNew(char c) {
+            int index = Arrays.binarySearch(labels, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            Node child = new Node();
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newLabels[insertAt] = c;
+            newChildren[insertAt] = child;
+            System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            labels = newLabels;
+            children = newChildren;
+            return child;
+        }
+
+        void removeChild(char c) {
+            int index = Arrays.binarySearch(labels, c);
+            if (index < 0) {
+                return;
+            }
+            if (labels.length == 1) {
+                labels = NO_LABELS;
+                children = NO_CHILDREN;
+                return;
+            }
+            char[] newLabels = new char[labels.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(labels, index + 1, newLabels, index, newLabels.length - index);
+            System.arraycopy(children, index + 1, newChildren, index, newChildren.length - index);
+            labels = newLabels;
+            children = newChildren;
+        }
+
+        boolean isEmpty() {
+            return postings == null && children.length == 0;
+        }
+    }
+}
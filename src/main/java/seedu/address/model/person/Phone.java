@@ -13,6 +13,12 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should contain 3 to 25 characters. Only digits, spaces, (), + and - are allowed.";
     public static final String VALIDATION_REGEX = "[\\d\\s()+-]{3,25}";
+
+    private static final int MIN_LENGTH = 3;
+    private static final int MAX_LENGTH = 25;
+    /** The characters other than digits that phone numbers may contain, including all that {@code \s} matches. */
+    private static final String ALLOWED_SYMBOLS = "()+- \t\n\u000B\f\r";
+
     public final String value;
 
     /**
@@ -30,7 +36,45 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // a hand-written equivalent of VALIDATION_REGEX
+        int length = test.length();
+        if (length < MIN_LENGTH || length > MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isPhoneCharacter(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPhoneCharacter(char c) {
+        return (c >= '0' && c <= '9') || ALLOWED_SYMBOLS.indexOf(c) >= 0;
+    }
+
+    /**
+     * Returns the key under which this phone number is indexed, which keeps only its digits and any '+'.
+     * Phone numbers that differ only in spacing or punctuation share the same key.
+     */
+    public String getSearchKey() {
+        return toSearchKey(value);
+    }
+
+    /**
+     * Returns the key under which phone numbers written as {@code phone} are indexed, which keeps only its digits
+     * and any '+'. {@code phone} need not be a valid phone number, so that parts of one can be compared.
+     */
+    public static String toSearchKey(String phone) {
+        requireNonNull(phone);
+        StringBuilder key = new StringBuilder(phone.length());
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (Character.isDigit(c) || c == '+') {
+                key.append(c);
+            }
+        }
+        return key.toString();
     }
 
     @Override
@@ -18,6 +18,8 @@ public class Remark {
      */
     public static final String VALIDATION_REGEX = "[^\\n/]{0,200}";
 
+    private static final int MAX_LENGTH = 200;
+
     public final String remarks;
 
     /**
@@ -38,7 +40,11 @@ public class Remark {
      * Returns true if a given string is a valid remark.
      */
     public static boolean isValidRemark(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // a hand-written equivalent of VALIDATION_REGEX, whose length limit counts code points rather than chars
+        if (test.indexOf('\n') >= 0 || test.indexOf('/') >= 0) {
+            return false;
+        }
+        return test.length() <= MAX_LENGTH || test.codePointCount(0, test.length()) <= MAX_LENGTH;
     }
 
     @Override
@@ -28,6 +28,17 @@ public class Student extends Person {
         this.tags.addAll(tags);
     }
 
+    /**
+     * Every field must be present and not null except remark.
+     * Use this constructor to keep the id of an existing student.
+     */
+    public Student(PersonId id, Name name, Phone phone, Email email, Address address, Remark remark,
+            Set<Tag> tags) {
+        super(id, STUDENT, name, phone, email, address, remark);
+        requireAllNonNull(name, phone, email, address, tags);
+        this.tags.addAll(tags);
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
@@ -36,12 +47,15 @@ public class Student extends Person {
         return Collections.unmodifiableSet(tags);
     }
 
-    @Override
-    public void removeTags(Set<Tag> tag) {
-        for (Tag t : tag) {
-            tags.remove(t);
-        }
+    /**
+     * Returns a copy of this student, with the same id, that does not carry any of {@code tagsToRemove}.
+     */
+    public Student withoutTags(Set<Tag> tagsToRemove) {
+        Set<Tag> remainingTags = new HashSet<>(tags);
+        remainingTags.removeAll(tagsToRemove);
+        return new Student(getId(), getName(), getPhone(), getEmail(), getAddress(), getRemark(), remainingTags);
     }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
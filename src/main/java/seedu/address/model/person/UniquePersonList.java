@@ -3,8 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +22,14 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * However, the removal of a person uses Person#equals(Object) to ensure that the person with exactly the
  * same fields will be removed.
  *
+ * Alongside the backing list, a hash index keyed by {@code Name} is kept in sync so that identity lookups do not
+ * need to scan the list. {@code Name#equals(Object)} is case-insensitive, which matches
+ * {@code Person#isSamePerson(Person)}. A second index keyed by {@code PersonId} resolves ids held by links and
+ * other indexes; ids are unique within the list as well. A third index records the position of each person, so that
+ * {@link #setPerson(Person, Person)} finds the person to replace in O(1) amortized time. Inserting or removing a
+ * person shifts the persons after it, so it takes O(n) time like the backing list does, and the positions from there
+ * on are only recomputed when one of them is next needed.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -28,13 +39,34 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Person> nameIndex = new HashMap<>();
+    private final Map<PersonId, Person> idIndex = new HashMap<>();
+    /** The position of each person by id, which is up to date for the positions before {@code firstStalePosition}. */
+    private final Map<PersonId, Integer> positionIndex = new HashMap<>();
+    private int firstStalePosition;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameIndex.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the person in the list whose name is equal to {@code name} (case-insensitive), if any.
+     */
+    public Optional<Person> get(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(nameIndex.get(name));
+    }
+
+    /**
+     * Returns the person in the list with the given {@code id}, if any.
+     */
+    public Optional<Person> get(PersonId id) {
+        requireNonNull(id);
+        return Optional.ofNullable(idIndex.get(id));
     }
 
     /**
@@ -42,22 +74,39 @@ public class UniquePersonList implements Iterable<Person> {
      * The person must not already exist in the list.
      */
     public void add(Person toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Adds a person to the list at position {@code index}, moving the persons from there on back by one.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || idIndex.containsKey(toAdd.getId())) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        internalList.add(index, toAdd);
+        nameIndex.put(toAdd.getName(), toAdd);
+        idIndex.put(toAdd.getId(), toAdd);
+        positionIndex.put(toAdd.getId(), index);
+        if (index == firstStalePosition) {
+            // the position of the new person is known, and the positions before it are unchanged
+            firstStalePosition++;
+        } else {
+            firstStalePosition = Math.min(firstStalePosition, index);
+        }
     }
 
     /**
-     * Replaces the person {@code target} in the list with {@code editedPerson}.
+     * Replaces the person {@code target} in the list with {@code editedPerson} and returns the position it is at.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public int setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,24 +114,46 @@ public class UniquePersonList implements Iterable<Person> {
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
+        if (!target.getId().equals(editedPerson.getId()) && idIndex.containsKey(editedPerson.getId())) {
+            throw new DuplicatePersonException();
+        }
 
-        internalList.set(index, editedPerson);
+        Person replaced = internalList.set(index, editedPerson);
+        nameIndex.remove(replaced.getName());
+        nameIndex.put(editedPerson.getName(), editedPerson);
+        idIndex.remove(replaced.getId());
+        idIndex.put(editedPerson.getId(), editedPerson);
+        positionIndex.remove(replaced.getId());
+        positionIndex.put(editedPerson.getId(), index);
+        return index;
     }
 
     /**
-     * Removes the equivalent person from the list.
+     * Removes the equivalent person from the list and returns the position it was at.
      * The person must exist in the list.
      */
-    public void remove(Person toRemove) {
+    public int remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Person removed = internalList.remove(index);
+        nameIndex.remove(removed.getName());
+        idIndex.remove(removed.getId());
+        positionIndex.remove(removed.getId());
+        firstStalePosition = Math.min(firstStalePosition, index);
+        return index;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        nameIndex.clear();
+        nameIndex.putAll(replacement.nameIndex);
+        idIndex.clear();
+        idIndex.putAll(replacement.idIndex);
+        clearPositionIndex();
     }
 
     /**
@@ -91,11 +162,18 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<Name, Person> replacementIndex = buildNameIndex(persons);
+        Map<PersonId, Person> replacementIdIndex = buildIdIndex(persons);
+        if (replacementIndex == null || replacementIdIndex == null) {
             throw new DuplicatePersonException();
         }
 
         internalList.setAll(persons);
+        nameIndex.clear();
+        nameIndex.putAll(replacementIndex);
+        idIndex.clear();
+        idIndex.putAll(replacementIdIndex);
+        clearPositionIndex();
     }
 
     /**
@@ -136,16 +214,63 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the person in the list that is equal to {@code person}, or -1 if there is none.
+     * Since names are unique within the list, only the indexed person with the same name can be equal to it.
+     */
+    private int indexOf(Person person) {
+        Person indexed = nameIndex.get(person.getName());
+        if (indexed == null || !indexed.equals(person)) {
+            return -1;
+        }
+        Integer position = positionIndex.get(indexed.getId());
+        if (position == null || position >= firstStalePosition) {
+            refreshPositionIndex();
+            position = positionIndex.get(indexed.getId());
+        }
+        return position;
+    }
+
+    /**
+     * Recomputes the positions from {@code firstStalePosition} to the end of the list.
+     */
+    private void refreshPositionIndex() {
+        for (int i = firstStalePosition; i < internalList.size(); i++) {
+            positionIndex.put(internalList.get(i).getId(), i);
+        }
+        firstStalePosition = internalList.size();
+    }
+
+    /**
+     * Marks every position as stale, after the whole list has been replaced.
+     */
+    private void clearPositionIndex() {
+        positionIndex.clear();
+        firstStalePosition = 0;
+    }
+
+    /**
+     * Returns a name index over {@code persons}, or null if {@code persons} contains duplicate persons.
+     */
+    private Map<Name, Person> buildNameIndex(List<Person> persons) {
+        Map<Name, Person> index = new HashMap<>(Math.max(16, persons.size() * 4 / 3 + 1));
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getName(), person) != null) {
+                return null;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns an id index over {@code persons}, or null if {@code persons} contains persons with the same id.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private Map<PersonId, Person> buildIdIndex(List<Person> persons) {
+        Map<PersonId, Person> index = new HashMap<>(Math.max(16, persons.size() * 4 / 3 + 1));
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getId(), person) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
     }
 }
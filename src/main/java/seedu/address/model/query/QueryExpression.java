@@ -0,0 +1,376 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Student;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An expression of the query language of the {@code query} command, which combines conditions on the fields of a
+ * person and on the persons linked to it with {@code and}, {@code or} and {@code not}.
+ * <p>
+ * A condition {@code FIELD:VALUE} matches a person whose
+ * <ul>
+ * <li>name has every word of the value as a word,</li>
+ * <li>email or phone number is the value (phone numbers are compared by their digits),</li>
+ * <li>address or remark contains the value,</li>
+ * <li>tags include the value, or</li>
+ * <li>role is the value,</li>
+ * </ul>
+ * ignoring case. A value, or a word of a name, that ends with {@value #PREFIX_WILDCARD} matches the start of the
+ * field instead. A relation {@code RELATION(QUERY)} matches the persons linked to someone in that relation who
+ * matches the inner query, e.g. {@code parent(phone:9*)} matches the students with a parent whose phone number
+ * starts with 9.
+ * <p>
+ * Any expression can test a person by itself. The {@link QueryPlanner} answers the parts of a query that it can
+ * from the indexes of the address book instead, and tests persons only against the rest. Expressions are equal if
+ * they have the same canonical text, which is how they are shown in query plans.
+ */
+public abstract class QueryExpression {
+
+    public static final String PREFIX_WILDCARD = "*";
+
+    /**
+     * Returns an expression matching the persons matched by all of {@code operands}.
+     */
+    public static QueryExpression and(List<QueryExpression> operands) {
+        requireNonNull(operands);
+        checkArgument(!operands.isEmpty(), "An and expression should have operands.");
+        return operands.size() == 1 ? operands.get(0) : new And(operands);
+    }
+
+    /**
+     * Returns an expression matching the persons matched by any of {@code operands}.
+     */
+    public static QueryExpression or(List<QueryExpression> operands) {
+        requireNonNull(operands);
+        checkArgument(!operands.isEmpty(), "An or expression should have operands.");
+        return operands.size() == 1 ? operands.get(0) : new Or(operands);
+    }
+
+    /**
+     * Returns an expression matching the persons not matched by {@code operand}.
+     */
+    public static QueryExpression not(QueryExpression operand) {
+        requireNonNull(operand);
+        return new Not(operand);
+    }
+
+    /**
+     * Returns the condition {@code field:value}.
+     *
+     * @param value A value that is valid for {@code field}, as given by {@link QueryField#isValidValue(String)}.
+     */
+    public static QueryExpression condition(QueryField field, String value) {
+        requireNonNull(field);
+        requireNonNull(value);
+        checkArgument(field.isValidValue(value), field.getValueConstraints());
+        return new Condition(field, value.trim());
+    }
+
+    /**
+     * Returns an expression matching the persons linked in {@code relation} to someone matched by {@code operand}.
+     */
+    public static QueryExpression related(QueryRelation relation, QueryExpression operand) {
+        requireNonNull(relation);
+        requireNonNull(operand);
+        return new Related(relation, operand);
+    }
+
+    /**
+     * Returns true if {@code person} is matched by this expression. The persons linked to it are looked up in
+     * {@code addressBook}.
+     */
+    public abstract boolean test(Person person, ReadOnlyAddressBook addressBook);
+
+    /**
+     * Returns the canonical text of this expression, which parses to an equal expression.
+     */
+    @Override
+    public abstract String toString();
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryExpression)) {
+            return false;
+        }
+
+        return toString().equals(other.toString());
+    }
+
+    @Override
+    public int hashCode() {
+        return toString().hashCode();
+    }
+
+    /**
+     * Returns the text of {@code operand} as part of a larger expression, in parentheses if it combines others.
+     */
+    private static String toOperandString(QueryExpression operand) {
+        return operand instanceof And || operand instanceof Or ? "(" + operand + ")" : operand.toString();
+    }
+
+    /**
+     * Returns {@code value} without a final {@value #PREFIX_WILDCARD}, if it has one.
+     */
+    static String withoutWildcard(String value) {
+        return value.endsWith(PREFIX_WILDCARD) ? value.substring(0, value.length() - PREFIX_WILDCARD.length()) : value;
+    }
+
+    /**
+     * Matches the persons matched by all of its operands.
+     */
+    static final class And extends QueryExpression {
+        private final List<QueryExpression> operands;
+
+        And(List<QueryExpression> operands) {
+            this.operands = List.copyOf(operands);
+        }
+
+        List<QueryExpression> getOperands() {
+            return operands;
+        }
+
+        @Override
+        public boolean test(Person person, ReadOnlyAddressBook addressBook) {
+            for (QueryExpression operand : operands) {
+                if (!operand.test(person, addressBook)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            List<String> parts = new ArrayList<>();
+            for (QueryExpression operand : operands) {
+                parts.add(operand instanceof Or ? "(" + operand + ")" : operand.toString());
+            }
+            return String.join(" and ", parts);
+        }
+    }
+
+    /**
+     * Matches the persons matched by any of its operands.
+     */
+    static final class Or extends QueryExpression {
+        private final List<QueryExpression> operands;
+
+        Or(List<QueryExpression> operands) {
+            this.operands = List.copyOf(operands);
+        }
+
+        List<QueryExpression> getOperands() {
+            return operands;
+        }
+
+        @Override
+        public boolean test(Person person, ReadOnlyAddressBook addressBook) {
+            for (QueryExpression operand : operands) {
+                if (operand.test(person, addressBook)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            List<String> parts = new ArrayList<>();
+            for (QueryExpression operand : operands) {
+                parts.add(operand.toString());
+            }
+            return String.join(" or ", parts);
+        }
+    }
+
+    /**
+     * Matches the persons not matched by its operand.
+     */
+    static final class Not extends QueryExpression {
+        private final QueryExpression operand;
+
+        Not(QueryExpression operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        public boolean test(Person person, ReadOnlyAddressBook addressBook) {
+            return !operand.test(person, addressBook);
+        }
+
+        @Override
+        public String toString() {
+            return "not " + toOperandString(operand);
+        }
+    }
+
+    /**
+     * Matches the persons linked in a relation to someone matched by its operand.
+     */
+    static final class Related extends QueryExpression {
+        private final QueryRelation relation;
+        private final QueryExpression operand;
+
+        Related(QueryRelation relation, QueryExpression operand) {
+            this.relation = relation;
+            this.operand = operand;
+        }
+
+        QueryRelation getRelation() {
+            return relation;
+        }
+
+        QueryExpression getOperand() {
+            return operand;
+        }
+
+        @Override
+        public boolean test(Person person, ReadOnlyAddressBook addressBook) {
+            for (PersonId id : addressBook.getRelationshipGraph().getLinked(person)) {
+                Optional<Person> linked = addressBook.getPersonWithId(id);
+                if (linked.isPresent() && relation.includes(linked.get())
+                        && operand.test(linked.get(), addressBook)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return relation.getKeyword() + "(" + operand + ")";
+        }
+    }
+
+    /**
+     * Matches the persons whose field has the value, as described in {@link QueryExpression}.
+     */
+    static final class Condition extends QueryExpression {
+        private final QueryField field;
+        private final String value;
+        private final boolean isPrefix;
+        // the value without the wildcard, in the form the field is compared in
+        private final String key;
+        // the words of the value of a name condition in lower case, each with its wildcard if it has one
+        private final List<String> nameWords = new ArrayList<>();
+
+        Condition(QueryField field, String value) {
+            this.field = field;
+            this.isPrefix = value.endsWith(PREFIX_WILDCARD);
+            String canonicalValue = value;
+            switch (field) {
+            case NAME:
+                for (String word : value.split("\\s+")) {
+                    nameWords.add(Name.toSearchToken(word));
+                }
+                key = value.toLowerCase(Locale.ROOT);
+                break;
+            case PHONE:
+                key = Phone.toSearchKey(withoutWildcard(value));
+                break;
+            case TAG:
+                key = new Tag(value).tagName;
+                // tags and roles are written as they are stored, so that queries differing only in case are equal
+                canonicalValue = key;
+                break;
+            case ROLE:
+                key = QueryField.toRole(value).orElseThrow().name();
+                canonicalValue = key.toLowerCase(Locale.ROOT);
+                break;
+            default:
+                key = withoutWildcard(value).toLowerCase(Locale.ROOT);
+                break;
+            }
+            this.value = canonicalValue;
+        }
+
+        QueryField getField() {
+            return field;
+        }
+
+        boolean isPrefix() {
+            return isPrefix;
+        }
+
+        /**
+         * Returns the value without the wildcard, in the form the field is compared in: lower case, the digits of
+         * a phone number, the name of a tag or the name of a role.
+         */
+        String getKey() {
+            return key;
+        }
+
+        List<String> getNameWords() {
+            return Collections.unmodifiableList(nameWords);
+        }
+
+        @Override
+        public boolean test(Person person, ReadOnlyAddressBook addressBook) {
+            switch (field) {
+            case NAME:
+                return hasNameWords(person.getName().getSearchTokens());
+            case EMAIL:
+                return matches(person.getEmail().getSearchKey());
+            case PHONE:
+                return matches(person.getPhone().getSearchKey());
+            case ADDRESS:
+                return contains(person.getAddress().value.toLowerCase(Locale.ROOT));
+            case REMARK:
+                return contains(person.getRemark().remarks.toLowerCase(Locale.ROOT));
+            case TAG:
+                return person instanceof Student student
+                        && student.getTags().stream().anyMatch(tag -> tag.tagName.equals(key));
+            case ROLE:
+                return person.getRole() != null && person.getRole().name().equals(key);
+            default:
+                throw new AssertionError("Unknown query field: " + field);
+            }
+        }
+
+        private boolean matches(String fieldKey) {
+            return isPrefix ? fieldKey.startsWith(key) : fieldKey.equals(key);
+        }
+
+        private boolean contains(String fieldText) {
+            return isPrefix ? fieldText.startsWith(key) : fieldText.contains(key);
+        }
+
+        private boolean hasNameWords(List<String> tokens) {
+            for (String word : nameWords) {
+                String prefix = withoutWildcard(word);
+                boolean isFound = word.endsWith(PREFIX_WILDCARD)
+                        ? tokens.stream().anyMatch(token -> token.startsWith(prefix))
+                        : tokens.contains(word);
+                if (!isFound) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            boolean needsQuotes = value.chars().anyMatch(c -> Character.isWhitespace(c) || c == '(' || c == ')');
+            return field.getKeyword() + ":" + (needsQuotes ? "\"" + value + "\"" : value);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import seedu.address.model.person.Role;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A field of a person that a query condition can test, written as {@code FIELD:VALUE} in a query.
+ */
+public enum QueryField {
+    NAME("name"),
+    EMAIL("email"),
+    PHONE("phone"),
+    ADDRESS("address"),
+    REMARK("remark"),
+    TAG("tag"),
+    ROLE("role");
+
+    public static final String MESSAGE_BLANK_VALUE = "The value of a query condition should not be blank.";
+    public static final String MESSAGE_INVALID_ROLE = "The role of a query condition should be student or parent.";
+
+    private final String keyword;
+
+    QueryField(String keyword) {
+        this.keyword = keyword;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns the field written as {@code keyword} (case-insensitive) in a query, if any.
+     */
+    public static Optional<QueryField> fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        for (QueryField field : values()) {
+            if (field.keyword.equalsIgnoreCase(keyword)) {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns true if {@code value} can be compared with this field.
+     */
+    public boolean isValidValue(String value) {
+        requireNonNull(value);
+        String trimmed = value.trim();
+        switch (this) {
+        case TAG:
+            return Tag.isValidTagName(trimmed);
+        case ROLE:
+            return toRole(trimmed).isPresent();
+        default:
+            return !QueryExpression.withoutWildcard(trimmed).isBlank();
+        }
+    }
+
+    /**
+     * Returns the message explaining which values can be compared with this field.
+     */
+    public String getValueConstraints() {
+        switch (this) {
+        case TAG:
+            return Tag.MESSAGE_CONSTRAINTS;
+        case ROLE:
+            return MESSAGE_INVALID_ROLE;
+        default:
+            return MESSAGE_BLANK_VALUE;
+        }
+    }
+
+    /**
+     * Returns the role written as {@code value} (case-insensitive), if any.
+     */
+    static Optional<Role> toRole(String value) {
+        for (Role role : Role.values()) {
+            if (role.name().equalsIgnoreCase(value)) {
+                return Optional.of(role);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,343 @@
+package seedu.address.model.query;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+/**
+ * A step of the plan that a {@link QueryPlanner} chooses for a query, which produces the ids of some persons from
+ * the indexes of the address book or from the steps below it.
+ * <p>
+ * Each step records how many rows, that is person ids, it produced when the plan was executed, so that
+ * {@link #explain()} can show them next to the steps. Steps that were skipped, such as the rest of an intersection
+ * once it is empty, show no row count.
+ */
+public abstract class QueryPlan {
+
+    private static final int NOT_EXECUTED = -1;
+
+    private int rowCount = NOT_EXECUTED;
+
+    /**
+     * Executes this step and returns the ids of the persons it produces.
+     */
+    public final Set<PersonId> execute() {
+        Set<PersonId> rows = produce();
+        rowCount = rows.size();
+        return rows;
+    }
+
+    /**
+     * Returns the number of rows this step produced, or -1 if it has not been executed.
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns this plan as an indented tree of its steps, one per line, each with the rows it produced.
+     */
+    public String explain() {
+        StringBuilder text = new StringBuilder();
+        explain(text, 0);
+        return text.toString();
+    }
+
+    private void explain(StringBuilder text, int depth) {
+        if (depth > 0) {
+            text.append('\n').append("  ".repeat(depth));
+        }
+        text.append(describe());
+        if (rowCount == NOT_EXECUTED) {
+            text.append(" (skipped)");
+        } else {
+            text.append(" -> ").append(rowCount).append(rowCount == 1 ? " row" : " rows");
+        }
+        for (QueryPlan child : getChildren()) {
+            child.explain(text, depth + 1);
+        }
+    }
+
+    /**
+     * Returns the ids of the persons this step produces.
+     */
+    abstract Set<PersonId> produce();
+
+    /**
+     * Returns about how many rows this step will produce, without executing the steps that cost more than an
+     * index lookup.
+     */
+    abstract int estimateRowCount();
+
+    /**
+     * Returns a one-line description of this step.
+     */
+    abstract String describe();
+
+    List<QueryPlan> getChildren() {
+        return List.of();
+    }
+
+    void recordRowCount(int count) {
+        rowCount = count;
+    }
+
+    /**
+     * Looks up the ids of the persons that match a condition in an index of the address book.
+     */
+    static final class IndexLookup extends QueryPlan {
+        private final String indexName;
+        private final String condition;
+        private final Supplier<Set<PersonId>> lookup;
+        private Set<PersonId> rows;
+
+        IndexLookup(String indexName, String condition, Supplier<Set<PersonId>> lookup) {
+            this.indexName = indexName;
+            this.condition = condition;
+            this.lookup = lookup;
+        }
+
+        @Override
+        Set<PersonId> produce() {
+            if (rows == null) {
+                rows = lookup.get();
+            }
+            return rows;
+        }
+
+        @Override
+        int estimateRowCount() {
+            // postings are looked up in constant time, so the estimate is exact
+            return produce().size();
+        }
+
+        @Override
+        String describe() {
+            return indexName + " lookup [" + condition + "]";
+        }
+    }
+
+    /**
+     * Produces the ids of all persons in the address book.
+     */
+    static final class FullScan extends QueryPlan {
+        private final ReadOnlyAddressBook addressBook;
+
+        FullScan(ReadOnlyAddressBook addressBook) {
+            this.addressBook = addressBook;
+        }
+
+        /**
+         * Returns all persons in the address book, and records them as the rows of this step.
+         */
+        List<Person> scan() {
+            List<Person> persons = addressBook.getPersonList();
+            recordRowCount(persons.size());
+            return persons;
+        }
+
+        @Override
+        Set<PersonId> produce() {
+            Set<PersonId> ids = new HashSet<>();
+            for (Person person : addressBook.getPersonList()) {
+                ids.add(person.getId());
+            }
+            return ids;
+        }
+
+        @Override
+        int estimateRowCount() {
+            return addressBook.getPersonList().size();
+        }
+
+        @Override
+        String describe() {
+            return "Full scan";
+        }
+    }
+
+    /**
+     * Produces the ids produced by every one of its steps. The steps are executed from the one expected to produce
+     * the fewest rows, and once the intersection is empty the rest are skipped.
+     */
+    static final class Intersect extends QueryPlan {
+        private final List<QueryPlan> children;
+
+        Intersect(List<QueryPlan> children) {
+            this.children = List.copyOf(children);
+        }
+
+        @Override
+        Set<PersonId> produce() {
+            List<QueryPlan> smallestFirst = new ArrayList<>(children);
+            smallestFirst.sort(Comparator.comparingInt(QueryPlan::estimateRowCount));
+            Set<PersonId> rows = new HashSet<>(smallestFirst.get(0).execute());
+            for (int i = 1; i < smallestFirst.size() && !rows.isEmpty(); i++) {
+                rows.retainAll(smallestFirst.get(i).execute());
+            }
+            return rows;
+        }
+
+        @Override
+        int estimateRowCount() {
+            int estimate = Integer.MAX_VALUE;
+            for (QueryPlan child : children) {
+                estimate = Math.min(estimate, child.estimateRowCount());
+            }
+            return estimate;
+        }
+
+        @Override
+        String describe() {
+            return "Intersect";
+        }
+
+        @Override
+        List<QueryPlan> getChildren() {
+            return children;
+        }
+    }
+
+    /**
+     * Produces the ids produced by any of its steps.
+     */
+    static final class Union extends QueryPlan {
+        private final List<QueryPlan> children;
+
+        Union(List<QueryPlan> children) {
+            this.children = List.copyOf(children);
+        }
+
+        @Override
+        Set<PersonId> produce() {
+            Set<PersonId> rows = new HashSet<>();
+            for (QueryPlan child : children) {
+                rows.addAll(child.execute());
+            }
+            return rows;
+        }
+
+        @Override
+        int estimateRowCount() {
+            long estimate = 0;
+            for (QueryPlan child : children) {
+                estimate += child.estimateRowCount();
+            }
+            return (int) Math.min(estimate, Integer.MAX_VALUE);
+        }
+
+        @Override
+        String describe() {
+            return "Union";
+        }
+
+        @Override
+        List<QueryPlan> getChildren() {
+            return children;
+        }
+    }
+
+    /**
+     * Produces the ids of the persons linked in a relation to the persons its step produces, found by looking the
+     * linked ids up in the relationship graph.
+     */
+    static final class LinkLookup extends QueryPlan {
+        private final QueryRelation relation;
+        private final QueryPlan child;
+        private final ReadOnlyAddressBook addressBook;
+
+        LinkLookup(QueryRelation relation, QueryPlan child, ReadOnlyAddressBook addressBook) {
+            this.relation = relation;
+            this.child = child;
+            this.addressBook = addressBook;
+        }
+
+        @Override
+        Set<PersonId> produce() {
+            Set<PersonId> rows = new HashSet<>();
+            for (PersonId id : child.execute()) {
+                Optional<Person> related = addressBook.getPersonWithId(id);
+                if (related.isPresent() && relation.includes(related.get())) {
+                    rows.addAll(addressBook.getRelationshipGraph().getLinked(related.get()));
+                }
+            }
+            return rows;
+        }
+
+        @Override
+        int estimateRowCount() {
+            // a student has at most two parents, and a parent rarely has many children
+            return child.estimateRowCount();
+        }
+
+        @Override
+        String describe() {
+            return "Link lookup [" + relation.getKeyword() + "]";
+        }
+
+        @Override
+        List<QueryPlan> getChildren() {
+            return List.of(child);
+        }
+    }
+
+    /**
+     * Produces the ids its step produces of the persons that match the residual expression, which no index
+     * answered. Each id is looked up in the address book to test its person.
+     */
+    static final class Filter extends QueryPlan {
+        private final QueryPlan child;
+        private final QueryExpression residual;
+        private final ReadOnlyAddressBook addressBook;
+
+        Filter(QueryPlan child, QueryExpression residual, ReadOnlyAddressBook addressBook) {
+            this.child = child;
+            this.residual = residual;
+            this.addressBook = addressBook;
+        }
+
+        @Override
+        Set<PersonId> produce() {
+            Set<PersonId> rows = new HashSet<>();
+            if (child instanceof FullScan scan) {
+                // the persons are at hand, so there is no need to look their ids up
+                for (Person person : scan.scan()) {
+                    if (residual.test(person, addressBook)) {
+                        rows.add(person.getId());
+                    }
+                }
+                return rows;
+            }
+            for (PersonId id : child.execute()) {
+                Optional<Person> person = addressBook.getPersonWithId(id);
+                if (person.isPresent() && residual.test(person.get(), addressBook)) {
+                    rows.add(id);
+                }
+            }
+            return rows;
+        }
+
+        @Override
+        int estimateRowCount() {
+            return child.estimateRowCount();
+        }
+
+        @Override
+        String describe() {
+            return "Filter [" + residual + "]";
+        }
+
+        @Override
+        List<QueryPlan> getChildren() {
+            return List.of(child);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.query.QueryExpression.And;
+import seedu.address.model.query.QueryExpression.Condition;
+import seedu.address.model.query.QueryExpression.Or;
+import seedu.address.model.query.QueryExpression.Related;
+import seedu.address.model.query.QueryPlan.Filter;
+import seedu.address.model.query.QueryPlan.FullScan;
+import seedu.address.model.query.QueryPlan.IndexLookup;
+import seedu.address.model.query.QueryPlan.Intersect;
+import seedu.address.model.query.QueryPlan.LinkLookup;
+import seedu.address.model.query.QueryPlan.Union;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Chooses the {@link QueryPlan} for a {@link QueryExpression}, which answers as much of the query as it can from the
+ * indexes of a model before testing persons against the rest.
+ * <p>
+ * These conditions are looked up in an index:
+ * <ul>
+ * <li>{@code tag:} in the postings of the tag,</li>
+ * <li>{@code name:} in the name index, word by word, by prefix for the words that end with a wildcard,</li>
+ * <li>{@code email:} and {@code phone:} without a wildcard in the email and phone indexes.</li>
+ * </ul>
+ * The operands of an {@code and} that can be looked up are intersected, and only the persons left are tested against
+ * the other operands. An {@code or} is looked up only if all of its operands can be; a relation is looked up if its
+ * inner query can be, by following the links of the persons found. Any other query, such as {@code not}, is tested
+ * against every person.
+ */
+public class QueryPlanner {
+
+    private final Model model;
+
+    /**
+     * Creates a planner that plans queries over the address book of {@code model}.
+     */
+    public QueryPlanner(Model model) {
+        requireNonNull(model);
+        this.model = model;
+    }
+
+    /**
+     * Returns the plan that finds the persons matched by {@code expression}.
+     */
+    public QueryPlan plan(QueryExpression expression) {
+        requireNonNull(expression);
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        QueryPlan access = planAccess(expression, addressBook);
+        return access != null ? access : new Filter(new FullScan(addressBook), expression, addressBook);
+    }
+
+    /**
+     * Returns a plan that finds the persons matched by {@code expression} without a full scan, or null if there is
+     * none.
+     */
+    private QueryPlan planAccess(QueryExpression expression, ReadOnlyAddressBook addressBook) {
+        if (expression instanceof Condition condition) {
+            return planLookup(condition, addressBook);
+        } else if (expression instanceof And and) {
+            return planAnd(and, addressBook);
+        } else if (expression instanceof Or or) {
+            return planOr(or, addressBook);
+        } else if (expression instanceof Related related) {
+            QueryPlan inner = planAccess(related.getOperand(), addressBook);
+            return inner == null ? null : new LinkLookup(related.getRelation(), inner, addressBook);
+        }
+        return null;
+    }
+
+    private QueryPlan planAnd(And and, ReadOnlyAddressBook addressBook) {
+        List<QueryPlan> lookups = new ArrayList<>();
+        List<QueryExpression> residuals = new ArrayList<>();
+        for (QueryExpression operand : and.getOperands()) {
+            QueryPlan lookup = planAccess(operand, addressBook);
+            if (lookup != null) {
+                lookups.add(lookup);
+            } else {
+                residuals.add(operand);
+            }
+        }
+        if (lookups.isEmpty()) {
+            return null;
+        }
+
+        QueryPlan access = lookups.size() == 1 ? lookups.get(0) : new Intersect(lookups);
+        return residuals.isEmpty() ? access : new Filter(access, QueryExpression.and(residuals), addressBook);
+    }
+
+    private QueryPlan planOr(Or or, ReadOnlyAddressBook addressBook) {
+        List<QueryPlan> lookups = new ArrayList<>();
+        for (QueryExpression operand : or.getOperands()) {
+            QueryPlan lookup = planAccess(operand, addressBook);
+            if (lookup == null) {
+                // the operand would need a full scan anyway, which answers the other operands as well
+                return null;
+            }
+            lookups.add(lookup);
+        }
+        return new Union(lookups);
+    }
+
+    private QueryPlan planLookup(Condition condition, ReadOnlyAddressBook addressBook) {
+        String text = condition.toString();
+        switch (condition.getField()) {
+        case TAG:
+            Tag tag = new Tag(condition.getKey());
+            return new IndexLookup("Tag", text, () -> addressBook.getTagList().getStudentsWithTag(tag));
+        case NAME:
+            return planNameLookup(condition);
+        case EMAIL:
+            if (condition.isPrefix() || !Email.isValidEmail(condition.getKey())) {
+                return null;
+            }
+            Email email = new Email(condition.getKey());
+            return new IndexLookup("Email", text, () -> toIds(model.getPersonsWithEmail(email)));
+        case PHONE:
+            if (condition.isPrefix() || !Phone.isValidPhone(condition.getKey())) {
+                return null;
+            }
+            Phone phone = new Phone(condition.getKey());
+            return new IndexLookup("Phone", text, () -> toIds(model.getPersonsWithPhone(phone)));
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Returns a plan that looks each word of a name condition up in the name index and intersects the postings.
+     */
+    private QueryPlan planNameLookup(Condition condition) {
+        List<QueryPlan> lookups = new ArrayList<>();
+        for (String word : condition.getNameWords()) {
+            Collection<String> keys = List.of(QueryExpression.withoutWildcard(word));
+            lookups.add(word.endsWith(QueryExpression.PREFIX_WILDCARD)
+                    ? new IndexLookup("Name prefix", "name:" + word, () -> model.getPersonIdsWithNamePrefixes(keys))
+                    : new IndexLookup("Name token", "name:" + word, () -> model.getPersonIdsWithNameKeywords(keys)));
+        }
+        return lookups.size() == 1 ? lookups.get(0) : new Intersect(lookups);
+    }
+
+    private static Set<PersonId> toIds(Collection<Person> persons) {
+        Set<PersonId> ids = new HashSet<>();
+        for (Person person : persons) {
+            ids.add(person.getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+
+/**
+ * A relation between linked persons that a query can follow, written as {@code RELATION(QUERY)} in a query to match
+ * the persons linked to someone in that relation who matches the inner query.
+ */
+public enum QueryRelation {
+    PARENT("parent"),
+    CHILD("child"),
+    LINKED("linked");
+
+    private final String keyword;
+
+    QueryRelation(String keyword) {
+        this.keyword = keyword;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns the relation written as {@code keyword} (case-insensitive) in a query, if any.
+     */
+    public static Optional<QueryRelation> fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        for (QueryRelation relation : values()) {
+            if (relation.keyword.equalsIgnoreCase(keyword)) {
+                return Optional.of(relation);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns true if {@code linkedPerson}, who is linked to some person, stands in this relation to that person.
+     */
+    boolean includes(Person linkedPerson) {
+        switch (this) {
+        case PARENT:
+            return linkedPerson instanceof Parent;
+        case CHILD:
+            return linkedPerson instanceof Student;
+        default:
+            return true;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -14,6 +16,8 @@ public class Tag {
     It should be between 1 to 30 characters long.""";
     public static final String VALIDATION_REGEX = "[\\p{Alnum}_]{1,30}";
 
+    private static final int MAX_LENGTH = 30;
+
     public final String tagName;
 
     /**
@@ -25,14 +29,47 @@ public class Tag {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         // Normalize to capitalize first letter
-        this.tagName = tagName.substring(0, 1).toUpperCase() + tagName.substring(1).toLowerCase();
+        this.tagName = isNormalized(tagName)
+                ? tagName
+                : tagName.substring(0, 1).toUpperCase(Locale.ROOT) + tagName.substring(1).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns true if the valid tag name {@code tagName} is already capitalized as tag names are stored,
+     * such as when it is loaded from storage, so that no new string needs to be created for it.
+     */
+    private static boolean isNormalized(String tagName) {
+        char first = tagName.charAt(0);
+        if (first >= 'a' && first <= 'z') {
+            return false;
+        }
+        for (int i = 1; i < tagName.length(); i++) {
+            char c = tagName.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // a hand-written equivalent of VALIDATION_REGEX
+        int length = test.length();
+        if (length == 0 || length > MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = test.charAt(i);
+            boolean isAllowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '_';
+            if (!isAllowed) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -2,19 +2,29 @@ package seedu.address.model.tag;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Student;
 import seedu.address.model.tag.exceptions.TagNotFoundException;
 
 /**
- * A hashmap that maps each unique Tag to an ObservableList of Student objects.
+ * A hashmap that maps each unique Tag to the ids of the Student objects carrying it.
  * Enforces uniqueness of tags and non-null constraints.
+ *
+ * The set of tag types (the tags a user may assign) is kept apart from the student index, as a student may carry
+ * a tag that is not a tag type yet. The student index holds every tag carried by the students recorded with
+ * {@link #indexStudent(Person)}, so a tag can be resolved to its students without scanning the address book.
  */
 public class UniqueTagList {
     private final Set<Tag> tagSet = new HashSet<>();
+    private final Map<Tag, Set<PersonId>> studentsByTag = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent tag as the given argument.
@@ -95,11 +105,75 @@ public class UniqueTagList {
 
     /**
      * Deletes multiple tag types from the map.
+     * Returns the ids of the students that carry any of the deleted tags.
+     * The student index is left unchanged, as those students still carry the tags until they are replaced.
      */
-    public void deleteTagTypes(Set<Tag> tagsToDelete) {
+    public Set<PersonId> deleteTagTypes(Set<Tag> tagsToDelete) {
         requireNonNull(tagsToDelete);
         for (Tag toDelete : tagsToDelete) {
             tagSet.remove(toDelete);
         }
+        return getStudentsWithAnyTag(tagsToDelete);
+    }
+
+    /**
+     * Records {@code person} under each of its tags if it is a student.
+     */
+    public void indexStudent(Person person) {
+        requireNonNull(person);
+        if (!(person instanceof Student student)) {
+            return;
+        }
+        for (Tag tag : student.getTags()) {
+            studentsByTag.computeIfAbsent(tag, unused -> new HashSet<>()).add(student.getId());
+        }
+    }
+
+    /**
+     * Removes {@code person} from the student index if it is a student.
+     * {@code person} must carry the tags it had when it was indexed.
+     */
+    public void unindexStudent(Person person) {
+        requireNonNull(person);
+        if (!(person instanceof Student student)) {
+            return;
+        }
+        for (Tag tag : student.getTags()) {
+            Set<PersonId> students = studentsByTag.get(tag);
+            if (students != null) {
+                students.remove(student.getId());
+                if (students.isEmpty()) {
+                    studentsByTag.remove(tag);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every student from the student index. Tag types are kept.
+     */
+    public void clearStudents() {
+        studentsByTag.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of the ids of the students carrying {@code tag}.
+     */
+    public Set<PersonId> getStudentsWithTag(Tag tag) {
+        requireNonNull(tag);
+        Set<PersonId> students = studentsByTag.get(tag);
+        return students == null ? Collections.emptySet() : Collections.unmodifiableSet(students);
+    }
+
+    /**
+     * Returns the ids of the students carrying at least one of {@code tags}.
+     */
+    public Set<PersonId> getStudentsWithAnyTag(Collection<Tag> tags) {
+        requireNonNull(tags);
+        Set<PersonId> students = new HashSet<>();
+        for (Tag tag : tags) {
+            students.addAll(getStudentsWithTag(tag));
+        }
+        return students;
     }
 }
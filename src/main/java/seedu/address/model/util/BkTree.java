@@ -0,0 +1,175 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A set of words that finds the words within a given edit distance of a query without comparing the query with
+ * every word.
+ * <p>
+ * The words are kept in a Burkhard-Keller tree: each child of a node is filed under its edit distance to the node.
+ * Edit distance obeys the triangle inequality, so a word within {@code r} edits of a query that is {@code d} edits
+ * from a node can only lie below the children filed under {@code d - r} to {@code d + r}. A search therefore
+ * computes the distance to a small part of the words, how small depending on {@code r}.
+ * <p>
+ * A removed word is only marked as removed, since the words below it are filed under their distance to it. The
+ * tree is rebuilt from the words it still holds once more than half of its nodes are removed words.
+ */
+public class BkTree {
+
+    private Node root;
+    private int size;
+    private int removedCount;
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds {@code word} to the set. Returns false if the set already contains it.
+     */
+    public boolean add(String word) {
+        requireNonNull(word);
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return true;
+        }
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.editDistance(word, node.word);
+            if (distance == 0) {
+                if (!node.isRemoved) {
+                    return false;
+                }
+                node.isRemoved = false;
+                removedCount--;
+                size++;
+                return true;
+            }
+            Node child = node.child(distance);
+            if (child == null) {
+                node.setChild(distance, new Node(word));
+                size++;
+                return true;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Removes {@code word} from the set. Returns false if the set does not contain it.
+     */
+    public boolean remove(String word) {
+        requireNonNull(word);
+        Node node = root;
+        while (node != null) {
+            int distance = StringUtil.editDistance(word, node.word);
+            if (distance == 0) {
+                break;
+            }
+            node = node.child(distance);
+        }
+        if (node == null || node.isRemoved) {
+            return false;
+        }
+        node.isRemoved = true;
+        removedCount++;
+        size--;
+        if (removedCount > size) {
+            rebuild();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the words within {@code maxDistance} edits of {@code query}, each with its distance to the query.
+     */
+    public Map<String, Integer> search(String query, int maxDistance) {
+        requireNonNull(query);
+        checkArgument(maxDistance >= 0, "The distance should not be negative.");
+        Map<String, Integer> result = new HashMap<>();
+        if (root == null) {
+            return result;
+        }
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = StringUtil.editDistance(query, node.word);
+            if (distance <= maxDistance && !node.isRemoved) {
+                result.put(node.word, distance);
+            }
+            int last = Math.min(distance + maxDistance, node.children.length - 1);
+            for (int d = Math.max(1, distance - maxDistance); d <= last; d++) {
+                if (node.children[d] != null) {
+                    pending.push(node.children[d]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Rebuilds the tree from the words that are not removed, dropping the removed ones.
+     */
+    private void rebuild() {
+        List<String> words = new ArrayList<>();
+        if (root != null) {
+            Deque<Node> pending = new ArrayDeque<>();
+            pending.push(root);
+            while (!pending.isEmpty()) {
+                Node node = pending.pop();
+                if (!node.isRemoved) {
+                    words.add(node.word);
+                }
+                for (Node child : node.children) {
+                    if (child != null) {
+                        pending.push(child);
+                    }
+                }
+            }
+        }
+        root = null;
+        size = 0;
+        removedCount = 0;
+        words.forEach(this::add);
+    }
+
+    /**
+     * A word and the subtrees of the words at each distance from it.
+     */
+    private static final class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private final String word;
+        private boolean isRemoved;
+        // indexed by distance; names are short, so this stays small
+        private Node[] children = NO_CHILDREN;
+
+        Node(String word) {
+            this.word = word;
+        }
+
+        Node child(int distance) {
+            return distance < children.length ? children[distance] : null;
+        }
+
+        void setChild(int distance, Node child) {
+            if (distance >= children.length) {
+                children = Arrays.copyOf(children, distance + 1);
+            }
+            children[distance] = child;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.model.util;
+
+/**
+ * Static helpers for sets of positive ints stored in bare {@code int[]} open-addressing tables.
+ * <p>
+ * A table has a power-of-two length, uses linear probing and marks free slots with {@link #EMPTY}, so only
+ * positive keys can be stored. The number of keys in a table is tracked by the caller, which keeps the per-set
+ * overhead down to a single array.
+ */
+final class IntSets {
+
+    static final int EMPTY = 0;
+
+    private static final int MIN_CAPACITY = 2;
+
+    private IntSets() {}
+
+    /**
+     * Returns an empty table with room for {@code expectedSize} keys.
+     */
+    static int[] create(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        return new int[capacity];
+    }
+
+    /**
+     * Returns the slot of {@code key} in a table of length {@code mask + 1} when there are no collisions.
+     */
+    static int slot(int key, int mask) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * Returns true if {@code table} contains {@code key}.
+     */
+    static boolean contains(int[] table, int key) {
+        return indexOf(table, key) >= 0;
+    }
+
+    /**
+     * Adds {@code key}, which must not be in the table yet, to a table holding {@code size} keys.
+     * Returns the table to use from now on, which is a larger copy if the table had to grow.
+     */
+    static int[] add(int[] table, int size, int key) {
+        assert key > 0 && !contains(table, key);
+        int[] target = (size + 1) * 2 > table.length ? rehash(table, table.length * 2) : table;
+        insert(target, key);
+        return target;
+    }
+
+    /**
+     * Removes {@code key} from {@code table}. Returns true if the table contained it.
+     */
+    static boolean remove(int[] table, int key) {
+        int i = indexOf(table, key);
+        if (i < 0) {
+            return false;
+        }
+        int mask = table.length - 1;
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (table[j] == EMPTY) {
+                break;
+            }
+            // move the entry at j back to the free slot i, unless its home slot lies cyclically in (i, j]
+            int home = slot(table[j], mask);
+            boolean staysPut = i <= j ? (i < home && home <= j) : (i < home || home <= j);
+            if (!staysPut) {
+                table[i] = table[j];
+                i = j;
+            }
+        }
+        table[i] = EMPTY;
+        return true;
+    }
+
+    /**
+     * Returns the keys of a table holding {@code size} keys, in table order.
+     */
+    static int[] toArray(int[] table, int size) {
+        int[] keys = new int[size];
+        int n = 0;
+        for (int key : table) {
+            if (key != EMPTY) {
+                keys[n++] = key;
+            }
+        }
+        return keys;
+    }
+
+    private static int indexOf(int[] table, int key) {
+        int mask = table.length - 1;
+        for (int i = slot(key, mask); table[i] != EMPTY; i = (i + 1) & mask) {
+            if (table[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void insert(int[] table, int key) {
+        int mask = table.length - 1;
+        int i = slot(key, mask);
+        while (table[i] != EMPTY) {
+            i = (i + 1) & mask;
+        }
+        table[i] = key;
+    }
+
+    private static int[] rehash(int[] table, int capacity) {
+        int[] grown = new int[capacity];
+        for (int key : table) {
+            if (key != EMPTY) {
+                insert(grown, key);
+            }
+        }
+        return grown;
+    }
+}
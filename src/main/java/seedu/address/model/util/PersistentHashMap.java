@@ -0,0 +1,286 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable hash map that shares structure with the maps it was derived from.
+ * <p>
+ * The map is a hash array mapped trie: each level of the trie takes 5 bits of the key's hash and stores only the
+ * slots in use, found through a 32-bit bitmap. {@link #plus} and {@link #minus} copy the nodes on the path to the
+ * key, at most 7 of them, and share every other node with this map, so deriving a map takes O(1) time and space
+ * for practical purposes while this map stays unchanged. Keys whose hashes are equal are kept together in one leaf.
+ * <p>
+ * Keys and values must not be null. Maps can be read from any thread.
+ */
+public final class PersistentHashMap<K, V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(new Branch(0, new Object[0]), 0);
+
+    private final Branch root;
+    private final int size;
+
+    private PersistentHashMap(Branch root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the value of {@code key}, or null if this map does not contain it.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        requireNonNull(key);
+        int hash = hash(key);
+        Object node = root;
+        for (int shift = 0; node instanceof Branch; shift += BITS) {
+            Branch branch = (Branch) node;
+            int bit = bit(hash, shift);
+            if ((branch.bitmap & bit) == 0) {
+                return null;
+            }
+            node = branch.slots[branch.indexOf(bit)];
+        }
+        Leaf leaf = (Leaf) node;
+        return leaf.hash == hash ? (V) leaf.get(key) : null;
+    }
+
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns a map that also maps {@code key} to {@code value}, or this map if it already does.
+     */
+    public PersistentHashMap<K, V> plus(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        int[] sizeChange = new int[1];
+        Branch newRoot = (Branch) put(root, 0, hash(key), key, value, sizeChange);
+        return newRoot == root ? this : new PersistentHashMap<>(newRoot, size + sizeChange[0]);
+    }
+
+    /**
+     * Returns a map without {@code key}, or this map if it does not contain {@code key}.
+     */
+    public PersistentHashMap<K, V> minus(Object key) {
+        requireNonNull(key);
+        Branch newRoot = (Branch) remove(root, 0, hash(key), key);
+        return newRoot == root ? this : new PersistentHashMap<>(newRoot, size - 1);
+    }
+
+    /**
+     * Performs {@code action} on each key and its value, in no particular order.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        requireNonNull(action);
+        forEach(root, (BiConsumer<Object, Object>) action);
+    }
+
+    private static void forEach(Object node, BiConsumer<Object, Object> action) {
+        if (node instanceof Branch) {
+            for (Object child : ((Branch) node).slots) {
+                forEach(child, action);
+            }
+            return;
+        }
+        Leaf leaf = (Leaf) node;
+        for (int i = 0; i < leaf.keys.length; i++) {
+            action.accept(leaf.keys[i], leaf.values[i]);
+        }
+    }
+
+    /**
+     * Returns {@code node}, at the level that starts at bit {@code shift}, with {@code key} mapped to {@code value}.
+     * Sets {@code sizeChange[0]} to 1 if the key was added.
+     */
+    private static Object put(Object node, int shift, int hash, Object key, Object value, int[] sizeChange) {
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            if (leaf.hash == hash) {
+                return leaf.with(key, value, sizeChange);
+            }
+            // the hashes differ in this level's bits or a later one, so the leaf moves one level down
+            Branch branch = new Branch(bit(leaf.hash, shift), new Object[] {leaf});
+            return put(branch, shift, hash, key, value, sizeChange);
+        }
+
+        Branch branch = (Branch) node;
+        int bit = bit(hash, shift);
+        int index = branch.indexOf(bit);
+        if ((branch.bitmap & bit) == 0) {
+            sizeChange[0] = 1;
+            return branch.inserted(bit, index, new Leaf(hash, new Object[] {key}, new Object[] {value}));
+        }
+        Object child = branch.slots[index];
+        Object newChild = put(child, shift + BITS, hash, key, value, sizeChange);
+        return newChild == child ? branch : branch.replaced(index, newChild);
+    }
+
+    /**
+     * Returns {@code node}, at the level that starts at bit {@code shift}, without {@code key}, or null if nothing
+     * is left of it.
+     */
+    private static Object remove(Object node, int shift, int hash, Object key) {
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            return leaf.hash == hash ? leaf.without(key) : leaf;
+        }
+
+        Branch branch = (Branch) node;
+        int bit = bit(hash, shift);
+        if ((branch.bitmap & bit) == 0) {
+            return branch;
+        }
+        int index = branch.indexOf(bit);
+        Object child = branch.slots[index];
+        Object newChild = remove(child, shift + BITS, hash, key);
+        if (newChild == child) {
+            return branch;
+        }
+        if (newChild == null) {
+            return shift > 0 && branch.slots.length == 1 ? null : branch.removed(bit, index);
+        }
+        if (newChild instanceof Branch && ((Branch) newChild).slots.length == 1
+                && ((Branch) newChild).slots[0] instanceof Leaf) {
+            // a lone leaf moves back up, so that the trie is no deeper than its keys need
+            newChild = ((Branch) newChild).slots[0];
+        }
+        return branch.replaced(index, newChild);
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    /**
+     * An inner node: the children of the slots set in {@code bitmap}, in slot order.
+     */
+    private static final class Branch {
+        private final int bitmap;
+        private final Object[] slots;
+
+        Branch(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        int indexOf(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        Branch inserted(int bit, int index, Object child) {
+            Object[] newSlots = new Object[slots.length + 1];
+            System.arraycopy(slots, 0, newSlots, 0, index);
+            newSlots[index] = child;
+            System.arraycopy(slots, index, newSlots, index + 1, slots.length - index);
+            return new Branch(bitmap | bit, newSlots);
+        }
+
+        Branch replaced(int index, Object child) {
+            Object[] newSlots = slots.clone();
+            newSlots[index] = child;
+            return new Branch(bitmap, newSlots);
+        }
+
+        Branch removed(int bit, int index) {
+            Object[] newSlots = new Object[slots.length - 1];
+            System.arraycopy(slots, 0, newSlots, 0, index);
+            System.arraycopy(slots, index + 1, newSlots, index, newSlots.length - index);
+            return new Branch(bitmap & ~bit, newSlots);
+        }
+    }
+
+    /**
+     * The keys that have the hash {@code hash}, and their values. There is usually one.
+     */
+    private static final class Leaf {
+        private final int hash;
+        private final Object[] keys;
+        private final Object[] values;
+
+        Leaf(int hash, Object[] keys, Object[] values) {
+            this.hash = hash;
+            this.keys = keys;
+            this.values = values;
+        }
+
+        Object get(Object key) {
+            int i = indexOf(key);
+            return i < 0 ? null : values[i];
+        }
+
+        Leaf with(Object key, Object value, int[] sizeChange) {
+            int i = indexOf(key);
+            if (i >= 0) {
+                if (values[i] == value) {
+                    return this;
+                }
+                Object[] newValues = values.clone();
+                newValues[i] = value;
+                return new Leaf(hash, keys, newValues);
+            }
+            sizeChange[0] = 1;
+            Object[] newKeys = Arrays.copyOf(keys, keys.length + 1);
+            Object[] newValues = Arrays.copyOf(values, values.length + 1);
+            newKeys[keys.length] = key;
+            newValues[values.length] = value;
+            return new Leaf(hash, newKeys, newValues);
+        }
+
+        Leaf without(Object key) {
+            int i = indexOf(key);
+            if (i < 0) {
+                return this;
+            }
+            if (keys.length == 1) {
+                return null;
+            }
+            Object[] newKeys = new Object[keys.length - 1];
+            Object[] newValues = new Object[values.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, i);
+            System.arraycopy(keys, i + 1, newKeys, i, newKeys.length - i);
+            System.arraycopy(values, 0, newValues, 0, i);
+            System.arraycopy(values, i + 1, newValues, i, newValues.length - i);
+            return new Leaf(hash, newKeys, newValues);
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (Objects.equals(keys[i], key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+}
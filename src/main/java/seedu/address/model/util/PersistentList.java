@@ -0,0 +1,237 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+/**
+ * An immutable list that shares structure with the lists it was derived from.
+ * <p>
+ * The list is a treap ordered by position: a binary tree in which each node knows the size of its subtree, and
+ * whose shape is kept balanced by giving each node a random priority that is never lower than its children's.
+ * Getting, replacing, inserting and removing an element all take O(log n) expected time, and a derived list copies
+ * only the O(log n) nodes on the path to the changed position, sharing the rest with this list.
+ * <p>
+ * Elements must not be null. Lists can be read from any thread.
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node root;
+
+    private PersistentList(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of {@code elements}, in the same order, built in O(n log n) time.
+     */
+    public static <E> PersistentList<E> of(List<? extends E> elements) {
+        requireNonNull(elements);
+        Object[] array = elements.toArray();
+        for (Object element : array) {
+            requireNonNull(element);
+        }
+        // the tree is built perfectly balanced; handing out random priorities in descending order, parents before
+        // their children, makes it a valid treap without rotating anything
+        int[] priorities = Node.RANDOM.get().ints(array.length).toArray();
+        Arrays.sort(priorities);
+        return new PersistentList<>(build(array, 0, array.length, priorities, new int[] {array.length - 1}));
+    }
+
+    /**
+     * Builds a balanced tree of {@code array[from, to)}, taking the priorities of its nodes from
+     * {@code priorities[next[0]]} downwards.
+     */
+    private static Node build(Object[] array, int from, int to, int[] priorities, int[] next) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        int priority = priorities[next[0]--];
+        Node left = build(array, from, middle, priorities, next);
+        Node right = build(array, middle + 1, to, priorities, next);
+        return new Node(array[middle], priority, left, right);
+    }
+
+    @Override
+    public int size() {
+        return Node.sizeOf(root);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index, size());
+        Node node = root;
+        while (true) {
+            int leftSize = Node.sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return (E) node.element;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with {@code element} at position {@code index} instead of the element there.
+     */
+    public PersistentList<E> with(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size());
+        return new PersistentList<>(replace(root, index, element));
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at position {@code index}, which may be the size of this list.
+     */
+    public PersistentList<E> plus(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size() + 1);
+        Node[] parts = split(root, index);
+        Node single = new Node(element, Node.RANDOM.get().nextInt(), null, null);
+        return new PersistentList<>(merge(merge(parts[0], single), parts[1]));
+    }
+
+    /**
+     * Returns a list with {@code element} appended.
+     */
+    public PersistentList<E> plus(E element) {
+        return plus(size(), element);
+    }
+
+    /**
+     * Returns a list without the element at position {@code index}.
+     */
+    public PersistentList<E> minus(int index) {
+        checkIndex(index, size());
+        Node[] parts = split(root, index);
+        Node[] rest = split(parts[1], 1);
+        return new PersistentList<>(merge(parts[0], rest[1]));
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node> path = new ArrayDeque<>();
+            private Node next = root;
+
+            @Override
+            public boolean hasNext() {
+                return next != null || !path.isEmpty();
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                while (next != null) {
+                    path.push(next);
+                    next = next.left;
+                }
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node node = path.pop();
+                next = node.right;
+                return (E) node.element;
+            }
+        };
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    private static Node replace(Node node, int index, Object element) {
+        int leftSize = Node.sizeOf(node.left);
+        if (index < leftSize) {
+            return node.withChildren(replace(node.left, index, element), node.right);
+        } else if (index > leftSize) {
+            return node.withChildren(node.left, replace(node.right, index - leftSize - 1, element));
+        }
+        return new Node(element, node.priority, node.left, node.right);
+    }
+
+    /**
+     * Splits {@code node} into the tree of its first {@code count} elements and the tree of the rest.
+     */
+    private static Node[] split(Node node, int count) {
+        if (node == null) {
+            return new Node[2];
+        }
+        int leftSize = Node.sizeOf(node.left);
+        if (count <= leftSize) {
+            Node[] parts = split(node.left, count);
+            parts[1] = node.withChildren(parts[1], node.right);
+            return parts;
+        }
+        Node[] parts = split(node.right, count - leftSize - 1);
+        parts[0] = node.withChildren(node.left, parts[0]);
+        return parts;
+    }
+
+    /**
+     * Returns the tree of the elements of {@code left} followed by the elements of {@code right}.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority >= right.priority) {
+            return left.withChildren(left.left, merge(left.right, right));
+        }
+        return right.withChildren(merge(left, right.left), right.right);
+    }
+
+    private static final class Node {
+        private static final ThreadLocal<SplittableRandom> RANDOM = ThreadLocal.withInitial(SplittableRandom::new);
+
+        private final Object element;
+        private final int priority;
+        private final Node left;
+        private final Node right;
+        private final int size;
+
+        Node(Object element, int priority, Node left, Node right) {
+            this.element = element;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + 1 + sizeOf(right);
+        }
+
+        Node withChildren(Node newLeft, Node newRight) {
+            return newLeft == left && newRight == right ? this : new Node(element, priority, newLeft, newRight);
+        }
+
+        static int sizeOf(Node node) {
+            return node == null ? 0 : node.size;
+        }
+    }
+
+}
@@ -1,108 +1,381 @@
 package seedu.address.model.util;
 
+import static seedu.address.model.util.IntSets.EMPTY;
+
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 import javafx.util.Pair;
 import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Student;
 
 /**
  * Represents undirected relationships (links) between Person objects.
+ * Links are keyed by {@code PersonId}, so they survive edits to the linked persons.
+ * <p>
+ * The graph is stored in primitive arrays. Each linked person is a node in an open-addressing table keyed by id,
+ * whose slot holds the node's neighbour ids (an {@link IntSets} table), its degree, whether it is a parent and,
+ * for students, the number of linked parents. Persons without links take up no space.
  */
 public class RelationshipGraph {
 
-    private final Map<Person, Set<Person>> links = new HashMap<>();
+    /** A student can be linked to at most this many parents. */
+    public static final int MAX_PARENTS_PER_STUDENT = 2;
+
+    private static final int INITIAL_NODE_CAPACITY = 16;
+
+    private int[] nodeIds;
+    private int[][] neighbours;
+    private int[] degrees;
+    private byte[] parentCounts;
+    private boolean[] isParent;
+    private int nodeCount;
+    private int modificationCount;
+
+    /**
+     * Creates an empty graph.
+     */
+    public RelationshipGraph() {
+        allocateNodes(INITIAL_NODE_CAPACITY);
+    }
 
     /** Adds a bidirectional link between two persons. Returns true if successful, false if it already exists. */
     public boolean addLink(Person a, Person b) {
-        if (a.equals(b)) {
+        int idA = a.getId().value;
+        int idB = b.getId().value;
+        if (idA == idB) {
             return false; // no self link
         }
 
-        // Identify student and parent roles
-        Person student = a instanceof Student ? a : (b instanceof Student ? b : null);
-        Person parent = a instanceof Parent ? a : (b instanceof Parent ? b : null);
-
-        // Enforce: A student can have at most 2 parents
-        if (student != null) {
-            links.putIfAbsent(student, new HashSet<>());
-            Set<Person> linked = links.get(student);
-
-            long parentCount = linked.stream().filter(p -> p instanceof Parent).count();
-            if (parentCount >= 2) {
-                // reject adding more parents
-                return false;
-            }
+        int slotA = findNode(idA);
+        if (slotA >= 0 && IntSets.contains(neighbours[slotA], idB)) {
+            return false;
         }
 
-        links.putIfAbsent(a, new HashSet<>());
-        links.putIfAbsent(b, new HashSet<>());
+        // Enforce: A student can have at most 2 parents, and a student who has them is not linked any further
+        Person student = a instanceof Student ? a : (b instanceof Student ? b : null);
+        if (student != null && parentCountOf(findNode(student.getId().value)) >= MAX_PARENTS_PER_STUDENT) {
+            return false;
+        }
 
-        boolean addedA = links.get(a).add(b);
-        boolean addedB = links.get(b).add(a);
-        return addedA || addedB;
+        ensureNodeCapacity(nodeCount + 2);
+        slotA = findOrCreateNode(idA, a instanceof Parent);
+        int slotB = findOrCreateNode(idB, b instanceof Parent);
+        addNeighbour(slotA, idB, isParent[slotB]);
+        addNeighbour(slotB, idA, isParent[slotA]);
+        modificationCount++;
+        return true;
     }
 
     /** Removes a bidirectional link between two persons. */
     public boolean removeLink(Person a, Person b) {
-        boolean removed = false;
-        if (links.containsKey(a)) {
-            removed |= links.get(a).remove(b);
-            if (links.get(a).isEmpty()) {
-                links.remove(a);
-            }
+        int idA = a.getId().value;
+        int idB = b.getId().value;
+        int slotA = findNode(idA);
+        int slotB = findNode(idB);
+        if (slotA < 0 || slotB < 0 || !IntSets.contains(neighbours[slotA], idB)) {
+            return false;
         }
-        if (links.containsKey(b)) {
-            removed |= links.get(b).remove(a);
-            if (links.get(b).isEmpty()) {
-                links.remove(b);
-            }
+        removeNeighbour(slotA, idB, isParent[slotB]);
+        removeNeighbour(slotB, idA, isParent[slotA]);
+        removeNodeIfUnlinked(idA);
+        removeNodeIfUnlinked(idB);
+        modificationCount++;
+        return true;
+    }
+
+    /** Returns the ids of the persons linked to the given person. */
+    public Set<PersonId> getLinked(Person person) {
+        int slot = findNode(person.getId().value);
+        if (slot < 0) {
+            return Collections.emptySet();
         }
-        return removed;
+        Set<PersonId> linked = new HashSet<>();
+        for (int id : IntSets.toArray(neighbours[slot], degrees[slot])) {
+            linked.add(new PersonId(id));
+        }
+        return Collections.unmodifiableSet(linked);
     }
 
-    /** Returns linked persons of the given person. */
-    public Set<Person> getLinked(Person person) {
-        return links.getOrDefault(person, new HashSet<>());
+    /** Returns the number of parents linked to the given person. */
+    public int getParentCount(Person person) {
+        return parentCountOf(findNode(person.getId().value));
     }
 
     /** Cleans up all relationships involving this person (called when person is deleted). */
     public void removeAll(Person person) {
-        if (!links.containsKey(person)) {
+        int id = person.getId().value;
+        int slot = findNode(id);
+        if (slot < 0) {
+            return;
+        }
+        boolean wasParent = isParent[slot];
+        int[] linked = IntSets.toArray(neighbours[slot], degrees[slot]);
+        removeNode(slot);
+        for (int other : linked) {
+            removeNeighbour(findNode(other), id, wasParent);
+            removeNodeIfUnlinked(other);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Moves the links of {@code target} to {@code editedPerson}, if the edited person was given a different id.
+     * Persons that keep their id when edited keep their links without any work.
+     */
+    public void replace(Person target, Person editedPerson) {
+        int oldId = target.getId().value;
+        int newId = editedPerson.getId().value;
+        int slot = findNode(oldId);
+        if (oldId == newId || slot < 0) {
             return;
         }
-        for (Person p : new HashSet<>(links.get(person))) {
-            links.get(p).remove(person);
+        assert findNode(newId) < 0 : "the edited person must not have links of its own";
+
+        int[] table = neighbours[slot];
+        int degree = degrees[slot];
+        byte parentCount = parentCounts[slot];
+        boolean parent = isParent[slot];
+        removeNode(slot);
+
+        int newSlot = findOrCreateNode(newId, parent);
+        neighbours[newSlot] = table;
+        degrees[newSlot] = degree;
+        parentCounts[newSlot] = parentCount;
+        for (int other : IntSets.toArray(table, degree)) {
+            int otherSlot = findNode(other);
+            IntSets.remove(neighbours[otherSlot], oldId);
+            neighbours[otherSlot] = IntSets.add(neighbours[otherSlot], degrees[otherSlot] - 1, newId);
         }
-        links.remove(person);
+        modificationCount++;
     }
 
     /** copy the content of param graph into this graph */
     public void copyFrom(RelationshipGraph other) {
-        links.clear();
-        for (Map.Entry<Person, Set<Person>> entry : other.links.entrySet()) {
-            links.put(entry.getKey(), new HashSet<>(entry.getValue()));
+        nodeIds = other.nodeIds.clone();
+        neighbours = new int[other.neighbours.length][];
+        for (int i = 0; i < neighbours.length; i++) {
+            neighbours[i] = other.neighbours[i] == null ? null : other.neighbours[i].clone();
+        }
+        degrees = other.degrees.clone();
+        parentCounts = other.parentCounts.clone();
+        isParent = other.isParent.clone();
+        nodeCount = other.nodeCount;
+        modificationCount++;
+    }
+
+    /** Returns each link once, as a pair of ids with the smaller id first. */
+    public List<Pair<PersonId, PersonId>> getAllLinksAsPairs() {
+        return getLinksNotIn(null);
+    }
+
+    /**
+     * Performs {@code action} on each link once, passing the smaller id first, without collecting the links.
+     */
+    public void forEachLink(BiConsumer<PersonId, PersonId> action) {
+        for (int slot = 0; slot < nodeIds.length; slot++) {
+            int id = nodeIds[slot];
+            if (id == EMPTY) {
+                continue;
+            }
+            for (int linked : neighbours[slot]) {
+                if (linked != EMPTY && id < linked) {
+                    action.accept(new PersonId(id), new PersonId(linked));
+                }
+            }
         }
     }
 
-    public List<Pair<Person, Person>> getAllLinksAsPairs() {
-        List<Pair<Person, Person>> pairs = new ArrayList<>();
-        for (Map.Entry<Person, Set<Person>> entry : links.entrySet()) {
-            for (Person linked : entry.getValue()) {
+    /**
+     * Returns the links of this graph that {@code other} does not have, in the same form as
+     * {@link #getAllLinksAsPairs()}. All links are returned if {@code other} is null.
+     */
+    public List<Pair<PersonId, PersonId>> getLinksNotIn(RelationshipGraph other) {
+        List<Pair<PersonId, PersonId>> pairs = new ArrayList<>();
+        for (int slot = 0; slot < nodeIds.length; slot++) {
+            int id = nodeIds[slot];
+            if (id == EMPTY) {
+                continue;
+            }
+            int otherSlot = other == null ? -1 : other.findNode(id);
+            for (int linked : neighbours[slot]) {
                 // ensure each pair is only recorded once
-                if (entry.getKey().hashCode() < linked.hashCode()) {
-                    pairs.add(new Pair<>(entry.getKey(), linked));
+                if (linked == EMPTY || id > linked) {
+                    continue;
+                }
+                if (otherSlot < 0 || !IntSets.contains(other.neighbours[otherSlot], linked)) {
+                    pairs.add(new Pair<>(new PersonId(id), new PersonId(linked)));
                 }
             }
         }
         return pairs;
     }
 
+    /**
+     * Returns a number that changes whenever the links of this graph change.
+     * Callers can compare it with an earlier value to skip work when nothing changed.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    //// node table
+
+    private int parentCountOf(int slot) {
+        return slot < 0 ? 0 : parentCounts[slot];
+    }
+
+    private void addNeighbour(int slot, int id, boolean neighbourIsParent) {
+        neighbours[slot] = IntSets.add(neighbours[slot], degrees[slot], id);
+        degrees[slot]++;
+        if (neighbourIsParent) {
+            parentCounts[slot]++;
+        }
+    }
+
+    private void removeNeighbour(int slot, int id, boolean neighbourIsParent) {
+        IntSets.remove(neighbours[slot], id);
+        degrees[slot]--;
+        if (neighbourIsParent) {
+            parentCounts[slot]--;
+        }
+    }
+
+    private void removeNodeIfUnlinked(int id) {
+        int slot = findNode(id);
+        if (slot >= 0 && degrees[slot] == 0) {
+            removeNode(slot);
+        }
+    }
+
+    private int findNode(int id) {
+        int mask = nodeIds.length - 1;
+        for (int i = IntSets.slot(id, mask); nodeIds[i] != EMPTY; i = (i + 1) & mask) {
+            if (nodeIds[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the slot of the node with the given id, creating the node if needed.
+     * Callers must have ensured there is capacity for a new node.
+     */
+    private int findOrCreateNode(int id, boolean parent) {
+        int mask = nodeIds.length - 1;
+        int i = IntSets.slot(id, mask);
+        while (nodeIds[i] != EMPTY) {
+            if (nodeIds[i] == id) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        nodeIds[i] = id;
+        neighbours[i] = IntSets.create(1);
+        degrees[i] = 0;
+        parentCounts[i] = 0;
+        isParent[i] = parent;
+        nodeCount++;
+        return i;
+    }
+
+    /**
+     * Removes the node at {@code slot}, shifting later nodes of the same probe sequence back into the gap.
+     */
+    private void removeNode(int slot) {
+        int mask = nodeIds.length - 1;
+        int i = slot;
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (nodeIds[j] == EMPTY) {
+                break;
+            }
+            int home = IntSets.slot(nodeIds[j], mask);
+            boolean staysPut = i <= j ? (i < home && home <= j) : (i < home || home <= j);
+            if (!staysPut) {
+                moveNode(j, i);
+                i = j;
+            }
+        }
+        nodeIds[i] = EMPTY;
+        neighbours[i] = null;
+        nodeCount--;
+    }
+
+    private void moveNode(int from, int to) {
+        nodeIds[to] = nodeIds[from];
+        neighbours[to] = neighbours[from];
+        degrees[to] = degrees[from];
+        parentCounts[to] = parentCounts[from];
+        isParent[to] = isParent[from];
+    }
+
+    private void ensureNodeCapacity(int expectedNodes) {
+        if (expectedNodes * 2 <= nodeIds.length) {
+            return;
+        }
+        int[] oldIds = nodeIds;
+        int[][] oldNeighbours = neighbours;
+        int[] oldDegrees = degrees;
+        byte[] oldParentCounts = parentCounts;
+        boolean[] oldIsParent = isParent;
+
+        int capacity = nodeIds.length;
+        while (expectedNodes * 2 > capacity) {
+            capacity <<= 1;
+        }
+        allocateNodes(capacity);
+        nodeCount = 0;
+        for (int from = 0; from < oldIds.length; from++) {
+            if (oldIds[from] == EMPTY) {
+                continue;
+            }
+            int to = findOrCreateNode(oldIds[from], oldIsParent[from]);
+            neighbours[to] = oldNeighbours[from];
+            degrees[to] = oldDegrees[from];
+            parentCounts[to] = oldParentCounts[from];
+        }
+    }
+
+    private void allocateNodes(int capacity) {
+        nodeIds = new int[capacity];
+        neighbours = new int[capacity][];
+        degrees = new int[capacity];
+        parentCounts = new byte[capacity];
+        isParent = new boolean[capacity];
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RelationshipGraph)) {
+            return false;
+        }
 
+        RelationshipGraph otherGraph = (RelationshipGraph) other;
+        return new HashSet<>(getAllLinksAsPairs()).equals(new HashSet<>(otherGraph.getAllLinksAsPairs()));
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashSet<>(getAllLinksAsPairs()).hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getCanonicalName() + "{links=" + Arrays.toString(getAllLinksAsPairs().toArray()) + "}";
+    }
 }
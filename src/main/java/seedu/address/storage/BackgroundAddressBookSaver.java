@@ -0,0 +1,203 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} on a background thread.
+ * <p>
+ * {@link #requestSave(ReadOnlyAddressBook)} only takes a snapshot of the address book, which takes O(1) time, and
+ * returns. The snapshot is written once no further save has been requested for the debounce delay, so a burst of
+ * changes results in a single write of the latest snapshot. Writes happen one at a time, in the order they were
+ * requested. A failed write is kept until it is collected with {@link #takeFailure()}, and its snapshot is written
+ * again after a delay that doubles with each failure in a row, unless a newer snapshot has been requested since.
+ * <p>
+ * The changes passed with each request are accumulated until they have been written, so that the storage is
+ * given every change since its last successful write, even when a write fails or snapshots are replaced.
+ */
+public class BackgroundAddressBookSaver {
+
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 200;
+    public static final long MIN_RETRY_DELAY_MILLIS = 1000;
+    public static final long MAX_RETRY_DELAY_MILLIS = 60_000;
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final long debounceMillis;
+    private final ScheduledThreadPoolExecutor writer;
+
+    // guarded by this
+    private ReadOnlyAddressBook pending;
+    private AddressBookChanges unsavedChanges = AddressBookChanges.NONE;
+    private long lastRequestTime;
+    private boolean isWriteScheduled;
+    private IOException failure;
+    private long retryDelayMillis = MIN_RETRY_DELAY_MILLIS;
+
+    /**
+     * Creates a {@code BackgroundAddressBookSaver} that writes to {@code storage} with the default debounce delay.
+     */
+    public BackgroundAddressBookSaver(AddressBookStorage storage) {
+        this(storage, DEFAULT_DEBOUNCE_MILLIS);
+    }
+
+    /**
+     * Creates a {@code BackgroundAddressBookSaver} that writes to {@code storage} once no save has been requested
+     * for {@code debounceMillis} milliseconds.
+     */
+    public BackgroundAddressBookSaver(AddressBookStorage storage, long debounceMillis) {
+        requireNonNull(storage);
+        checkArgument(debounceMillis >= 0, "Debounce delay should not be negative.");
+        this.storage = storage;
+        this.debounceMillis = debounceMillis;
+
+        writer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // let the writer thread end while there is nothing to save
+        writer.setKeepAliveTime(1, TimeUnit.SECONDS);
+        writer.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook} to be saved in full, replacing any snapshot that is still waiting
+     * to be saved. Must be called from the thread that modifies {@code addressBook}.
+     */
+    public void requestSave(ReadOnlyAddressBook addressBook) {
+        requestSave(addressBook, AddressBookChanges.ALL);
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook} to be saved, replacing any snapshot that is still waiting to be
+     * saved.
+     * {@code changes} are the changes made to {@code addressBook} since the previous request.
+     * Must be called from the thread that modifies {@code addressBook}.
+     */
+    public void requestSave(ReadOnlyAddressBook addressBook, AddressBookChanges changes) {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+
+        synchronized (this) {
+            pending = snapshot;
+            unsavedChanges = unsavedChanges.merge(changes);
+            lastRequestTime = System.nanoTime();
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                writer.schedule(this::writeWhenSettled, debounceMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Writes the pending snapshot if no save has been requested for the debounce delay, or checks again later.
+     */
+    private void writeWhenSettled() {
+        long remainingNanos;
+        synchronized (this) {
+            remainingNanos = lastRequestTime + TimeUnit.MILLISECONDS.toNanos(debounceMillis) - System.nanoTime();
+            if (remainingNanos > 0) {
+                writer.schedule(this::writeWhenSettled, remainingNanos, TimeUnit.NANOSECONDS);
+                return;
+            }
+            isWriteScheduled = false;
+        }
+        writePending();
+    }
+
+    /**
+     * Writes the snapshot waiting to be saved, if any. If the write fails, the snapshot is kept to be written again
+     * later, unless a newer one has been requested meanwhile. Only called on the writer thread.
+     */
+    private void writePending() {
+        ReadOnlyAddressBook toSave;
+        AddressBookChanges changes;
+        synchronized (this) {
+            toSave = pending;
+            changes = unsavedChanges;
+            pending = null;
+            unsavedChanges = AddressBookChanges.NONE;
+        }
+        if (toSave == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBookChanges(toSave, changes);
+            synchronized (this) {
+                retryDelayMillis = MIN_RETRY_DELAY_MILLIS;
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save address book: " + StringUtil.getDetails(e));
+            synchronized (this) {
+                failure = e;
+                // the next write has to cover these changes as well
+                unsavedChanges = changes.merge(unsavedChanges);
+                if (pending == null) {
+                    pending = toSave;
+                }
+                if (!isWriteScheduled) {
+                    isWriteScheduled = true;
+                    writer.schedule(this::writeWhenSettled, retryDelayMillis, TimeUnit.MILLISECONDS);
+                    retryDelayMillis = Math.min(retryDelayMillis * 2, MAX_RETRY_DELAY_MILLIS);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the snapshot waiting to be saved without waiting for the debounce delay, and returns once all saves
+     * requested so far have been written or have failed.
+     */
+    public void flush() {
+        try {
+            writer.submit(this::writePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Flushes all requested saves and stops the writer thread. If the latest snapshot still cannot be written, it is
+     * tried once more before giving up, and the failure is left to be collected with {@link #takeFailure()}.
+     * No saves can be requested afterwards.
+     */
+    public void shutdown() {
+        flush();
+        if (hasPending()) {
+            flush();
+        }
+        writer.shutdownNow();
+    }
+
+    private synchronized boolean hasPending() {
+        return pending != null;
+    }
+
+    /**
+     * Returns the failure of the last save that failed since the previous call, if any.
+     */
+    public synchronized Optional<IOException> takeFailure() {
+        Optional<IOException> lastFailure = Optional.ofNullable(failure);
+        failure = null;
+        return lastFailure;
+    }
+
+}
@@ -0,0 +1,346 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ * <p>
+ * The snapshot starts with {@link #MAGIC} and {@link #FORMAT_VERSION}, followed by a table of every distinct string
+ * in the address book, the tag types, the persons and the links. Persons and tag types refer to strings by their
+ * position in the table and links refer to persons by id, so a value shared by many persons is stored once.
+ * All strings are length-prefixed UTF-8 and all numbers are big-endian ints.
+ * <p>
+ * The snapshot is read into a heap buffer in one read and decoded from it, without an intermediate representation
+ * of the persons, which skips the parsing and field-by-field validation of JSON. It is not memory-mapped: decoding
+ * copies every value out of the buffer anyway, so mapping would save only the one read, and the snapshot is
+ * replaced on every save, which Windows refuses while a mapping of the file lives.
+ * If there is no snapshot yet, the address book is imported from {@code importStorage} instead, so that data saved
+ * in another format (e.g. JSON) is picked up and written as a snapshot on the next save.
+ * <p>
+ * The app keeps the address book in a binary snapshot if the {@code addressBookFormat} of its config is
+ * {@code BINARY}, and otherwise only reads one to import it.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The first four bytes of every snapshot, "CCAB". */
+    public static final int MAGIC = 0x43434142;
+    public static final int FORMAT_VERSION = 1;
+    public static final String SNAPSHOT_FILE_EXTENSION = ".bin";
+
+    public static final String MESSAGE_NOT_A_SNAPSHOT = "File is not an address book snapshot.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Snapshot format version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED_SNAPSHOT = "Snapshot is truncated or corrupted.";
+
+    // the largest array a heap buffer can wrap
+    private static final long MAX_SNAPSHOT_SIZE = Integer.MAX_VALUE - 8;
+
+    private static final byte ROLE_STUDENT = 0;
+    private static final byte ROLE_PARENT = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final AddressBookStorage importStorage;
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for the snapshot at {@code filePath}.
+     */
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for the snapshot at {@code filePath} that imports the address book
+     * from {@code importStorage} while there is no snapshot.
+     */
+    public BinaryAddressBookStorage(Path filePath, AddressBookStorage importStorage) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.importStorage = importStorage;
+    }
+
+    /**
+     * Returns the path of the snapshot kept for the data file at {@code dataFilePath}, which has the extension of
+     * the data file (if any) replaced by {@link #SNAPSHOT_FILE_EXTENSION}.
+     */
+    public static Path getSnapshotFilePath(Path dataFilePath) {
+        String fileName = dataFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return dataFilePath.resolveSibling(baseName + SNAPSHOT_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            if (importStorage != null && filePath.equals(this.filePath)) {
+                logger.info("No snapshot at " + filePath + ", importing " + importStorage.getAddressBookFilePath());
+                return importStorage.readAddressBook();
+            }
+            return Optional.empty();
+        }
+
+        try {
+            if (Files.size(filePath) > MAX_SNAPSHOT_SIZE) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_SNAPSHOT);
+            }
+            return Optional.of(decode(ByteBuffer.wrap(Files.readAllBytes(filePath))));
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The snapshot is written to a temporary file that then replaces the snapshot file,
+     * so the snapshot file is never left half-written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.replaceFile(filePath, out -> encode(addressBook, new DataOutputStream(out)));
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the snapshot format.
+     */
+    static void encode(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        for (Tag tag : addressBook.getTags()) {
+            intern(strings, tag.tagName);
+        }
+        for (Person person : addressBook.getPersonList()) {
+            intern(strings, person.getName().fullName);
+            intern(strings, person.getPhone().value);
+            intern(strings, person.getEmail().value);
+            intern(strings, person.getAddress().value);
+            intern(strings, person.getRemark().remarks);
+            if (person instanceof Student) {
+                for (Tag tag : ((Student) person).getTags()) {
+                    intern(strings, tag.tagName);
+                }
+            }
+        }
+
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+
+        out.writeInt(strings.size());
+        for (String string : strings.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        Set<Tag> tags = addressBook.getTags();
+        out.writeInt(tags.size());
+        for (Tag tag : tags) {
+            out.writeInt(strings.get(tag.tagName));
+        }
+
+        out.writeInt(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            out.writeByte(person instanceof Student ? ROLE_STUDENT : ROLE_PARENT);
+            out.writeInt(person.getId().value);
+            out.writeInt(strings.get(person.getName().fullName));
+            out.writeInt(strings.get(person.getPhone().value));
+            out.writeInt(strings.get(person.getEmail().value));
+            out.writeInt(strings.get(person.getAddress().value));
+            out.writeInt(strings.get(person.getRemark().remarks));
+            if (person instanceof Student) {
+                Set<Tag> studentTags = ((Student) person).getTags();
+                out.writeInt(studentTags.size());
+                for (Tag tag : studentTags) {
+                    out.writeInt(strings.get(tag.tagName));
+                }
+            }
+        }
+
+        int[] linkCount = new int[1];
+        addressBook.forEachLink((a, b) -> linkCount[0]++);
+        out.writeInt(linkCount[0]);
+        try {
+            addressBook.forEachLink((a, b) -> {
+                try {
+                    out.writeInt(a.value);
+                    out.writeInt(b.value);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+    }
+
+    private static void intern(Map<String, Integer> strings, String string) {
+        strings.putIfAbsent(string, strings.size());
+    }
+
+    /**
+     * Reads an address book in the snapshot format from {@code buffer}.
+     *
+     * @throws IllegalValueException if {@code buffer} does not hold a valid snapshot.
+     */
+    static AddressBook decode(ByteBuffer buffer) throws IllegalValueException {
+        try {
+            if (buffer.remaining() < 4 || buffer.getInt() != MAGIC) {
+                throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+            }
+            int version = buffer.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            String[] strings = new String[readCount(buffer)];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[readCount(buffer)];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            // tags are shared by many students, so each is only created once
+            Tag[] tagsByString = new Tag[strings.length];
+
+            AddressBook addressBook = new AddressBook();
+            int tagCount = readCount(buffer);
+            Set<Tag> tagTypes = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                tagTypes.add(readTag(buffer, strings, tagsByString));
+            }
+            addressBook.addTagTypes(tagTypes);
+
+            int personCount = readCount(buffer);
+            for (int i = 0; i < personCount; i++) {
+                Person person = readPerson(buffer, strings, tagsByString);
+                PersonId.reserve(person.getId());
+                addressBook.addPerson(person);
+            }
+
+            int linkCount = readCount(buffer);
+            for (int i = 0; i < linkCount; i++) {
+                Optional<Person> a = addressBook.getPersonWithId(new PersonId(buffer.getInt()));
+                Optional<Person> b = addressBook.getPersonWithId(new PersonId(buffer.getInt()));
+                if (a.isPresent() && b.isPresent()) {
+                    addressBook.linkPersons(a.get(), b.get());
+                }
+            }
+            return addressBook;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_SNAPSHOT);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        } catch (IllegalArgumentException e) {
+            // a value that the model rejects
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private static Person readPerson(ByteBuffer buffer, String[] strings, Tag[] tagsByString) {
+        byte role = buffer.get();
+        PersonId id = new PersonId(buffer.getInt());
+        Name name = new Name(strings[buffer.getInt()]);
+        Phone phone = new Phone(strings[buffer.getInt()]);
+        Email email = new Email(strings[buffer.getInt()]);
+        Address address = new Address(strings[buffer.getInt()]);
+        Remark remark = new Remark(strings[buffer.getInt()]);
+
+        switch (role) {
+        case ROLE_STUDENT:
+            int tagCount = readCount(buffer);
+            Set<Tag> tags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(readTag(buffer, strings, tagsByString));
+            }
+            return new Student(id, name, phone, email, address, remark, tags);
+        case ROLE_PARENT:
+            return new Parent(id, name, phone, email, address, remark);
+        default:
+            throw new IllegalArgumentException(MESSAGE_CORRUPTED_SNAPSHOT);
+        }
+    }
+
+    private static Tag readTag(ByteBuffer buffer, String[] strings, Tag[] tagsByString) {
+        int index = buffer.getInt();
+        if (tagsByString[index] == null) {
+            tagsByString[index] = new Tag(strings[index]);
+        }
+        return tagsByString[index];
+    }
+
+    /**
+     * Reads a count, which cannot be larger than the bytes left in {@code buffer} for a valid snapshot.
+     */
+    private static int readCount(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return count;
+    }
+
+}
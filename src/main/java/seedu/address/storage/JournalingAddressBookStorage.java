@@ -0,0 +1,444 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javafx.util.Pair;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+/**
+ * An {@code AddressBookStorage} that saves changes by appending them to a journal next to the data file,
+ * instead of rewriting the whole data file on every save.
+ * <p>
+ * Each save of changes (see {@link #saveAddressBookChanges(ReadOnlyAddressBook, AddressBookChanges)}) appends one
+ * {@link JsonAdaptedJournalRecord} per added, edited or deleted person, link and tag type in the changes, without
+ * looking at the rest of the address book, so a save costs time proportional to the size of the change. Every
+ * {@link #DEFAULT_CHECKPOINT_INTERVAL} records, and on every save whose changes are not known, the whole address
+ * book is written to the data file through the wrapped snapshot storage and the journal is cleared.
+ * Appended records are synced to the storage device once per save, so the records of all changes saved together
+ * cost a single sync.
+ * <p>
+ * The records of each save end with a commit record that carries the time of the save, which makes the journal a
+ * log of every change since the last snapshot. Reading the address book loads the data file and replays the
+ * journal on top of it, one committed save at a time, either up to its end or up to a recovery point in time
+ * (see {@link #setRecoveryPoint(Instant)}). Replaying stops at the first record that cannot be applied, keeping
+ * the address book as of the record before, and the next save then writes a snapshot in place of the journal.
+ */
+public class JournalingAddressBookStorage implements AddressBookStorage {
+
+    /** Number of journal records after which the next save writes a full snapshot instead. */
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 1000;
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalingAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final int checkpointInterval;
+    private final Clock clock;
+    private Instant recoveryPoint;
+
+    // The file last saved to (or read from), the names of the persons saved there by id and the records in its journal
+    private Path savedFilePath;
+    private final Map<PersonId, Name> savedNames = new HashMap<>();
+    private int journalRecordCount;
+
+    /**
+     * Creates a {@code JournalingAddressBookStorage} that writes snapshots through {@code snapshotStorage}.
+     */
+    public JournalingAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Creates a {@code JournalingAddressBookStorage} that writes snapshots through {@code snapshotStorage}
+     * once the journal holds {@code checkpointInterval} records.
+     */
+    public JournalingAddressBookStorage(AddressBookStorage snapshotStorage, int checkpointInterval) {
+        this(snapshotStorage, checkpointInterval, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a {@code JournalingAddressBookStorage} that writes snapshots through {@code snapshotStorage}
+     * once the journal holds {@code checkpointInterval} records, and takes the time of each save from {@code clock}.
+     */
+    public JournalingAddressBookStorage(AddressBookStorage snapshotStorage, int checkpointInterval, Clock clock) {
+        requireNonNull(snapshotStorage);
+        requireNonNull(clock);
+        checkArgument(checkpointInterval > 0, "Checkpoint interval should be positive.");
+        this.snapshotStorage = snapshotStorage;
+        this.checkpointInterval = checkpointInterval;
+        this.clock = clock;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the path of the journal kept for the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Makes the next read recover the address book as it was saved at {@code recoveryPoint}, by replaying only the
+     * saves committed at or before it. The next save after that read writes a snapshot, which discards the later
+     * saves for good. A recovery point before the last snapshot recovers the snapshot.
+     */
+    public void setRecoveryPoint(Instant recoveryPoint) {
+        this.recoveryPoint = recoveryPoint;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Instant recoveryPoint = this.recoveryPoint;
+        this.recoveryPoint = null;
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            snapshot.ifPresent(addressBook -> rememberSaved(addressBook, filePath, 0));
+            return snapshot;
+        }
+
+        AddressBook addressBook = snapshot.map(AddressBook::new).orElseGet(AddressBook::new);
+        Replay replay = replayJournal(journalFilePath, addressBook, recoveryPoint);
+        logger.info("Replayed " + replay.appliedCount + " journal records from " + journalFilePath);
+        if (replay.canContinueJournal) {
+            rememberSaved(addressBook, filePath, replay.appliedCount);
+        } else {
+            // the journal holds records that were not applied, so the next save writes a snapshot instead
+            savedFilePath = null;
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalFilePath} to {@code addressBook} in order, one save at a
+     * time, up to the last save committed at or before {@code recoveryPoint} (if not null).
+     * <p>
+     * Replaying stops at the first record that cannot be applied. Records after the last commit record are the
+     * remains of an interrupted save and are ignored, unless the journal has no commit records at all, as journals
+     * written before commit records existed. So is a last line without a line break.
+     */
+    private static Replay replayJournal(Path journalFilePath, AddressBook addressBook, Instant recoveryPoint)
+            throws DataLoadingException {
+        String journal;
+        try {
+            journal = FileUtil.readFromFile(journalFilePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        Replay replay = new Replay();
+        List<JsonAdaptedJournalRecord> uncommitted = new ArrayList<>();
+        boolean hasCommits = false;
+        int lineStart = 0;
+        try {
+            for (int lineEnd = journal.indexOf('\n'); lineEnd >= 0; lineEnd = journal.indexOf('\n', lineStart)) {
+                String line = journal.substring(lineStart, lineEnd);
+                lineStart = lineEnd + 1;
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonAdaptedJournalRecord record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+                if (!record.isCommit()) {
+                    uncommitted.add(record);
+                    continue;
+                }
+                hasCommits = true;
+                if (recoveryPoint != null && record.getCommitTime().isAfter(recoveryPoint)) {
+                    logger.info("Recovering the address book as saved at " + recoveryPoint
+                            + ", ignoring the later saves in " + journalFilePath);
+                    replay.canContinueJournal = false;
+                    return replay;
+                }
+                replay.apply(uncommitted, addressBook);
+            }
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Illegal journal record found in " + journalFilePath + ": " + e.getMessage()
+                    + ". Using the address book as of the " + replay.appliedCount + " records before it.");
+            replay.canContinueJournal = false;
+            return replay;
+        }
+
+        if (lineStart < journal.length()) {
+            logger.warning("Ignoring incomplete last record in journal file " + journalFilePath);
+            replay.canContinueJournal = false;
+        }
+        if (!uncommitted.isEmpty() && hasCommits) {
+            logger.warning("Ignoring " + uncommitted.size() + " records of an interrupted save in journal file "
+                    + journalFilePath);
+            replay.canContinueJournal = false;
+        } else if (!uncommitted.isEmpty()) {
+            try {
+                replay.apply(uncommitted, addressBook);
+            } catch (IllegalValueException e) {
+                logger.warning("Illegal journal record found in " + journalFilePath + ": " + e.getMessage());
+                replay.canContinueJournal = false;
+            }
+        }
+        return replay;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Writes a full snapshot and clears the journal, since the changes since the last save are not known.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        checkpoint(addressBook, filePath);
+    }
+
+    /**
+     * Appends the records of {@code changes} to the journal, reading only the changed persons from
+     * {@code addressBook}. Writes a full snapshot instead if the whole address book was replaced, if the data file is
+     * not the file last saved to or read from, or if the journal would grow past the checkpoint interval.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+
+        Path filePath = getAddressBookFilePath();
+        if (changes.isReplaced() || !filePath.equals(savedFilePath) || !FileUtil.isFileExists(filePath)) {
+            checkpoint(addressBook, filePath);
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = getRecords(addressBook, changes);
+        if (records == null || journalRecordCount + records.size() > checkpointInterval) {
+            checkpoint(addressBook, filePath);
+            return;
+        }
+        if (records.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        lines.append(JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.commit(clock.instant()))).append('\n');
+        try {
+            appendToJournal(getJournalFilePath(filePath), lines.toString());
+        } catch (IOException e) {
+            // the journal may end in part of a record now, so the next save writes a snapshot in its place
+            savedFilePath = null;
+            throw e;
+        }
+
+        savedNames.keySet().removeAll(changes.getRemovedPersonIds());
+        for (PersonId id : changes.getChangedPersonIds()) {
+            Optional<Person> person = addressBook.getPersonWithId(id);
+            if (person.isPresent()) {
+                savedNames.put(id, person.get().getName());
+            } else {
+                savedNames.remove(id);
+            }
+        }
+        journalRecordCount += records.size();
+    }
+
+    /**
+     * Appends {@code lines} to the journal at {@code journalFilePath} and syncs it to the storage device.
+     * If writing fails, the journal is cut back to its length before, so that no part of {@code lines} is left in it.
+     */
+    private static void appendToJournal(Path journalFilePath, String lines) throws IOException {
+        boolean isNewJournal = !Files.exists(journalFilePath);
+        ByteBuffer buffer = ByteBuffer.wrap(lines.getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            long size = channel.size();
+            try {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                try {
+                    channel.truncate(size);
+                } catch (IOException truncateFailure) {
+                    e.addSuppressed(truncateFailure);
+                }
+                throw e;
+            }
+        }
+        if (isNewJournal) {
+            FileUtil.syncDirectory(journalFilePath.toAbsolutePath().getParent());
+        }
+    }
+
+    /**
+     * Writes the whole address book to {@code filePath} and clears its journal.
+     */
+    private void checkpoint(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        logger.fine("Writing snapshot of address book to " + filePath);
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        rememberSaved(addressBook, filePath, 0);
+    }
+
+    /**
+     * Returns the records of {@code changes} to {@code addressBook}, in the order they are to be replayed, or null if
+     * the changes cannot be expressed as journal records.
+     * <p>
+     * Replaying appends the persons that were not saved before to the list, so they must be the last persons of the
+     * list, in order. A person inserted anywhere else, as by undoing the deletion of a saved person, or given a new
+     * id in place, makes this return null.
+     * <p>
+     * Deletions are replayed before edits, so a person may take the name of a person deleted in the same save. Edits
+     * are replayed in no particular order, so an edited person taking the saved name of another edited person, as
+     * when two persons swap names, also makes this return null.
+     */
+    private List<JsonAdaptedJournalRecord> getRecords(ReadOnlyAddressBook addressBook, AddressBookChanges changes) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+
+        // tag types are added first and deleted last, so that persons only ever carry registered tags
+        if (!changes.getAddedTags().isEmpty()) {
+            records.add(JsonAdaptedJournalRecord.addTags(changes.getAddedTags()));
+        }
+
+        int addedCount = 0;
+        List<Person> editedPersons = new ArrayList<>();
+        for (PersonId id : changes.getChangedPersonIds()) {
+            Optional<Person> person = addressBook.getPersonWithId(id);
+            if (person.isEmpty()) {
+                addDeletion(id, records);
+            } else if (savedNames.containsKey(id)) {
+                editedPersons.add(person.get());
+            } else {
+                addedCount++;
+            }
+        }
+        for (PersonId id : changes.getRemovedPersonIds()) {
+            addDeletion(id, records);
+        }
+
+        Map<Name, PersonId> editedSavedNames = new HashMap<>();
+        for (Person person : editedPersons) {
+            editedSavedNames.put(savedNames.get(person.getId()), person.getId());
+        }
+        for (Person person : editedPersons) {
+            PersonId holder = editedSavedNames.get(person.getName());
+            if (holder != null && !holder.equals(person.getId())) {
+                return null;
+            }
+            records.add(JsonAdaptedJournalRecord.editPerson(person));
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        if (addedCount > persons.size()) {
+            return null;
+        }
+        for (int i = persons.size() - addedCount; i < persons.size(); i++) {
+            PersonId id = persons.get(i).getId();
+            if (!changes.getChangedPersonIds().contains(id) || savedNames.containsKey(id)) {
+                return null;
+            }
+            records.add(JsonAdaptedJournalRecord.addPerson(persons.get(i)));
+        }
+
+        for (Pair<PersonId, PersonId> link : changes.getRemovedLinks()) {
+            records.add(JsonAdaptedJournalRecord.unlink(link.getKey(), link.getValue()));
+        }
+        for (Pair<PersonId, PersonId> link : changes.getAddedLinks()) {
+            records.add(JsonAdaptedJournalRecord.link(link.getKey(), link.getValue()));
+        }
+
+        if (!changes.getRemovedTags().isEmpty()) {
+            records.add(JsonAdaptedJournalRecord.deleteTags(changes.getRemovedTags()));
+        }
+        return records;
+    }
+
+    /**
+     * Adds a record deleting the person with {@code id} to {@code records}, unless the person was never saved.
+     */
+    private void addDeletion(PersonId id, List<JsonAdaptedJournalRecord> records) {
+        if (savedNames.containsKey(id)) {
+            records.add(JsonAdaptedJournalRecord.deletePerson(id));
+        }
+    }
+
+    /**
+     * Records {@code addressBook} as the state last saved to {@code filePath}, with {@code journalRecordCount}
+     * records in the journal.
+     */
+    private void rememberSaved(ReadOnlyAddressBook addressBook, Path filePath, int journalRecordCount) {
+        savedFilePath = filePath;
+        savedNames.clear();
+        for (Person person : addressBook.getPersonList()) {
+            savedNames.put(person.getId(), person.getName());
+        }
+        this.journalRecordCount = journalRecordCount;
+    }
+
+    /**
+     * The outcome of replaying a journal.
+     */
+    private static class Replay {
+        private int appliedCount;
+        // false if the journal holds records that were not applied, so that appending to it would lose changes
+        private boolean canContinueJournal = true;
+
+        /**
+         * Applies {@code records} to {@code addressBook} and clears them.
+         */
+        private void apply(List<JsonAdaptedJournalRecord> records, AddressBook addressBook)
+                throws IllegalValueException {
+            for (JsonAdaptedJournalRecord record : records) {
+                record.applyTo(addressBook);
+                appliedCount++;
+            }
+            records.clear();
+        }
+    }
+
+}
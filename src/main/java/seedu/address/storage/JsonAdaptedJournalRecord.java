@@ -0,0 +1,229 @@
+package seedu.address.storage;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Jackson-friendly version of a single change to an {@link AddressBook}, as recorded in the journal of a
+ * {@link JournalingAddressBookStorage}.
+ * <p>
+ * Applying a record is idempotent: a record that has already been applied leaves the address book unchanged.
+ * This allows records that already made it into a snapshot to be replayed again after a crash.
+ * <p>
+ * The records of one save are followed by a commit record, which carries the time of the save and changes nothing
+ * itself. Records without a commit record after them belong to a save that was interrupted.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String MESSAGE_CONFLICTING_PERSON = "Journal record conflicts with an existing person.";
+
+    /**
+     * The kinds of changes that are recorded.
+     */
+    enum Type {
+        ADD_PERSON, EDIT_PERSON, DELETE_PERSON, LINK, UNLINK, ADD_TAGS, DELETE_TAGS, COMMIT
+    }
+
+    private final Type type;
+    private final JsonAdaptedPerson person;
+    private final Integer id;
+    private final JsonAdaptedLink link;
+    private final List<JsonAdaptedTag> tags;
+    private final Long time;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     * Only the fields used by the record's {@code type} are expected to be non-null.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("type") Type type,
+                                    @JsonProperty("person") JsonAdaptedPerson person,
+                                    @JsonProperty("id") Integer id,
+                                    @JsonProperty("link") JsonAdaptedLink link,
+                                    @JsonProperty("tags") List<JsonAdaptedTag> tags,
+                                    @JsonProperty("time") Long time) {
+        this.type = type;
+        this.person = person;
+        this.id = id;
+        this.link = link;
+        this.tags = tags;
+        this.time = time;
+    }
+
+    /**
+     * Returns a record of {@code person} being added.
+     */
+    public static JsonAdaptedJournalRecord addPerson(Person person) {
+        return new JsonAdaptedJournalRecord(Type.ADD_PERSON,
+                JsonSerializableAddressBook.identifyContactType(person), null, null, null, null);
+    }
+
+    /**
+     * Returns a record of the person with the same id as {@code editedPerson} being replaced by it.
+     */
+    public static JsonAdaptedJournalRecord editPerson(Person editedPerson) {
+        return new JsonAdaptedJournalRecord(Type.EDIT_PERSON,
+                JsonSerializableAddressBook.identifyContactType(editedPerson), null, null, null, null);
+    }
+
+    /**
+     * Returns a record of the person with the given {@code id} being deleted.
+     */
+    public static JsonAdaptedJournalRecord deletePerson(PersonId id) {
+        return new JsonAdaptedJournalRecord(Type.DELETE_PERSON, null, id.value, null, null, null);
+    }
+
+    /**
+     * Returns a record of the persons with the given ids being linked.
+     */
+    public static JsonAdaptedJournalRecord link(PersonId a, PersonId b) {
+        return new JsonAdaptedJournalRecord(Type.LINK, null, null, new JsonAdaptedLink(a, b), null, null);
+    }
+
+    /**
+     * Returns a record of the persons with the given ids being unlinked.
+     */
+    public static JsonAdaptedJournalRecord unlink(PersonId a, PersonId b) {
+        return new JsonAdaptedJournalRecord(Type.UNLINK, null, null, new JsonAdaptedLink(a, b), null, null);
+    }
+
+    /**
+     * Returns a record of the given tag types being added.
+     */
+    public static JsonAdaptedJournalRecord addTags(Set<Tag> tags) {
+        return new JsonAdaptedJournalRecord(Type.ADD_TAGS, null, null, null, toAdaptedTags(tags), null);
+    }
+
+    /**
+     * Returns a record of the given tag types being deleted.
+     */
+    public static JsonAdaptedJournalRecord deleteTags(Set<Tag> tags) {
+        return new JsonAdaptedJournalRecord(Type.DELETE_TAGS, null, null, null, toAdaptedTags(tags), null);
+    }
+
+    /**
+     * Returns a record of the preceding records being saved at {@code time}.
+     */
+    public static JsonAdaptedJournalRecord commit(Instant time) {
+        return new JsonAdaptedJournalRecord(Type.COMMIT, null, null, null, null, time.toEpochMilli());
+    }
+
+    /**
+     * Returns true if this is a commit record.
+     */
+    public boolean isCommit() {
+        return type == Type.COMMIT;
+    }
+
+    /**
+     * Returns the time at which the records before this commit record were saved.
+     *
+     * @throws IllegalValueException if the record has no time.
+     */
+    public Instant getCommitTime() throws IllegalValueException {
+        return Instant.ofEpochMilli(requireField(time, "time"));
+    }
+
+    private static List<JsonAdaptedTag> toAdaptedTags(Set<Tag> tags) {
+        return tags.stream().map(JsonAdaptedTag::new).collect(Collectors.toList());
+    }
+
+    /**
+     * Applies the change recorded here to {@code addressBook}.
+     *
+     * @throws IllegalValueException if the record is incomplete or violates data constraints.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        switch (type) {
+        case ADD_PERSON:
+        case EDIT_PERSON:
+            putPerson(addressBook, requireField(person, "person").toModelType());
+            break;
+        case DELETE_PERSON:
+            findPerson(addressBook, requireField(id, "id")).ifPresent(addressBook::removePerson);
+            break;
+        case LINK:
+        case UNLINK:
+            requireField(link, "link");
+            Optional<Person> a = findPerson(addressBook, requireField(link.getAId(), "link"));
+            Optional<Person> b = findPerson(addressBook, requireField(link.getBId(), "link"));
+            if (a.isPresent() && b.isPresent() && type == Type.LINK) {
+                addressBook.linkPersons(a.get(), b.get());
+            } else if (a.isPresent() && b.isPresent()) {
+                addressBook.unlinkPersons(a.get(), b.get());
+            }
+            break;
+        case ADD_TAGS:
+            addressBook.addTagTypes(toModelTags());
+            break;
+        case DELETE_TAGS:
+            Set<Tag> existing = toModelTags();
+            existing.removeIf(tag -> !addressBook.hasTag(tag));
+            addressBook.deleteTagTypes(existing);
+            break;
+        case COMMIT:
+            break;
+        default:
+            throw new AssertionError("Unknown journal record type: " + type);
+        }
+    }
+
+    /**
+     * Adds {@code person} to {@code addressBook}, replacing the person with the same id if there is one.
+     */
+    private static void putPerson(AddressBook addressBook, Person person) throws IllegalValueException {
+        try {
+            Optional<Person> existing = addressBook.getPersonWithId(person.getId());
+            if (existing.isPresent()) {
+                addressBook.setPerson(existing.get(), person);
+            } else {
+                addressBook.addPerson(person);
+            }
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_CONFLICTING_PERSON);
+        }
+    }
+
+    private static Optional<Person> findPerson(AddressBook addressBook, int id) throws IllegalValueException {
+        if (!PersonId.isValidId(id)) {
+            throw new IllegalValueException(PersonId.MESSAGE_CONSTRAINTS);
+        }
+        return addressBook.getPersonWithId(new PersonId(id));
+    }
+
+    private Set<Tag> toModelTags() throws IllegalValueException {
+        Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : requireField(tags, "tags")) {
+            modelTags.add(tag.toModelType());
+        }
+        return modelTags;
+    }
+
+    private static <T> T requireField(T field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return field;
+    }
+}
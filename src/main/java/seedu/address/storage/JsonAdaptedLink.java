@@ -1,50 +1,77 @@
 package seedu.address.storage;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 
 /**
  * Jackson-friendly version of a {@link seedu.address.model.util.RelationshipGraph} link
  * between two {@link seedu.address.model.person.Person} objects.
  * <p>
- * Each link stores the names of two contacts that are connected in the model.
+ * Each link stores the ids of two contacts that are connected in the model.
+ * Files saved before persons had ids store the names of the two contacts instead, which are still read.
  * This class is used to serialize and deserialize link data in {@code ClassConnect.json}.
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class JsonAdaptedLink {
 
+    private final Integer aId;
+    private final Integer bId;
     private final String a;
     private final String b;
 
     /**
-     * Constructs a {@code JsonAdaptedLink} with the specified contact names.
+     * Constructs a {@code JsonAdaptedLink} with the specified contact ids or, for older files, contact names.
      * This constructor is used by Jackson during JSON deserialization.
      *
+     * @param aId The id of the first contact in the link.
+     * @param bId The id of the second contact in the link.
      * @param a The name of the first contact in the link.
      * @param b The name of the second contact in the link.
      */
     @JsonCreator
-    public JsonAdaptedLink(@JsonProperty("a") String a,
+    public JsonAdaptedLink(@JsonProperty("aId") Integer aId,
+                           @JsonProperty("bId") Integer bId,
+                           @JsonProperty("a") String a,
                            @JsonProperty("b") String b) {
+        this.aId = aId;
+        this.bId = bId;
         this.a = a;
         this.b = b;
     }
 
     /**
-     * Constructs a {@code JsonAdaptedLink} from two {@code Person} objects.
-     * The full names of the persons will be stored for serialization.
+     * Constructs a {@code JsonAdaptedLink} from the ids of two linked persons.
      *
-     * @param a The first {@code Person} in the link.
-     * @param b The second {@code Person} in the link.
+     * @param a The id of the first {@code Person} in the link.
+     * @param b The id of the second {@code Person} in the link.
      */
-    public JsonAdaptedLink(Person a, Person b) {
-        this.a = a.getName().fullName;
-        this.b = b.getName().fullName;
+    public JsonAdaptedLink(PersonId a, PersonId b) {
+        this(a.value, b.value, null, null);
     }
 
     /**
-     * Returns the name of the first contact in this link.
+     * Returns the id of the first contact in this link, or null if the link stores names.
+     *
+     * @return The id of the first contact.
+     */
+    public Integer getAId() {
+        return aId;
+    }
+
+    /**
+     * Returns the id of the second contact in this link, or null if the link stores names.
+     *
+     * @return The id of the second contact.
+     */
+    public Integer getBId() {
+        return bId;
+    }
+
+    /**
+     * Returns the name of the first contact in this link, or null if the link stores ids.
      *
      * @return The name of the first contact.
      */
@@ -53,7 +80,7 @@ public class JsonAdaptedLink {
     }
 
     /**
-     * Returns the name of the second contact in this link.
+     * Returns the name of the second contact in this link, or null if the link stores ids.
      *
      * @return The name of the second contact.
      */
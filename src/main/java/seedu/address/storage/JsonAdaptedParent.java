@@ -1,18 +1,11 @@
 package seedu.address.storage;
 
-import java.util.Dictionary;
-
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.model.person.Address;
-import seedu.address.model.person.Email;
-import seedu.address.model.person.Name;
 import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.Phone;
-import seedu.address.model.person.Remark;
 import seedu.address.model.person.Role;
 
 /**
@@ -25,12 +18,20 @@ public class JsonAdaptedParent extends JsonAdaptedPerson {
      */
     @JsonCreator
     public JsonAdaptedParent(@JsonProperty("role") Role role,
+                             @JsonProperty("id") Integer id,
                              @JsonProperty("name") String name,
                              @JsonProperty("phone") String phone,
                              @JsonProperty("email") String email,
                              @JsonProperty("address") String address,
                              @JsonProperty("remark") String remark) {
-        super(role, name, phone, email, address, remark);
+        super(role, id, name, phone, email, address, remark);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedParent} with the given parent details and no id.
+     */
+    public JsonAdaptedParent(Role role, String name, String phone, String email, String address, String remark) {
+        this(role, null, name, phone, email, address, remark);
     }
 
     public JsonAdaptedParent(Person source) {
@@ -39,13 +40,7 @@ public class JsonAdaptedParent extends JsonAdaptedPerson {
 
     @Override
     public Person toModelType() throws IllegalValueException {
-
-        Dictionary<String, Object> fieldSet = setCommonFields();
-
-        return new Parent((Name) fieldSet.get("modelName"),
-                (Phone) fieldSet.get("modelPhone"),
-                (Email) fieldSet.get("modelEmail"),
-                (Address) fieldSet.get("modelAddress"),
-                (Remark) fieldSet.get("modelRemark"));
+        return new Parent(toModelId(), toModelName(), toModelPhone(), toModelEmail(), toModelAddress(),
+                toModelRemark());
     }
 }
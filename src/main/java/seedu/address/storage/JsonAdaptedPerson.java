@@ -1,7 +1,6 @@
 package seedu.address.storage;
 
-import java.util.Dictionary;
-import java.util.Hashtable;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
@@ -11,6 +10,7 @@ import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Remark;
 import seedu.address.model.person.Role;
@@ -34,6 +34,7 @@ abstract class JsonAdaptedPerson {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
     protected Role role;
+    protected Integer id;
     protected String name;
     protected String phone;
     protected String email;
@@ -43,14 +44,17 @@ abstract class JsonAdaptedPerson {
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      * Note: this constructor is intended to be called by subclasses' @JsonCreator.
+     * {@code id} may be null for data saved before persons had ids; a new id is then generated on conversion.
      */
     public JsonAdaptedPerson(Role role,
+                             Integer id,
                              String name,
                              String phone,
                              String email,
                              String address,
                              String remark) {
         this.role = role;
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -64,6 +68,7 @@ abstract class JsonAdaptedPerson {
      */
     public JsonAdaptedPerson(Role personRole, Person source) {
         role = personRole;
+        id = source.getId().value;
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -72,60 +77,70 @@ abstract class JsonAdaptedPerson {
     }
 
     /**
-     * Checks and sets the common fields for both AddStudentCommand and AddParentCommand in a dictionary.
-     * Returns a Dictionary with the validated fields.
-     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     * Returns the model's {@code PersonId} for this person, generating a new id if none was saved.
+     *
+     * @throws IllegalValueException if the saved id is invalid.
      */
-    protected Dictionary<String, Object> setCommonFields() throws IllegalValueException {
-
-        Dictionary<String, Object> fieldSet = new Hashtable<>();
-
-        if (name == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                    Name.class.getSimpleName()));
+    protected PersonId toModelId() throws IllegalValueException {
+        if (id == null) {
+            return PersonId.generate();
         }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        fieldSet.put("modelName", new Name(name));
+        PersonId modelId = toModelValue(id, PersonId::new, PersonId.MESSAGE_CONSTRAINTS);
+        // make sure persons created after loading do not reuse this id
+        PersonId.reserve(modelId);
+        return modelId;
+    }
 
-        if (phone == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                    Phone.class.getSimpleName()));
-        }
-        if (!Phone.isValidPhone(phone)) {
-            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+    /**
+     * Ensures that no id generated later clashes with the saved id of this person, if it has a valid one.
+     */
+    void reserveId() {
+        if (id != null && PersonId.isValidId(id)) {
+            PersonId.reserve(new PersonId(id));
         }
-        fieldSet.put("modelPhone", new Phone(phone));
+    }
 
-        if (email == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                    Email.class.getSimpleName()));
-        }
-        if (!Email.isValidEmail(email)) {
-            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
-        }
-        fieldSet.put("modelEmail", new Email(email));
+    protected Name toModelName() throws IllegalValueException {
+        return toModelValue(requireField(name, Name.class), Name::new, Name.MESSAGE_CONSTRAINTS);
+    }
 
-        if (address == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                    Address.class.getSimpleName()));
-        }
-        if (!Address.isValidAddress(address)) {
-            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
-        }
-        fieldSet.put("modelAddress", new Address(address));
+    protected Phone toModelPhone() throws IllegalValueException {
+        return toModelValue(requireField(phone, Phone.class), Phone::new, Phone.MESSAGE_CONSTRAINTS);
+    }
 
-        // remark may be empty string by convention; ensure non-null and valid
-        if (remark == null) {
-            remark = "";
-        }
-        if (!Remark.isValidRemark(remark)) {
-            throw new IllegalValueException(Remark.MESSAGE_CONSTRAINTS);
+    protected Email toModelEmail() throws IllegalValueException {
+        return toModelValue(requireField(email, Email.class), Email::new, Email.MESSAGE_CONSTRAINTS);
+    }
+
+    protected Address toModelAddress() throws IllegalValueException {
+        return toModelValue(requireField(address, Address.class), Address::new, Address.MESSAGE_CONSTRAINTS);
+    }
+
+    protected Remark toModelRemark() throws IllegalValueException {
+        // remark may be empty string by convention; the Remark constructor treats null as empty
+        return toModelValue(remark, Remark::new, Remark.MESSAGE_CONSTRAINTS);
+    }
+
+    private static <T> T requireField(T field, Class<?> valueClass) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, valueClass.getSimpleName()));
         }
-        fieldSet.put("modelRemark", new Remark(remark));
+        return field;
+    }
 
-        return fieldSet;
+    /**
+     * Returns the model value created from {@code value} by {@code constructor}.
+     * The constructor validates {@code value} itself, so it is not validated beforehand as well.
+     *
+     * @throws IllegalValueException with {@code messageConstraints} if the constructor rejects {@code value}.
+     */
+    static <S, T> T toModelValue(S value, Function<S, T> constructor, String messageConstraints)
+            throws IllegalValueException {
+        try {
+            return constructor.apply(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(messageConstraints);
+        }
     }
 
     /**
@@ -1,7 +1,6 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
-import java.util.Dictionary;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -10,12 +9,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.model.person.Address;
-import seedu.address.model.person.Email;
-import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.Phone;
-import seedu.address.model.person.Remark;
 import seedu.address.model.person.Role;
 import seedu.address.model.person.Student;
 import seedu.address.model.tag.Tag;
@@ -33,18 +27,27 @@ public class JsonAdaptedStudent extends JsonAdaptedPerson {
     @JsonCreator
     public JsonAdaptedStudent(
         @JsonProperty("role") Role role,
+        @JsonProperty("id") Integer id,
         @JsonProperty("name") String name,
         @JsonProperty("phone") String phone,
         @JsonProperty("email") String email,
         @JsonProperty("address") String address,
         @JsonProperty("remark") String remark,
         @JsonProperty("tags") List<JsonAdaptedTag> tags) {
-        super(role, name, phone, email, address, remark);
+        super(role, id, name, phone, email, address, remark);
         if (tags != null) {
             this.tags.addAll(tags);
         }
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedStudent} with the given student details and no id.
+     */
+    public JsonAdaptedStudent(Role role, String name, String phone, String email, String address, String remark,
+            List<JsonAdaptedTag> tags) {
+        this(role, null, name, phone, email, address, remark, tags);
+    }
+
     /**
      * Converts a given {@code Student} into this class for Jackson use.
      */
@@ -57,18 +60,11 @@ public class JsonAdaptedStudent extends JsonAdaptedPerson {
 
     @Override
     public Person toModelType() throws IllegalValueException {
-
-        Dictionary<String, Object> fieldSet = setCommonFields();
-
-        final List<Tag> personTags = new ArrayList<>();
+        final Set<Tag> modelTags = new HashSet<>();
         for (JsonAdaptedTag tag : tags) {
-            personTags.add(tag.toModelType());
+            modelTags.add(tag.toModelType());
         }
-        final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new Student((Name) fieldSet.get("modelName"),
-                (Phone) fieldSet.get("modelPhone"),
-                (Email) fieldSet.get("modelEmail"),
-                (Address) fieldSet.get("modelAddress"),
-                (Remark) fieldSet.get("modelRemark"), modelTags);
+        return new Student(toModelId(), toModelName(), toModelPhone(), toModelEmail(), toModelAddress(),
+                toModelRemark(), modelTags);
     }
 }
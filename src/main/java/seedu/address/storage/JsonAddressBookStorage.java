@@ -9,10 +9,9 @@ import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
-import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.PersonId;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -22,9 +21,20 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath}.
+     * If {@code isPrettyPrinted} is false, the file is written without indentation or line breaks,
+     * which makes it smaller and faster to write.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,18 +55,11 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
-        }
+        // the saved ids are reserved in a first pass, so that the ids generated for persons saved without one
+        // cannot clash with the ids saved after them, without holding back the persons after them in memory
+        Optional<Integer> largestId = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook::readLargestId);
+        largestId.filter(PersonId::isValidId).ifPresent(id -> PersonId.reserve(new PersonId(id)));
+        return JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook::read).map(addressBook -> addressBook);
     }
 
     @Override
@@ -66,6 +69,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The address book is streamed to a temporary file that then replaces the data file,
+     * so the data file is never left half-written.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +78,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonUtil.writeJsonFile(filePath, isPrettyPrinted,
+                generator -> JsonSerializableAddressBook.write(addressBook, generator));
     }
 
 }
@@ -1,19 +1,27 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Student;
 import seedu.address.model.tag.Tag;
 
@@ -24,6 +32,15 @@ import seedu.address.model.tag.Tag;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_PERSON_ID = "Persons list contains persons with the same id.";
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "Address book data should be a JSON object.";
+
+    /** Number of persons from which they are converted on all cores instead of one at a time. */
+    static final int PARALLEL_CONVERSION_THRESHOLD = 4096;
+    /** Number of persons converted by one task when converting on all cores. */
+    private static final int CONVERSION_CHUNK_SIZE = 512;
+    /** Number of persons read from a file before they are converted, which bounds the memory used while reading. */
+    private static final int READ_BATCH_SIZE = 16 * 1024;
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -44,21 +61,52 @@ class JsonSerializableAddressBook {
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
         persons.addAll(source.getPersonList().stream()
-                .map(this::identifyContactType)
+                .map(JsonSerializableAddressBook::identifyContactType)
                 .collect(Collectors.toList()));
 
-        tags.addAll(source.getTagList().getTags()
+        tags.addAll(source.getTags()
                 .stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
 
 
-        if (source instanceof AddressBook) {
-            AddressBook ab = (AddressBook) source;
-            ab.getRelationshipGraph().getAllLinksAsPairs().forEach(
-                    pair -> links.add(new JsonAdaptedLink(pair.getKey(), pair.getValue()))
-            );
+        source.forEachLink((a, b) -> links.add(new JsonAdaptedLink(a, b)));
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} as the same JSON document that this class is serialized to,
+     * converting one person, tag or link at a time instead of building the whole document first.
+     */
+    public static void write(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+
+        generator.writeArrayFieldStart("persons");
+        for (Person person : source.getPersonList()) {
+            generator.writeObject(identifyContactType(person));
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart("tags");
+        for (Tag tag : source.getTags()) {
+            generator.writeObject(new JsonAdaptedTag(tag));
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart("links");
+        try {
+            source.forEachLink((a, b) -> {
+                try {
+                    generator.writeObject(new JsonAdaptedLink(a, b));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
+        generator.writeEndArray();
+
+        generator.writeEndObject();
     }
 
     /**
@@ -66,7 +114,7 @@ class JsonSerializableAddressBook {
      * @param p a Person object
      * @return an instance of the appropriate child class
      */
-    private JsonAdaptedPerson identifyContactType(Person p) {
+    static JsonAdaptedPerson identifyContactType(Person p) {
         if (p instanceof Student) {
             return new JsonAdaptedStudent((Student) p);
         } else {
@@ -81,13 +129,7 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonPerson : persons) {
-            Person p = jsonPerson.toModelType();
-            if (addressBook.hasPerson(p)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(p);
-        }
+        addPersons(addressBook, persons, PARALLEL_CONVERSION_THRESHOLD);
         Set<Tag> newTags = new HashSet<>();
         for (JsonAdaptedTag jsonTag : tags) {
             newTags.add(jsonTag.toModelType());
@@ -96,14 +138,207 @@ class JsonSerializableAddressBook {
 
         // REBUILD LINKS
         for (JsonAdaptedLink jsonLink : links) {
-            Person a = addressBook.findPersonByName(jsonLink.getA());
-            Person b = addressBook.findPersonByName(jsonLink.getB());
-            if (a != null && b != null) {
-                addressBook.linkPersons(a, b);
+            addLink(addressBook, jsonLink);
+        }
+
+        return addressBook;
+    }
+
+    /**
+     * Reads a JSON document in the form this class is serialized to from {@code parser} into the model's
+     * {@code AddressBook} object.
+     * Persons are converted to their model type in batches, and each tag and link as
+     * soon as it is read, so the adapted objects of at most one batch are held in memory at a time.
+     * Persons saved without an id get new ids as their batch is converted, so the ids saved in later batches must
+     * have been reserved before, e.g. with {@link #readLargestId(JsonParser)}.
+     *
+     * @throws IOException if the document could not be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException(MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        Set<Tag> newTags = new HashSet<>();
+        // links can only be rebuilt once all persons are known
+        List<JsonAdaptedLink> linksBeforePersons = new ArrayList<>();
+        boolean hasReadPersons = false;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+
+            switch (fieldName) {
+            case "persons":
+                List<JsonAdaptedPerson> batch = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+                    if (batch.size() == READ_BATCH_SIZE) {
+                        addPersons(addressBook, batch, PARALLEL_CONVERSION_THRESHOLD);
+                        batch.clear();
+                    }
+                }
+                addPersons(addressBook, batch, PARALLEL_CONVERSION_THRESHOLD);
+                hasReadPersons = true;
+                break;
+            case "tags":
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    newTags.add(parser.readValueAs(JsonAdaptedTag.class).toModelType());
+                }
+                break;
+            case "links":
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonAdaptedLink jsonLink = parser.readValueAs(JsonAdaptedLink.class);
+                    if (hasReadPersons) {
+                        addLink(addressBook, jsonLink);
+                    } else {
+                        linksBeforePersons.add(jsonLink);
+                    }
+                }
+                break;
+            default:
+                parser.skipChildren();
             }
         }
 
+        addressBook.addTagTypes(newTags);
+        for (JsonAdaptedLink jsonLink : linksBeforePersons) {
+            addLink(addressBook, jsonLink);
+        }
         return addressBook;
     }
 
+    /**
+     * Reads a JSON document in the form this class is serialized to from {@code parser}, and returns the largest
+     * person id saved in it, or 0 if there is none. Only the ids of the persons are read; everything else is skipped.
+     *
+     * @throws IOException if the document could not be read or is not valid JSON.
+     * @throws IllegalValueException if the document is not an address book.
+     */
+    public static Integer readLargestId(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException(MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+
+        int largestId = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            if (parser.nextToken() != JsonToken.START_ARRAY || !fieldName.equals("persons")) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String personFieldName = parser.getCurrentName();
+                    if (parser.nextToken() == JsonToken.VALUE_NUMBER_INT && personFieldName.equals("id")) {
+                        largestId = Math.max(largestId, parser.getIntValue());
+                    }
+                    parser.skipChildren();
+                }
+            }
+        }
+        return largestId;
+    }
+
+    /**
+     * Converts {@code jsonPersons} and adds them to {@code addressBook} in order.
+     * If there are at least {@code parallelThreshold} persons, they are converted on all cores first and then added
+     * one at a time. Either way, the error reported is the one of the first person in {@code jsonPersons} that is
+     * invalid or clashes with a person added before it.
+     *
+     * @throws IllegalValueException if a person is invalid or clashes with another person.
+     */
+    static void addPersons(AddressBook addressBook, List<JsonAdaptedPerson> jsonPersons, int parallelThreshold)
+            throws IllegalValueException {
+        // persons saved without ids get new ids, which must be generated in file order
+        boolean isParallel = jsonPersons.size() >= parallelThreshold
+                && jsonPersons.stream().allMatch(jsonPerson -> jsonPerson.id != null);
+        if (!isParallel) {
+            // reserve all saved ids first, so that no id generated for a person without one clashes with them
+            for (JsonAdaptedPerson jsonPerson : jsonPersons) {
+                jsonPerson.reserveId();
+            }
+            for (JsonAdaptedPerson jsonPerson : jsonPersons) {
+                addPerson(addressBook, jsonPerson.toModelType());
+            }
+            return;
+        }
+
+        for (Object converted : toModelTypesInParallel(jsonPersons)) {
+            if (converted instanceof IllegalValueException) {
+                throw (IllegalValueException) converted;
+            }
+            addPerson(addressBook, (Person) converted);
+        }
+    }
+
+    /**
+     * Converts {@code jsonPersons} in chunks on all cores. Returns, at the position of each person, either the
+     * converted person or the {@code IllegalValueException} thrown while converting it.
+     * A chunk stops at its first invalid person, and chunks after the first invalid person found so far are skipped,
+     * so positions after the first invalid person may be null.
+     */
+    private static Object[] toModelTypesInParallel(List<JsonAdaptedPerson> jsonPersons) {
+        Object[] converted = new Object[jsonPersons.size()];
+        AtomicInteger firstInvalid = new AtomicInteger(Integer.MAX_VALUE);
+        int chunkCount = (jsonPersons.size() + CONVERSION_CHUNK_SIZE - 1) / CONVERSION_CHUNK_SIZE;
+
+        IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+            int start = chunk * CONVERSION_CHUNK_SIZE;
+            int end = Math.min(start + CONVERSION_CHUNK_SIZE, jsonPersons.size());
+            for (int i = start; i < end && i < firstInvalid.get(); i++) {
+                try {
+                    converted[i] = jsonPersons.get(i).toModelType();
+                } catch (IllegalValueException e) {
+                    converted[i] = e;
+                    firstInvalid.accumulateAndGet(i, Math::min);
+                    return;
+                }
+            }
+        });
+        return converted;
+    }
+
+    /**
+     * Adds {@code person} to {@code addressBook}.
+     *
+     * @throws IllegalValueException if {@code person} clashes with a person in {@code addressBook}.
+     */
+    static void addPerson(AddressBook addressBook, Person person) throws IllegalValueException {
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        if (addressBook.getPersonWithId(person.getId()).isPresent()) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON_ID);
+        }
+        addressBook.addPerson(person);
+    }
+
+    /**
+     * Links the persons {@code jsonLink} refers to in {@code addressBook}, if both exist.
+     */
+    static void addLink(AddressBook addressBook, JsonAdaptedLink jsonLink) {
+        Person a = findLinkedPerson(addressBook, jsonLink.getAId(), jsonLink.getA());
+        Person b = findLinkedPerson(addressBook, jsonLink.getBId(), jsonLink.getB());
+        if (a != null && b != null) {
+            addressBook.linkPersons(a, b);
+        }
+    }
+
+    /**
+     * Returns the person a link refers to, by {@code id} or, for links saved before persons had ids, by
+     * {@code name}. Returns null if there is no such person.
+     */
+    private static Person findLinkedPerson(AddressBook addressBook, Integer id, String name) {
+        if (id != null) {
+            return PersonId.isValidId(id) ? addressBook.getPersonWithId(new PersonId(id)).orElse(null) : null;
+        }
+        return name == null ? null : addressBook.findPersonByName(name);
+    }
+
 }
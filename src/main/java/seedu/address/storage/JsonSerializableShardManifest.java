@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * The manifest of a sharded address book that is serializable to JSON format.
+ * <p>
+ * It names the segment files that make up the address book: one file of tag types, and one file of persons and one
+ * file of links per shard. Segment files are never overwritten; a save writes the changed segments to new files
+ * and then replaces the manifest, so the manifest always names a complete address book.
+ */
+class JsonSerializableShardManifest {
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Shard manifest format version %d is not supported.";
+    public static final String MESSAGE_INVALID_MANIFEST = "Shard manifest does not name a valid set of segment files.";
+
+    /** Segment files are plain file names in the directory of the manifest. */
+    private static final Pattern SEGMENT_FILE_NAME_PATTERN = Pattern.compile("[A-Za-z0-9][A-Za-z0-9.-]*\\.json");
+
+    private final int formatVersion;
+    private final long generation;
+    private final String tagFile;
+    private final List<String> personFiles = new ArrayList<>();
+    private final List<String> linkFiles = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableShardManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonSerializableShardManifest(@JsonProperty("formatVersion") int formatVersion,
+            @JsonProperty("generation") long generation, @JsonProperty("tagFile") String tagFile,
+            @JsonProperty("personFiles") List<String> personFiles,
+            @JsonProperty("linkFiles") List<String> linkFiles) {
+        this.formatVersion = formatVersion;
+        this.generation = generation;
+        this.tagFile = tagFile;
+        if (personFiles != null) {
+            this.personFiles.addAll(personFiles);
+        }
+        if (linkFiles != null) {
+            this.linkFiles.addAll(linkFiles);
+        }
+    }
+
+    public int getFormatVersion() {
+        return formatVersion;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public String getTagFile() {
+        return tagFile;
+    }
+
+    public List<String> getPersonFiles() {
+        return Collections.unmodifiableList(personFiles);
+    }
+
+    public List<String> getLinkFiles() {
+        return Collections.unmodifiableList(linkFiles);
+    }
+
+    /**
+     * Returns the names of all segment files, in the order: tag types, persons of each shard, links of each shard.
+     */
+    public List<String> getSegmentFiles() {
+        List<String> segmentFiles = new ArrayList<>();
+        segmentFiles.add(tagFile);
+        segmentFiles.addAll(personFiles);
+        segmentFiles.addAll(linkFiles);
+        return segmentFiles;
+    }
+
+    public int getShardCount() {
+        return personFiles.size();
+    }
+
+    /**
+     * Checks that this manifest has the format version {@code expectedFormatVersion} and names one person file and
+     * one link file per shard, all of them plain file names.
+     *
+     * @throws IllegalValueException if this manifest cannot be used to read an address book.
+     */
+    public void validate(int expectedFormatVersion) throws IllegalValueException {
+        if (formatVersion != expectedFormatVersion) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, formatVersion));
+        }
+        if (personFiles.isEmpty() || personFiles.size() != linkFiles.size() || !isValidSegmentFileName(tagFile)
+                || !personFiles.stream().allMatch(JsonSerializableShardManifest::isValidSegmentFileName)
+                || !linkFiles.stream().allMatch(JsonSerializableShardManifest::isValidSegmentFileName)) {
+            throw new IllegalValueException(MESSAGE_INVALID_MANIFEST);
+        }
+    }
+
+    private static boolean isValidSegmentFileName(String fileName) {
+        return fileName != null && SEGMENT_FILE_NAME_PATTERN.matcher(fileName).matches();
+    }
+
+}
@@ -0,0 +1,844 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import javafx.util.Pair;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a set of JSON segment files, so that a save only rewrites the
+ * segments that changed.
+ * <p>
+ * Persons are spread over a fixed number of shards by id. Each shard has a segment file of its persons and a segment
+ * file of its links (those whose smaller id falls into the shard), and there is one segment file of tag types.
+ * Every segment is a JSON document in the same form as the JSON data file. A segment of persons also holds the
+ * position of each person in the list, as numbers that increase along the list, so that the list can be put back in
+ * order from the shards. Persons added at the end of the list are numbered after the last one, so that adding them
+ * only rewrites their own shards; anything else that moves persons renumbers them all and rewrites every segment.
+ * A manifest ({@link #MANIFEST_FILE_NAME}) names the current segment files, which are kept in its directory.
+ * <p>
+ * A save compares the address book with the state last saved and writes only the segments that differ, to new files
+ * of the next generation (e.g. {@code persons-03.12.json}) and syncs them to the storage device together. Replacing
+ * the manifest then makes them current in a single move. The manifest it replaces is kept as the previous manifest
+ * (see {@link #getPreviousManifestFilePath(Path)}), and only the segment files that neither manifest names are
+ * deleted, so the address book as of the save before is always still complete on disk.
+ * <p>
+ * Reading reads all segments on all cores. If the segments named by the manifest cannot be read, the address book
+ * named by the previous manifest is read instead. If there is no manifest yet, the address book is imported from
+ * {@code importStorage} instead.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final int FORMAT_VERSION = 1;
+    public static final int DEFAULT_SHARD_COUNT = 16;
+    public static final String SHARD_DIRECTORY_EXTENSION = ".shards";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String PREVIOUS_MANIFEST_FILE_SUFFIX = ".previous";
+
+    public static final String MESSAGE_MISSING_SEGMENT = "Segment file %s named by the shard manifest is missing.";
+    public static final String MESSAGE_INVALID_POSITIONS = "Segment positions should be whole numbers.";
+
+    private static final Pattern SEGMENT_FILE_PATTERN =
+            Pattern.compile("(tags|persons-\\d+|links-\\d+)\\.(\\d+)\\.json");
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final AddressBookStorage importStorage;
+    private final int shardCount;
+
+    // The state last saved to (or read from) savedFilePath, by shard, which the next save is compared with.
+    private Path savedFilePath;
+    private long savedGeneration;
+    private String savedTagFile;
+    private final String[] savedPersonFiles;
+    private final String[] savedLinkFiles;
+    private final List<Map<PersonId, Person>> savedPersons = new ArrayList<>();
+    private final Map<PersonId, Long> savedPositions = new HashMap<>();
+    private long nextPosition;
+    private final List<Set<Pair<PersonId, PersonId>>> savedLinks = new ArrayList<>();
+    private final Set<Tag> savedTags = new HashSet<>();
+
+    // The manifest last read from or written to currentManifestFilePath, which the next save there keeps as the
+    // previous manifest.
+    private Path currentManifestFilePath;
+    private JsonSerializableShardManifest currentManifest;
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} for the manifest at {@code filePath}.
+     */
+    public ShardedAddressBookStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} for the manifest at {@code filePath} that imports the address book
+     * from {@code importStorage} while there is no manifest.
+     */
+    public ShardedAddressBookStorage(Path filePath, AddressBookStorage importStorage) {
+        this(filePath, importStorage, DEFAULT_SHARD_COUNT);
+    }
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} for the manifest at {@code filePath} that imports the address book
+     * from {@code importStorage} while there is no manifest, and spreads persons over {@code shardCount} shards.
+     */
+    public ShardedAddressBookStorage(Path filePath, AddressBookStorage importStorage, int shardCount) {
+        requireNonNull(filePath);
+        checkArgument(shardCount > 0, "Shard count should be positive.");
+        this.filePath = filePath;
+        this.importStorage = importStorage;
+        this.shardCount = shardCount;
+        savedPersonFiles = new String[shardCount];
+        savedLinkFiles = new String[shardCount];
+        for (int shard = 0; shard < shardCount; shard++) {
+            // persons are written in id order, followed by their positions in the list
+            savedPersons.add(new TreeMap<>(Comparator.comparingInt((PersonId id) -> id.value)));
+            savedLinks.add(new LinkedHashSet<>());
+        }
+    }
+
+    /**
+     * Returns the path of the manifest kept for the data file at {@code dataFilePath}, which is in a directory named
+     * after the data file with its extension (if any) replaced by {@link #SHARD_DIRECTORY_EXTENSION}.
+     */
+    public static Path getManifestFilePath(Path dataFilePath) {
+        String fileName = dataFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return dataFilePath.resolveSibling(baseName + SHARD_DIRECTORY_EXTENSION).resolve(MANIFEST_FILE_NAME);
+    }
+
+    /**
+     * Returns the path at which the manifest at {@code filePath} is kept once a save has replaced it.
+     */
+    public static Path getPreviousManifestFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + PREVIOUS_MANIFEST_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Falls back to the previous manifest if the address book named by the manifest at {@code filePath} cannot be
+     * read.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<JsonSerializableShardManifest> optionalManifest;
+        try {
+            optionalManifest = JsonUtil.readJsonFile(filePath, JsonSerializableShardManifest.class);
+        } catch (DataLoadingException e) {
+            return Optional.of(readPreviousAddressBook(filePath, e));
+        }
+        if (optionalManifest.isEmpty()) {
+            if (importStorage != null && filePath.equals(this.filePath)) {
+                logger.info("No shard manifest at " + filePath + ", importing "
+                        + importStorage.getAddressBookFilePath());
+                return importStorage.readAddressBook();
+            }
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(readAddressBook(filePath, optionalManifest.get()));
+        } catch (DataLoadingException e) {
+            return Optional.of(readPreviousAddressBook(filePath, e));
+        }
+    }
+
+    /**
+     * Reads the address book named by the previous manifest of the manifest at {@code filePath}, after reading the
+     * one named by that manifest failed with {@code cause}.
+     *
+     * @throws DataLoadingException {@code cause}, if the previous address book cannot be read either.
+     */
+    private AddressBook readPreviousAddressBook(Path filePath, DataLoadingException cause)
+            throws DataLoadingException {
+        Path previousFilePath = getPreviousManifestFilePath(filePath);
+        try {
+            Optional<JsonSerializableShardManifest> previousManifest =
+                    JsonUtil.readJsonFile(previousFilePath, JsonSerializableShardManifest.class);
+            if (previousManifest.isPresent()) {
+                logger.warning("Shard manifest " + filePath + " could not be loaded, falling back to the previous"
+                        + " manifest " + previousFilePath);
+                return readAddressBook(filePath, previousManifest.get());
+            }
+        } catch (DataLoadingException e) {
+            cause.addSuppressed(e);
+        }
+        throw cause;
+    }
+
+    /**
+     * Reads the address book named by {@code manifest}, whose segment files are next to {@code filePath}, and
+     * remembers it as the state last saved to {@code filePath}.
+     */
+    private AddressBook readAddressBook(Path filePath, JsonSerializableShardManifest manifest)
+            throws DataLoadingException {
+        AddressBook addressBook;
+        Segment[] segments;
+        try {
+            manifest.validate(FORMAT_VERSION);
+            segments = readSegments(filePath, manifest);
+            addressBook = toAddressBook(segments);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        forgetSaved();
+        savedGeneration = Math.max(manifest.getGeneration(), readLatestSegmentGeneration(filePath));
+        if (isShardedAsExpected(manifest, segments)) {
+            rememberSaved(addressBook, filePath);
+            // the shards that are not rewritten keep the positions they were written with
+            savedPositions.clear();
+            nextPosition = 0;
+            for (Segment segment : segments) {
+                for (int i = 0; i < segment.persons.size(); i++) {
+                    savedPositions.put(segment.persons.get(i).getId(), segment.positions.get(i));
+                    nextPosition = Math.max(nextPosition, segment.positions.get(i) + 1);
+                }
+            }
+            savedTagFile = manifest.getTagFile();
+            manifest.getPersonFiles().toArray(savedPersonFiles);
+            manifest.getLinkFiles().toArray(savedLinkFiles);
+        }
+        currentManifestFilePath = filePath;
+        currentManifest = manifest;
+        return addressBook;
+    }
+
+    /**
+     * Reads the segments named by {@code manifest} on all cores, in the order: tag types, persons of each shard,
+     * links of each shard.
+     */
+    private static Segment[] readSegments(Path manifestFilePath, JsonSerializableShardManifest manifest)
+            throws DataLoadingException {
+        List<String> fileNames = manifest.getSegmentFiles();
+
+        Object[] read = new Object[fileNames.size()];
+        IntStream.range(0, read.length).parallel().forEach(i -> {
+            Path segmentFilePath = manifestFilePath.resolveSibling(fileNames.get(i));
+            try {
+                read[i] = JsonUtil.readJsonFile(segmentFilePath, ShardedAddressBookStorage::readSegment)
+                        .orElseThrow(() -> new DataLoadingException(new IllegalValueException(
+                                String.format(MESSAGE_MISSING_SEGMENT, fileNames.get(i)))));
+            } catch (DataLoadingException e) {
+                read[i] = e;
+            }
+        });
+
+        Segment[] segments = new Segment[read.length];
+        for (int i = 0; i < read.length; i++) {
+            if (read[i] instanceof DataLoadingException) {
+                throw (DataLoadingException) read[i];
+            }
+            segments[i] = (Segment) read[i];
+        }
+        return segments;
+    }
+
+    /**
+     * Reads a segment from {@code parser}, converting its persons and tag types to their model types.
+     */
+    private static Segment readSegment(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+
+        Segment segment = new Segment();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+
+            switch (fieldName) {
+            case "persons":
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    segment.persons.add(parser.readValueAs(JsonAdaptedPerson.class).toModelType());
+                }
+                break;
+            case "positions":
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (parser.getCurrentToken() != JsonToken.VALUE_NUMBER_INT) {
+                        throw new IllegalValueException(MESSAGE_INVALID_POSITIONS);
+                    }
+                    segment.positions.add(parser.getLongValue());
+                }
+                break;
+            case "tags":
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    segment.tags.add(parser.readValueAs(JsonAdaptedTag.class).toModelType());
+                }
+                break;
+            case "links":
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    segment.links.add(parser.readValueAs(JsonAdaptedLink.class));
+                }
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        return segment;
+    }
+
+    /**
+     * Puts the persons, tag types and links of {@code segments} together into an address book.
+     *
+     * @throws IllegalValueException if persons in different segments clash.
+     */
+    private static AddressBook toAddressBook(Segment[] segments) throws IllegalValueException {
+        List<Pair<Long, Person>> persons = new ArrayList<>();
+        Set<Tag> tags = new HashSet<>();
+        boolean hasPositions = true;
+        for (Segment segment : segments) {
+            hasPositions &= segment.hasPositions();
+            for (int i = 0; i < segment.persons.size(); i++) {
+                Person person = segment.persons.get(i);
+                persons.add(new Pair<>(segment.hasPositions() ? segment.positions.get(i) : 0L, person));
+            }
+            tags.addAll(segment.tags);
+        }
+        if (hasPositions) {
+            persons.sort(Comparator.comparingLong(person -> person.getKey()));
+        } else {
+            // segments written before positions were kept; persons were mostly added in id order
+            persons.sort(Comparator.comparingInt(person -> person.getValue().getId().value));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        for (Pair<Long, Person> person : persons) {
+            JsonSerializableAddressBook.addPerson(addressBook, person.getValue());
+        }
+        addressBook.addTagTypes(tags);
+        for (Segment segment : segments) {
+            for (JsonAdaptedLink jsonLink : segment.links) {
+                JsonSerializableAddressBook.addLink(addressBook, jsonLink);
+            }
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns true if {@code segments} were split into shards the way this storage splits them, so that rewriting
+     * only some of them keeps the others correct.
+     */
+    private boolean isShardedAsExpected(JsonSerializableShardManifest manifest, Segment[] segments) {
+        if (manifest.getShardCount() != shardCount || !segments[0].persons.isEmpty()
+                || !segments[0].links.isEmpty()) {
+            return false;
+        }
+        for (int shard = 0; shard < shardCount; shard++) {
+            Segment personSegment = segments[1 + shard];
+            Segment linkSegment = segments[1 + shardCount + shard];
+            if (!personSegment.hasPositions() || !personSegment.tags.isEmpty() || !personSegment.links.isEmpty()
+                    || !linkSegment.persons.isEmpty() || !linkSegment.tags.isEmpty()) {
+                return false;
+            }
+            for (Person person : personSegment.persons) {
+                if (shardOf(person.getId()) != shard) {
+                    return false;
+                }
+            }
+            for (JsonAdaptedLink jsonLink : linkSegment.links) {
+                Integer aId = jsonLink.getAId();
+                Integer bId = jsonLink.getBId();
+                if (aId == null || bId == null || !PersonId.isValidId(aId) || !PersonId.isValidId(bId)
+                        || shardOf(new PersonId(Math.min(aId, bId))) != shard) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Writes all segments if {@code filePath} is not the manifest last saved to or read from.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!hasSavedState(addressBook, filePath)) {
+            saveAllSegments(addressBook, filePath);
+            return;
+        }
+
+        DirtySegments dirty = new DirtySegments(shardCount);
+        if (!updatePersons(addressBook, dirty)) {
+            saveAllSegments(addressBook, filePath);
+            return;
+        }
+        updateLinks(addressBook, dirty);
+        if (!savedTags.equals(addressBook.getTags())) {
+            savedTags.clear();
+            savedTags.addAll(addressBook.getTags());
+            dirty.areTagsDirty = true;
+        }
+        writeSegments(filePath, dirty);
+    }
+
+    /**
+     * Writes only the segments of the shards that {@code changes} touched, without comparing the whole address book
+     * with the state last saved. If the whole address book was replaced, it is compared instead, and if persons that
+     * were not saved before are not the last persons of the list, all segments are written.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+
+        if (changes.isReplaced() || !hasSavedState(addressBook, filePath)) {
+            saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Person> addedPersons = getAddedPersons(addressBook, changes);
+        if (addedPersons == null) {
+            saveAllSegments(addressBook, filePath);
+            return;
+        }
+
+        DirtySegments dirty = new DirtySegments(shardCount);
+        for (PersonId id : changes.getChangedPersonIds()) {
+            int shard = shardOf(id);
+            Optional<Person> person = addressBook.getPersonWithId(id);
+            if (person.isPresent()) {
+                savedPersons.get(shard).put(id, person.get());
+            } else {
+                savedPersons.get(shard).remove(id);
+                savedPositions.remove(id);
+            }
+            dirty.personShards[shard] = true;
+        }
+        for (PersonId id : changes.getRemovedPersonIds()) {
+            int shard = shardOf(id);
+            savedPersons.get(shard).remove(id);
+            savedPositions.remove(id);
+            dirty.personShards[shard] = true;
+        }
+        for (Person person : addedPersons) {
+            savedPositions.put(person.getId(), nextPosition++);
+        }
+        for (Pair<PersonId, PersonId> link : changes.getRemovedLinks()) {
+            int shard = shardOf(link.getKey());
+            savedLinks.get(shard).remove(link);
+            dirty.linkShards[shard] = true;
+        }
+        for (Pair<PersonId, PersonId> link : changes.getAddedLinks()) {
+            int shard = shardOf(link.getKey());
+            savedLinks.get(shard).add(link);
+            dirty.linkShards[shard] = true;
+        }
+        if (!changes.getAddedTags().isEmpty() || !changes.getRemovedTags().isEmpty()) {
+            savedTags.clear();
+            savedTags.addAll(addressBook.getTags());
+            dirty.areTagsDirty = true;
+        }
+        writeSegments(filePath, dirty);
+    }
+
+    /**
+     * Returns the persons of {@code addressBook} that {@code changes} added since the last save, in list order, or
+     * null if they are not the last persons of the list, so that they cannot be numbered after the saved persons.
+     */
+    private List<Person> getAddedPersons(ReadOnlyAddressBook addressBook, AddressBookChanges changes) {
+        int addedCount = 0;
+        for (PersonId id : changes.getChangedPersonIds()) {
+            if (!savedPositions.containsKey(id) && addressBook.getPersonWithId(id).isPresent()) {
+                addedCount++;
+            }
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        if (addedCount > persons.size()) {
+            return null;
+        }
+        List<Person> added = new ArrayList<>(persons.subList(persons.size() - addedCount, persons.size()));
+        for (Person person : added) {
+            if (!changes.getChangedPersonIds().contains(person.getId())
+                    || savedPositions.containsKey(person.getId())) {
+                return null;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Returns true if the state last saved to {@code filePath} is known, so that {@code addressBook} can be compared
+     * with it.
+     */
+    private boolean hasSavedState(ReadOnlyAddressBook addressBook, Path filePath) {
+        return filePath.equals(savedFilePath) && Files.exists(filePath);
+    }
+
+    /**
+     * Writes every segment of {@code addressBook} and a manifest naming them to {@code filePath}.
+     */
+    private void saveAllSegments(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        if (!filePath.equals(savedFilePath)) {
+            // the new segment files must not replace files named by the manifests that are still on disk
+            savedGeneration = Math.max(readGeneration(filePath), readLatestSegmentGeneration(filePath));
+        }
+        rememberSaved(addressBook, filePath);
+        DirtySegments dirty = new DirtySegments(shardCount);
+        Arrays.fill(dirty.personShards, true);
+        Arrays.fill(dirty.linkShards, true);
+        dirty.areTagsDirty = true;
+        writeSegments(filePath, dirty);
+    }
+
+    /**
+     * Returns the generation of the manifest at {@code filePath}, or 0 if there is no readable manifest.
+     */
+    private static long readGeneration(Path filePath) {
+        try {
+            return JsonUtil.readJsonFile(filePath, JsonSerializableShardManifest.class)
+                    .map(JsonSerializableShardManifest::getGeneration).orElse(0L);
+        } catch (DataLoadingException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the latest generation of the segment files next to the manifest at {@code filePath}, or 0 if there are
+     * none. Those may be named by a manifest that could not be read, such as one left behind by a failed save.
+     */
+    private static long readLatestSegmentGeneration(Path filePath) {
+        long latest = 0;
+        Path directory = filePath.toAbsolutePath().getParent();
+        if (!Files.isDirectory(directory)) {
+            return latest;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Matcher matcher = SEGMENT_FILE_PATTERN.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    latest = Math.max(latest, Long.parseLong(matcher.group(2)));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            logger.warning("Failed to list segment files in " + directory + ": " + e);
+        }
+        return latest;
+    }
+
+    /**
+     * Brings the saved persons up to date with {@code addressBook}, marking the shards that changed.
+     * Persons are compared by reference, as edited persons are new instances.
+     * Returns false if the saved positions no longer follow the order of the list, so that all persons have to be
+     * renumbered.
+     */
+    private boolean updatePersons(ReadOnlyAddressBook addressBook, DirtySegments dirty) {
+        List<Person> persons = addressBook.getPersonList();
+        long lastPosition = -1;
+        for (Person person : persons) {
+            Long position = savedPositions.get(person.getId());
+            if (position == null) {
+                position = Math.max(nextPosition, lastPosition + 1);
+                savedPositions.put(person.getId(), position);
+                nextPosition = position + 1;
+            } else if (position <= lastPosition) {
+                return false;
+            }
+            lastPosition = position;
+
+            int shard = shardOf(person.getId());
+            if (savedPersons.get(shard).put(person.getId(), person) != person) {
+                dirty.personShards[shard] = true;
+            }
+        }
+
+        int savedCount = savedPersons.stream().mapToInt(Map::size).sum();
+        if (savedCount == persons.size()) {
+            return true;
+        }
+        // some saved persons are no longer in the address book
+        for (int shard = 0; shard < shardCount; shard++) {
+            if (savedPersons.get(shard).keySet().removeIf(id -> addressBook.getPersonWithId(id).isEmpty())) {
+                dirty.personShards[shard] = true;
+            }
+        }
+        savedPositions.keySet().removeIf(id -> addressBook.getPersonWithId(id).isEmpty());
+        return true;
+    }
+
+    /**
+     * Brings the saved links up to date with the links of {@code addressBook}, marking the shards that changed.
+     */
+    private void updateLinks(ReadOnlyAddressBook addressBook, DirtySegments dirty) {
+        List<Set<Pair<PersonId, PersonId>>> links = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            links.add(new LinkedHashSet<>());
+        }
+        addressBook.forEachLink((a, b) -> links.get(shardOf(a)).add(new Pair<>(a, b)));
+        for (int shard = 0; shard < shardCount; shard++) {
+            if (!links.get(shard).equals(savedLinks.get(shard))) {
+                savedLinks.set(shard, links.get(shard));
+                dirty.linkShards[shard] = true;
+            }
+        }
+    }
+
+    /**
+     * Writes the segments marked in {@code dirty} from the saved state as the next generation and syncs them all,
+     * then keeps the current manifest at {@code filePath} as the previous manifest, replaces it, and deletes the
+     * segment files that neither manifest names.
+     * If anything fails, the saved state is forgotten, so that the next save writes all segments again.
+     */
+    private void writeSegments(Path filePath, DirtySegments dirty) throws IOException {
+        long generation = savedGeneration + 1;
+        String tagFile = savedTagFile;
+        String[] personFiles = savedPersonFiles.clone();
+        String[] linkFiles = savedLinkFiles.clone();
+        List<Path> writtenFiles = new ArrayList<>();
+
+        JsonSerializableShardManifest manifest;
+        JsonSerializableShardManifest previousManifest = filePath.equals(currentManifestFilePath)
+                ? currentManifest
+                : null;
+        try {
+            if (dirty.areTagsDirty) {
+                tagFile = "tags." + generation + ".json";
+                writtenFiles.add(writeSegment(filePath.resolveSibling(tagFile), List.of(), Map.of(), savedTags,
+                        List.of()));
+            }
+            for (int shard = 0; shard < shardCount; shard++) {
+                if (dirty.personShards[shard]) {
+                    personFiles[shard] = String.format("persons-%02d.%d.json", shard, generation);
+                    writtenFiles.add(writeSegment(filePath.resolveSibling(personFiles[shard]),
+                            savedPersons.get(shard).values(), savedPositions, List.of(), List.of()));
+                }
+                if (dirty.linkShards[shard]) {
+                    linkFiles[shard] = String.format("links-%02d.%d.json", shard, generation);
+                    writtenFiles.add(writeSegment(filePath.resolveSibling(linkFiles[shard]), List.of(), Map.of(),
+                            List.of(), savedLinks.get(shard)));
+                }
+            }
+            if (!dirty.isAnyDirty()) {
+                return;
+            }
+            // one sync for all segments, which must be on disk before any manifest names them
+            FileUtil.syncFiles(writtenFiles);
+
+            Path previousFilePath = getPreviousManifestFilePath(filePath);
+            if (previousManifest != null) {
+                JsonUtil.saveJsonFile(previousManifest, previousFilePath);
+            } else {
+                // a previous manifest that is not known to be readable may name segments that are deleted below
+                Files.deleteIfExists(previousFilePath);
+            }
+            manifest = new JsonSerializableShardManifest(FORMAT_VERSION, generation, tagFile,
+                    Arrays.asList(personFiles), Arrays.asList(linkFiles));
+            JsonUtil.saveJsonFile(manifest, filePath);
+        } catch (IOException e) {
+            forgetSaved();
+            throw e;
+        }
+
+        savedGeneration = generation;
+        savedTagFile = tagFile;
+        System.arraycopy(personFiles, 0, savedPersonFiles, 0, shardCount);
+        System.arraycopy(linkFiles, 0, savedLinkFiles, 0, shardCount);
+        currentManifestFilePath = filePath;
+        currentManifest = manifest;
+        deleteUnnamedSegments(filePath, manifest, previousManifest);
+    }
+
+    /**
+     * Writes {@code persons}, {@code tags} and {@code links} to {@code segmentFilePath} as a JSON document in the
+     * form of the JSON data file, followed by the positions of the persons in {@code positions} if there are persons,
+     * without syncing it to the storage device. Returns {@code segmentFilePath}.
+     */
+    private static Path writeSegment(Path segmentFilePath, Collection<Person> persons, Map<PersonId, Long> positions,
+            Collection<Tag> tags, Collection<Pair<PersonId, PersonId>> links) throws IOException {
+        JsonUtil.writeJsonFile(segmentFilePath, true, false, generator -> {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("persons");
+            for (Person person : persons) {
+                generator.writeObject(JsonSerializableAddressBook.identifyContactType(person));
+            }
+            generator.writeEndArray();
+            if (!persons.isEmpty()) {
+                generator.writeArrayFieldStart("positions");
+                for (Person person : persons) {
+                    generator.writeNumber(positions.get(person.getId()));
+                }
+                generator.writeEndArray();
+            }
+            generator.writeArrayFieldStart("tags");
+            for (Tag tag : tags) {
+                generator.writeObject(new JsonAdaptedTag(tag));
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("links");
+            for (Pair<PersonId, PersonId> link : links) {
+                generator.writeObject(new JsonAdaptedLink(link.getKey(), link.getValue()));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        });
+        return segmentFilePath;
+    }
+
+    /**
+     * Deletes the segment files next to the manifest at {@code filePath} that neither {@code manifest} nor
+     * {@code previousManifest} (if any) names, such as the segments of earlier generations.
+     * Failing to delete them does not fail the save.
+     */
+    private static void deleteUnnamedSegments(Path filePath, JsonSerializableShardManifest manifest,
+            JsonSerializableShardManifest previousManifest) {
+        Set<String> named = new HashSet<>(manifest.getSegmentFiles());
+        if (previousManifest != null) {
+            named.addAll(previousManifest.getSegmentFiles());
+        }
+
+        Path directory = filePath.toAbsolutePath().getParent();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (SEGMENT_FILE_PATTERN.matcher(fileName).matches() && !named.contains(fileName)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to delete old segment files in " + directory + ": " + e);
+        }
+    }
+
+    /**
+     * Records {@code addressBook} as the state last saved to {@code filePath}.
+     */
+    private void rememberSaved(ReadOnlyAddressBook addressBook, Path filePath) {
+        savedFilePath = filePath;
+        savedPersons.forEach(Map::clear);
+        savedPositions.clear();
+        nextPosition = 0;
+        for (Person person : addressBook.getPersonList()) {
+            savedPersons.get(shardOf(person.getId())).put(person.getId(), person);
+            savedPositions.put(person.getId(), nextPosition++);
+        }
+        savedTags.clear();
+        savedTags.addAll(addressBook.getTags());
+        savedLinks.forEach(Set::clear);
+        addressBook.forEachLink((a, b) -> savedLinks.get(shardOf(a)).add(new Pair<>(a, b)));
+    }
+
+    private void forgetSaved() {
+        savedFilePath = null;
+        savedPersons.forEach(Map::clear);
+        savedPositions.clear();
+        nextPosition = 0;
+        savedLinks.forEach(Set::clear);
+        savedTags.clear();
+    }
+
+    private int shardOf(PersonId id) {
+        return Math.floorMod(id.value, shardCount);
+    }
+
+    /**
+     * The persons, tag types and links read from one segment file.
+     */
+    private static class Segment {
+        private final List<Person> persons = new ArrayList<>();
+        private final List<Long> positions = new ArrayList<>();
+        private final List<Tag> tags = new ArrayList<>();
+        private final List<JsonAdaptedLink> links = new ArrayList<>();
+
+        /**
+         * Returns true if the segment holds the position of each of its persons.
+         */
+        boolean hasPositions() {
+            return positions.size() == persons.size();
+        }
+    }
+
+    /**
+     * The segments that have to be written by a save.
+     */
+    private static class DirtySegments {
+        private final boolean[] personShards;
+        private final boolean[] linkShards;
+        private boolean areTagsDirty;
+
+        DirtySegments(int shardCount) {
+            personShards = new boolean[shardCount];
+            linkShards = new boolean[shardCount];
+        }
+
+        boolean isAnyDirty() {
+            if (areTagsDirty) {
+                return true;
+            }
+            for (int shard = 0; shard < personShards.length; shard++) {
+                if (personShards[shard] || linkShards[shard]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -126,7 +126,7 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, this::previewCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -174,6 +174,16 @@ public class MainWindow extends UiPart<Stage> {
         return personListPanel;
     }
 
+    /**
+     * Previews the command typed so far, showing the number of persons found if it is a search.
+     *
+     * @see seedu.address.logic.Logic#previewCommand(String)
+     */
+    private void previewCommand(String commandText) {
+        logic.previewCommand(commandText)
+                .ifPresent(commandResult -> resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser()));
+    }
+
     /**
      * Executes the command and returns the result.
      *
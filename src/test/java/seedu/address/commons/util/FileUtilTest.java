@@ -1,13 +1,24 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +31,46 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacedWithoutTemporaryFiles() throws Exception {
+        Path file = testFolder.resolve("sub").resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+        FileUtil.writeToFile(file, "new content");
+
+        assertEquals("new content", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void replaceFile_writerFails_fileUntouched() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+
+        assertThrows(IOException.class, () -> FileUtil.replaceFile(file, out -> {
+            out.write(1);
+            throw new IOException();
+        }));
+
+        assertEquals("old content", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void syncFiles_writtenFiles_success() throws Exception {
+        Path first = testFolder.resolve("first.txt");
+        Path second = testFolder.resolve("second.txt");
+        FileUtil.replaceFile(first, out -> out.write(1), false);
+        FileUtil.replaceFile(second, out -> out.write(2), false);
+
+        FileUtil.syncFiles(List.of(first, second));
+
+        assertEquals(1, Files.readAllBytes(first)[0]);
+        assertEquals(2, Files.readAllBytes(second)[0]);
+        assertThrows(IOException.class, () -> FileUtil.syncFiles(List.of(testFolder.resolve("missing.txt"))));
+    }
+
 }
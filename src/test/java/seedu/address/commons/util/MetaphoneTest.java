@@ -0,0 +1,70 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class MetaphoneTest {
+
+    @Test
+    public void encode_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Metaphone.encode(null));
+    }
+
+    @Test
+    public void encode_noSoundedLetters_emptyKey() {
+        assertEquals("", Metaphone.encode(""));
+        assertEquals("", Metaphone.encode("'-"));
+        assertEquals("", Metaphone.encode("h"));
+    }
+
+    @Test
+    public void encode_soundAlikeNames_sameKey() {
+        assertEquals("Y", Metaphone.encode("Yeoh"));
+        assertEquals("Y", Metaphone.encode("yeo"));
+        assertEquals("BRNS", Metaphone.encode("Bernice"));
+        assertEquals("BRNS", Metaphone.encode("BERENICE"));
+        assertEquals("STFN", Metaphone.encode("Stephen"));
+        assertEquals("STFN", Metaphone.encode("Steven"));
+        assertEquals("K0RN", Metaphone.encode("Catherine"));
+        assertEquals("K0RN", Metaphone.encode("Kathryn"));
+        assertEquals("AN", Metaphone.encode("Ian"));
+        assertEquals("AN", Metaphone.encode("Ean"));
+        assertEquals("SM0", Metaphone.encode("Smith"));
+        assertEquals("SM0", Metaphone.encode("Smyth"));
+    }
+
+    @Test
+    public void encode_letterRules() {
+        assertEquals("ABRN", Metaphone.encode("O'Brien")); // other characters ignored
+        assertEquals("NT", Metaphone.encode("Knight")); // initial KN, silent GH
+        assertEquals("RT", Metaphone.encode("Wright")); // initial WR
+        assertEquals("SNTR", Metaphone.encode("Xander")); // initial X
+        assertEquals("WTMN", Metaphone.encode("Whitman")); // initial WH
+        assertEquals("LM", Metaphone.encode("Lamb")); // final MB
+        assertEquals("SKLR", Metaphone.encode("Schuler")); // SCH
+        assertEquals("XRLS", Metaphone.encode("Charles")); // CH
+        assertEquals("SSL", Metaphone.encode("Cecil")); // soft C
+        assertEquals("SNS", Metaphone.encode("Science")); // silent C in SCI
+        assertEquals("AKSTNT", Metaphone.encode("accident")); // doubled C sounded twice
+        assertEquals("TJ", Metaphone.encode("Dodge")); // DGE
+        assertEquals("KN", Metaphone.encode("Ghana")); // GH before a vowel
+        assertEquals("SN", Metaphone.encode("Sign")); // final GN
+        assertEquals("JRJ", Metaphone.encode("George")); // soft G
+        assertEquals("HRT", Metaphone.encode("Harriet")); // H before a vowel
+        assertEquals("MXL", Metaphone.encode("Mitchell")); // TCH
+        assertEquals("0MS", Metaphone.encode("Thomas")); // TH
+        assertEquals("FKTR", Metaphone.encode("Victor")); // V
+        assertEquals("ALKSNTR", Metaphone.encode("Alexander")); // X
+        assertEquals("S", Metaphone.encode("Zoe")); // Z
+        assertEquals("ARN", Metaphone.encode("Aeron")); // initial AE
+    }
+
+    @Test
+    public void encode_differentSounds_differentKeys() {
+        assertNotEquals(Metaphone.encode("Tan"), Metaphone.encode("Tam"));
+        assertNotEquals(Metaphone.encode("Lim"), Metaphone.encode("Lin"));
+    }
+}
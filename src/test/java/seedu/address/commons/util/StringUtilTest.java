@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,27 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null));
+    }
+
+    @Test
+    public void editDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.editDistance("", ""));
+        assertEquals(3, StringUtil.editDistance("", "abc"));
+        assertEquals(0, StringUtil.editDistance("yeo", "yeo"));
+        assertEquals(1, StringUtil.editDistance("yeo", "yeoh")); // insertion
+        assertEquals(1, StringUtil.editDistance("berenice", "bernice")); // deletion
+        assertEquals(1, StringUtil.editDistance("oliveiro", "oliveira")); // substitution
+        assertEquals(2, StringUtil.editDistance("charlotte", "charolte")); // transposition is two edits
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+        assertEquals(3, StringUtil.editDistance("abc", "ABC")); // case is not ignored
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -4,15 +4,24 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,14 +29,20 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddParentCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.storage.BackgroundAddressBookSaver;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -71,17 +86,87 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_storageThrowsIoException_warningShownWithNextResult() throws Exception {
+        assertSaveFailureReportedWithNextCommand(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_warningShownWithNextResult() throws Exception {
+        assertSaveFailureReportedWithNextCommand(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commandsNotModifyingAddressBook_notSaved() throws Exception {
+        List<AddressBookChanges> savedChanges = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes)
+                            throws IOException {
+                        savedChanges.add(changes);
+                        super.saveAddressBookChanges(addressBook, changes);
+                    }
+                };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, 0);
+        logic = new LogicManager(model, saver);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(HelpCommand.COMMAND_WORD);
+        saver.flush();
+        assertEquals(List.of(), savedChanges);
+
+        logic.execute(AddParentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+        saver.flush();
+        PersonId amyId = model.getPersonWithName(AMY.getName()).get().getId();
+        assertEquals(List.of(new AddressBookChanges.Builder().recordPersonChanged(amyId).build()), savedChanges);
+    }
+
+    @Test
+    public void previewCommand_findBeingTyped_showsPersonsWithNamePrefixes() throws Exception {
+        logic.execute(AddParentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY);
+        logic.execute(AddParentCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB
+                + ADDRESS_DESC_BOB);
+        logic.execute(FindCommand.COMMAND_WORD + " " + VALID_NAME_BOB);
+        List<Person> bobOnly = List.copyOf(model.getFilteredPersonList());
+        long modificationCount = model.getAddressBook().getModificationCount();
+
+        // the command word is recognised in any case, as when the command is executed
+        Optional<CommandResult> result = logic.previewCommand("FIND am");
+        assertEquals(String.format(FindCommand.MESSAGE_PREVIEW, 1, VALID_NAME_AMY),
+                result.get().getFeedbackToUser());
+        assertEquals(String.format(FindCommand.MESSAGE_PREVIEW, 2, VALID_NAME_AMY + ", " + VALID_NAME_BOB),
+                logic.previewCommand("find b am").get().getFeedbackToUser());
+        assertEquals(String.format(FindCommand.MESSAGE_PREVIEW, 0, ""),
+                logic.previewCommand("find amx").get().getFeedbackToUser());
+
+        // other commands and keywords that are not a search yet are not previewed
+        assertEquals(Optional.empty(), logic.previewCommand("find "));
+        assertEquals(Optional.empty(), logic.previewCommand("find *"));
+        assertEquals(Optional.empty(), logic.previewCommand("finder am"));
+        assertEquals(Optional.empty(), logic.previewCommand("delete 1"));
+
+        // neither the filtered list nor the address book is changed
+        assertEquals(bobOnly, model.getFilteredPersonList());
+        assertEquals(modificationCount, model.getAddressBook().getModificationCount());
+    }
+
+    @Test
+    public void previewCommand_manyPersonsFound_firstNamesShown() throws Exception {
+        List<String> names = List.of("Ann Ng", "Anna Lim", "Annabel Tan", "Annie Goh", "Anton Lee", "Antonia Ong");
+        names.forEach(name -> model.addPerson(new PersonBuilder().withName(name).buildParent()));
+
+        assertEquals(String.format(FindCommand.MESSAGE_PREVIEW, names.size(),
+                String.join(", ", names.subList(0, FindCommand.MAX_PREVIEWED_NAMES)) + ", ..."),
+                logic.previewCommand("find an").get().getFeedbackToUser());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -142,11 +227,14 @@ public class LogicManagerTest {
 
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * As the address book is saved in the background, the failure is reported as a warning with the result of the
+     * command after the one whose changes could not be saved, which still succeeds.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedWarning the warning expected after the feedback of the next command
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveFailureReportedWithNextCommand(IOException e, String expectedWarning)
+            throws Exception {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
@@ -162,7 +250,8 @@ public class LogicManagerTest {
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        logic = new LogicManager(model, storage);
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, 0);
+        logic = new LogicManager(model, saver);
 
         // Triggers the saveAddressBook method by executing an add command
         String addCommand = AddParentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
@@ -170,6 +259,14 @@ public class LogicManagerTest {
         Parent expectedParent = new PersonBuilder(AMY).withRemark("").buildParent();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedParent);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertCommandSuccess(addCommand, String.format(AddParentCommand.MESSAGE_SUCCESS,
+                Messages.format(expectedParent)), expectedModel);
+
+        saver.flush();
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS + "\n" + expectedWarning,
+                expectedModel);
+
+        // the warning is shown once
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, expectedModel);
     }
 }
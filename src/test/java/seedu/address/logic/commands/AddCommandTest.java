@@ -20,11 +20,16 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.Student;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
@@ -191,6 +196,36 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public AddressBookChanges takeAddressBookChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -219,6 +254,51 @@ public class AddCommandTest {
         public void deleteTagTypes(java.util.Set<Tag> tags) {
         }
 
+        @Override
+        public java.util.Optional<Person> getPersonWithName(Name name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public java.util.Set<Person> getPersonsWithEmail(Email email) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public java.util.Set<Person> getPersonsWithPhone(Phone phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public java.util.Set<PersonId> getPersonIdsWithNameKeywords(java.util.Collection<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public java.util.Set<PersonId> getPersonIdsWithNamePrefixes(java.util.Collection<String> prefixes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public java.util.Map<String, Integer> getSimilarNameTokens(String keyword, int maxDistance) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public java.util.Set<PersonId> getPersonIdsWithNameSoundingLike(java.util.Collection<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public java.util.Set<Person> getPersonsWithNameSoundingLike(Name name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public java.util.Set<Person> getPersonsWithNameOrSoundingLike(Name name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public java.util.Set<Tag> getTags() {
             return new java.util.HashSet<>();
@@ -239,6 +319,12 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+
+        @Override
+        public boolean isInFilteredPersonList(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getLinkedPersons(Person person) {
             throw new AssertionError("This method should not be called.");
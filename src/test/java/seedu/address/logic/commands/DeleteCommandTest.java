@@ -23,6 +23,7 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -201,6 +202,46 @@ public class DeleteCommandTest {
         assertCommandFailure(cmd, model, DeleteCommand.MESSAGE_NO_MATCH);
     }
 
+    @Test
+    public void execute_deleteByEmailSharedByTwoPersons_multipleMatches() {
+        Person first = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Person second = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        model.setPerson(second, new PersonBuilder(second).withEmail(first.getEmail().value).buildStudent());
+
+        DeleteCommand cmd = new DeleteCommand(
+                Optional.empty(),
+                Optional.of(new Email(first.getEmail().value)),
+                Optional.empty());
+
+        assertCommandFailure(cmd, model, DeleteCommand.MESSAGE_MULTIPLE_MATCHES);
+    }
+
+    @Test
+    public void execute_deleteByNameAndPhone_detailsOfDifferentPersons_noMatch() {
+        Person first = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Person second = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+
+        DeleteCommand cmd = new DeleteCommand(
+                Optional.of(new Name(first.getName().fullName)),
+                Optional.empty(),
+                Optional.of(new Phone(second.getPhone().value)));
+
+        assertCommandFailure(cmd, model, DeleteCommand.MESSAGE_NO_MATCH);
+    }
+
+    @Test
+    public void execute_deleteByNameNotInFilteredList_noMatch() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        Person hidden = model.getAddressBook().getPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+
+        DeleteCommand cmd = new DeleteCommand(
+                Optional.of(new Name(hidden.getName().fullName)),
+                Optional.empty(),
+                Optional.empty());
+
+        assertCommandFailure(cmd, model, DeleteCommand.MESSAGE_NO_MATCH);
+    }
+
     /**
      * Updates {@code model}'s filtered list to show no one.
      */
@@ -7,8 +7,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.DeleteTagsCommand.MESSAGE_NON_EXISTENT_TAG;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -16,8 +19,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.Model;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -208,6 +216,36 @@ class DeleteTagsCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public AddressBookChanges takeAddressBookChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             return false;
@@ -228,6 +266,51 @@ class DeleteTagsCommandTest {
             // Can be left empty or throw assertion
         }
 
+        @Override
+        public Optional<Person> getPersonWithName(Name name) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Set<Person> getPersonsWithEmail(Email email) {
+            return Set.of();
+        }
+
+        @Override
+        public Set<Person> getPersonsWithPhone(Phone phone) {
+            return Set.of();
+        }
+
+        @Override
+        public Set<PersonId> getPersonIdsWithNameKeywords(Collection<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<PersonId> getPersonIdsWithNamePrefixes(Collection<String> prefixes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<String, Integer> getSimilarNameTokens(String keyword, int maxDistance) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<PersonId> getPersonIdsWithNameSoundingLike(Collection<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsWithNameSoundingLike(Name name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsWithNameOrSoundingLike(Name name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Set<Tag> getTags() {
             return Set.of();
@@ -243,6 +326,12 @@ class DeleteTagsCommandTest {
             // Can be left empty or throw assertion
         }
 
+
+        @Override
+        public boolean isInFilteredPersonList(Person person) {
+            return false;
+        }
+
         @Override
         public boolean link(Person a, Person b) {
             return false;
@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -17,8 +18,12 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
 import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FilterTagCommand}.
@@ -143,6 +148,20 @@ public class FilterTagCommandTest {
         assertEquals(expectedModel.getFilteredPersonList(), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_personsEditedAfterwards_listFollowsEdits() {
+        model.addTagTypes(Set.of(new Tag("Science"), new Tag("Math")));
+        new FilterTagCommand(new TagContainsKeywordsPredicate(List.of("Math"))).execute(model);
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+
+        Person aliceWithMath = new PersonBuilder(ALICE).withTags("Science", "Math").buildStudent();
+        model.setPerson(ALICE, aliceWithMath);
+        Person bensonWithoutMath = new PersonBuilder(BENSON).withTags("Science").buildStudent();
+        model.setPerson(BENSON, bensonWithoutMath);
+
+        assertEquals(List.of(aliceWithMath), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         TagContainsKeywordsPredicate predicate = new TagContainsKeywordsPredicate(
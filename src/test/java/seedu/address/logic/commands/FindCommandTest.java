@@ -12,6 +12,7 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -19,6 +20,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -74,6 +77,51 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_keywordOfEditedName_editedPersonFound() {
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Brown").buildParent();
+        model.setPerson(CARL, editedCarl);
+        expectedModel.setPerson(CARL, editedCarl);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        NameContainsKeywordsPredicate predicate = preparePredicate("brown");
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(new FindCommand(predicate), model, expectedMessage, expectedModel);
+        assertEquals(List.of(editedCarl), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_namesEditedAfterwards_listFollowsEdits() {
+        new FindCommand(preparePredicate("Kurz")).execute(model);
+        assertEquals(List.of(CARL), model.getFilteredPersonList());
+
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Brown").buildParent();
+        model.setPerson(CARL, editedCarl);
+        Person editedElle = new PersonBuilder(ELLE).withName("Elle Kurz").buildParent();
+        model.setPerson(ELLE, editedElle);
+
+        assertEquals(List.of(editedElle), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_prefixKeywords_multiplePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        NameContainsKeywordsPredicate predicate = preparePredicate("ku* ell*");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_soundAlikeKeywords_multiplePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        NameContainsKeywordsPredicate predicate = preparePredicate("~curz ~mayer");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
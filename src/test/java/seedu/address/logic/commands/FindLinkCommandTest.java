@@ -6,11 +6,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -21,14 +23,20 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.Student;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
@@ -113,8 +121,31 @@ public class FindLinkCommandTest {
         assertTrue(filtered.contains(tom));
     }
 
+    @Test
+    public void execute_nameSoundsLikeOnePerson_resolvesToThatPerson() throws Exception {
+        FindLinkCommand cmd = new FindLinkCommand("Alyce Tan");
+        CommandResult result = cmd.execute(model);
+
+        ObservableList<Person> filtered = model.getFilteredPersonList();
+        assertEquals(2, filtered.size());
+        assertTrue(filtered.contains(mary));
+        assertTrue(filtered.contains(tom));
+        assertTrue(result.getFeedbackToUser().contains(alice.getName().fullName));
+    }
+
     // Edge / negative behaviours
 
+    @Test
+    public void execute_nameSoundsLikeSeveralPersons_throwsCommandException() {
+        Parent marie = new PersonBuilder().withName("Marie Tan").withPhone("90002222")
+                .withEmail("marie@example.com").withAddress("9 Holland Ave").buildParent();
+        ModelStubWithPersons modelWithMarie = new ModelStubWithPersons(alice, bob, mary, tom, marie);
+
+        FindLinkCommand cmd = new FindLinkCommand("Mari Tan");
+        CommandException ex = assertThrows(CommandException.class, () -> cmd.execute(modelWithMarie));
+        assertEquals(Messages.getErrorMessageForAmbiguousName("Mari Tan", List.of(mary, marie)), ex.getMessage());
+    }
+
     @Test
     public void execute_targetFoundButHasNoLinks_showsZero() throws Exception {
         // Bob exists but is unlinked
@@ -195,12 +226,48 @@ public class FindLinkCommandTest {
             filtered.setPredicate(predicate);
         }
 
-        // AddressBook access used by FindLinkCommand.findPersonByNameIgnoreCase
+
+        @Override
+        public boolean isInFilteredPersonList(Person person) {
+            return filtered.getPredicate() == null || filtered.getPredicate().test(person);
+        }
+
+        // AddressBook access, which the name lookups of this stub delegate to
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             return addressBook;
         }
 
+        @Override
+        public AddressBookChanges takeAddressBookChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         // Minimal implementations (expanded to satisfy LeftCurly rule)
         @Override
         public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
@@ -256,6 +323,52 @@ public class FindLinkCommandTest {
         public void setPerson(Person target, Person editedPerson) {
         }
 
+        @Override
+        public Optional<Person> getPersonWithName(Name name) {
+            return addressBook.getPersonWithName(name);
+        }
+
+        @Override
+        public Set<Person> getPersonsWithEmail(Email email) {
+            return addressBook.getPersonsWithEmail(email);
+        }
+
+        @Override
+        public Set<Person> getPersonsWithPhone(Phone phone) {
+            return addressBook.getPersonsWithPhone(phone);
+        }
+
+        @Override
+        public Set<PersonId> getPersonIdsWithNameKeywords(Collection<String> keywords) {
+            return addressBook.getPersonIdsWithNameKeywords(keywords);
+        }
+
+        @Override
+        public Set<PersonId> getPersonIdsWithNamePrefixes(Collection<String> prefixes) {
+            return addressBook.getPersonIdsWithNamePrefixes(prefixes);
+        }
+
+        @Override
+        public Map<String, Integer> getSimilarNameTokens(String keyword, int maxDistance) {
+            return addressBook.getSimilarNameTokens(keyword, maxDistance);
+        }
+
+        @Override
+        public Set<PersonId> getPersonIdsWithNameSoundingLike(Collection<String> keywords) {
+            return addressBook.getPersonIdsWithNameSoundingLike(keywords);
+        }
+
+        @Override
+        public Set<Person> getPersonsWithNameSoundingLike(Name name) {
+            return addressBook.getPersonsWithNameSoundingLike(name);
+        }
+
+        @Override
+        public Set<Person> getPersonsWithNameOrSoundingLike(Name name) {
+            Optional<Person> person = addressBook.getPersonWithName(name);
+            return person.isPresent() ? Set.of(person.get()) : addressBook.getPersonsWithNameSoundingLike(name);
+        }
+
         @Override
         public Set<Tag> getTags() {
             return new HashSet<>();
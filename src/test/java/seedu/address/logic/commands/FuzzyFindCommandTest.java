@@ -0,0 +1,149 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FuzzyFindCommand}.
+ */
+public class FuzzyFindCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FuzzyFindCommand findFirstCommand = new FuzzyFindCommand(List.of("first"));
+        FuzzyFindCommand findSecondCommand = new FuzzyFindCommand(List.of("second"));
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FuzzyFindCommand(List.of("first"))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_misspeltKeyword_closestPersonsFirst() {
+        // "meyer" is Elle Meyer's last name and one edit from Benson and Daniel Meier's
+        String expectedMessage = String.format(FuzzyFindCommand.MESSAGE_SUCCESS, 3,
+                "Elle Meyer, Benson Meier, Daniel Meier");
+        expectedModel.updateFilteredPersonList(person -> Set.of(BENSON, DANIEL, ELLE).contains(person));
+        assertCommandSuccess(new FuzzyFindCommand(List.of("MEYER")), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_shortKeyword_oneEditAllowed() {
+        // "kurt" is one edit from Kurz but two from Kunz
+        String expectedMessage = String.format(FuzzyFindCommand.MESSAGE_SUCCESS, 1, "Carl Kurz");
+        expectedModel.updateFilteredPersonList(person -> person.equals(CARL));
+        assertCommandSuccess(new FuzzyFindCommand(List.of("kurt")), model, expectedMessage, expectedModel);
+
+        expectedMessage = String.format(FuzzyFindCommand.MESSAGE_SUCCESS, 2, "Carl Kurz, Fiona Kunz");
+        expectedModel.updateFilteredPersonList(person -> person.equals(CARL) || person.equals(FIONA));
+        assertCommandSuccess(new FuzzyFindCommand(List.of("kurz")), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noSimilarName_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        expectedModel.updateFilteredPersonList(person -> false);
+        assertCommandSuccess(new FuzzyFindCommand(List.of("zzzzzz")), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_severalKeywords_personsMatchingMoreKeywordsFirst() {
+        AddressBook addressBook = new AddressBook();
+        Person charlotteTan = new PersonBuilder().withName("Charlotte Tan").withEmail("tan@example.com")
+                .buildStudent();
+        Person charlotteOliveiro = new PersonBuilder().withName("Charlotte Oliveiro")
+                .withEmail("oliveiro@example.com").buildStudent();
+        addressBook.addPerson(charlotteTan);
+        addressBook.addPerson(charlotteOliveiro);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        CommandResult result = new FuzzyFindCommand(List.of("charlote", "oliveira")).execute(model);
+        assertEquals(String.format(FuzzyFindCommand.MESSAGE_SUCCESS, 2, "Charlotte Oliveiro, Charlotte Tan"),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_manyMatches_onlyClosestListed() {
+        AddressBook addressBook = new AddressBook();
+        List<String> surnames = List.of("Tan", "Ta", "Tang", "Tam", "Tao", "Tay", "Tai", "Tah", "Tak", "Tal", "Taa",
+                "Tab");
+        for (String surname : surnames) {
+            addressBook.addPerson(new PersonBuilder().withName("Wei " + surname)
+                    .withEmail(surname + "@example.com").buildStudent());
+        }
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        CommandResult result = new FuzzyFindCommand(List.of("tan")).execute(model);
+        assertEquals(FuzzyFindCommand.MAX_RESULTS, model.getFilteredPersonList().size());
+        // the exact match comes first
+        assertTrue(result.getFeedbackToUser().contains("Closest first: Wei Tan, "));
+    }
+
+    @Test
+    public void execute_nameEditedAfterSearch_newNameFound() {
+        new FuzzyFindCommand(List.of("meyer")).execute(model);
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Meyers").buildParent();
+        model.setPerson(CARL, editedCarl);
+        model.deletePerson(ELLE);
+
+        new FuzzyFindCommand(List.of("meyer")).execute(model);
+        assertEquals(Arrays.asList(BENSON, editedCarl, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_namesEditedAfterSearch_listFollowsEdits() {
+        new FuzzyFindCommand(List.of("kurt")).execute(model);
+        assertEquals(List.of(CARL), model.getFilteredPersonList());
+
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Brown").buildParent();
+        model.setPerson(CARL, editedCarl);
+        Person editedElle = new PersonBuilder(ELLE).withName("Elle Kurtz").buildParent();
+        model.setPerson(ELLE, editedElle);
+
+        assertEquals(List.of(editedElle), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword");
+        FuzzyFindCommand command = new FuzzyFindCommand(keywords);
+        String expected = FuzzyFindCommand.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -5,20 +5,17 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.person.Address;
-import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Parent;
-import seedu.address.model.person.Person;
-import seedu.address.model.person.Phone;
-import seedu.address.model.person.Remark;
-import seedu.address.model.person.Role;
 import seedu.address.model.person.Student;
 import seedu.address.testutil.PersonBuilder;
 
@@ -33,7 +30,6 @@ public class LinkCommandTest {
     private Student studentB;
     private Parent parentA;
     private Parent parentB;
-    private Person person; // non-student, non-parent
 
     @BeforeEach
     public void setUp() {
@@ -56,15 +52,6 @@ public class LinkCommandTest {
                 .withEmail("mrlim@example.com").withAddress("654 Lane")
                 .buildParent();
 
-        person = new Person(
-                Role.STUDENT, // role
-                new Name("Chris Goh"),
-                new Phone("90001111"),
-                new Email("chris@email.com"),
-                new Address("888 Random Street"),
-                new Remark("")
-        );
-
         // Add to model
         model.addPerson(studentA);
         model.addPerson(studentB);
@@ -74,7 +61,7 @@ public class LinkCommandTest {
 
     @Test
     public void execute_validStudentParent_success() throws Exception {
-        LinkCommand linkCommand = new LinkCommand(studentA, parentA);
+        LinkCommand linkCommand = new LinkCommand(new Name("john tan"), parentA.getName());
 
         String expectedMessage = String.format(
                 LinkCommand.MESSAGE_LINK_SUCCESS,
@@ -82,6 +69,14 @@ public class LinkCommandTest {
                 parentA.getName().fullName);
 
         assertCommandSuccess(linkCommand, model, expectedMessage, model);
+        assertEquals(List.of(parentA), model.getLinkedPersons(studentA));
+    }
+
+    @Test
+    public void execute_personsNotShown_success() throws Exception {
+        model.updateFilteredPersonList(unused -> false);
+        new LinkCommand(studentA.getName(), parentA.getName()).execute(model);
+        assertEquals(List.of(parentA), model.getLinkedPersons(studentA));
     }
 
     @Test
@@ -90,40 +85,32 @@ public class LinkCommandTest {
         model.link(studentA, parentA);
 
         // Second attempt should fail
-        LinkCommand duplicateLinkCommand = new LinkCommand(studentA, parentA);
+        LinkCommand duplicateLinkCommand = new LinkCommand(studentA.getName(), parentA.getName());
         assertCommandFailure(duplicateLinkCommand, model, LinkCommand.MESSAGE_DUPLICATE_LINK);
     }
 
     @Test
-    public void execute_samePerson_throwsCommandException() {
-        LinkCommand linkCommand = new LinkCommand(studentA, studentA);
-        assertCommandFailure(linkCommand, model, LinkCommand.MESSAGE_SAME_PERSON);
-    }
-
-    @Test
-    public void execute_twoStudents_throwsCommandException() {
-        LinkCommand linkCommand = new LinkCommand(studentA, studentB);
-        assertCommandFailure(linkCommand, model, LinkCommand.MESSAGE_STUDENTS_INVALID_LINK);
-    }
-
-    @Test
-    public void execute_twoParents_throwsCommandException() {
-        LinkCommand linkCommand = new LinkCommand(parentA, parentB);
-        assertCommandFailure(linkCommand, model, LinkCommand.MESSAGE_PARENTS_INVALID_LINK);
+    public void execute_nameOnlySoundingLike_throwsCommandException() {
+        // a link is only changed between persons named exactly, so sound-alikes are reported instead
+        LinkCommand linkCommand = new LinkCommand(new Name("Jon Tan"), parentA.getName());
+        assertCommandFailure(linkCommand, model, Messages.getErrorMessageForInexactName("Jon Tan", List.of(studentA)));
     }
 
     @Test
-    public void execute_invalidInstance_throwsCommandException() {
-        // Use a plain Person (not Student/Parent)
-        LinkCommand linkCommand = new LinkCommand(person, studentA);
-        assertCommandFailure(linkCommand, model, person.getName() + LinkCommand.MESSAGE_WRONG_INSTANCE);
+    public void execute_unknownOrWrongRoleNames_throwsCommandException() {
+        assertCommandFailure(new LinkCommand(new Name("Nobody"), parentA.getName()), model,
+                LinkCommand.MESSAGE_NOT_STUDENT);
+        assertCommandFailure(new LinkCommand(parentB.getName(), parentA.getName()), model,
+                LinkCommand.MESSAGE_NOT_STUDENT);
+        assertCommandFailure(new LinkCommand(studentA.getName(), studentB.getName()), model,
+                LinkCommand.MESSAGE_NOT_PARENT);
     }
 
     @Test
     public void equals() {
-        LinkCommand command1 = new LinkCommand(studentA, parentA);
-        LinkCommand command2 = new LinkCommand(studentA, parentA);
-        LinkCommand command3 = new LinkCommand(studentB, parentA);
+        LinkCommand command1 = new LinkCommand(studentA.getName(), parentA.getName());
+        LinkCommand command2 = new LinkCommand(new Name("JOHN TAN"), parentA.getName());
+        LinkCommand command3 = new LinkCommand(studentB.getName(), parentA.getName());
 
         assertEquals(command1, command2);
         // Different pairing should not be equal
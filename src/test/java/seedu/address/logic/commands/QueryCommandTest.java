@@ -0,0 +1,133 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.QueryCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.QueryExpression;
+import seedu.address.model.query.QueryField;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code QueryCommand}.
+ */
+public class QueryCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @BeforeEach
+    public void setUp() {
+        for (Model m : List.of(model, expectedModel)) {
+            m.link(ALICE, CARL);
+            m.link(BENSON, DANIEL);
+        }
+    }
+
+    @Test
+    public void equals() {
+        QueryExpression math = QueryExpression.condition(QueryField.TAG, "Math");
+        QueryExpression science = QueryExpression.condition(QueryField.TAG, "Science");
+        QueryCommand queryMathCommand = new QueryCommand(math, false);
+
+        // same object -> returns true
+        assertTrue(queryMathCommand.equals(queryMathCommand));
+
+        // same values -> returns true
+        assertTrue(queryMathCommand.equals(new QueryCommand(QueryExpression.condition(QueryField.TAG, "math"), false)));
+
+        // different types -> returns false
+        assertFalse(queryMathCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(queryMathCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(queryMathCommand.equals(new QueryCommand(science, false)));
+
+        // explained -> returns false
+        assertFalse(queryMathCommand.equals(new QueryCommand(math, true)));
+    }
+
+    @Test
+    public void execute_compoundQuery_studentFound() throws Exception {
+        assertQueryFinds("role:student and tag:Science and parent(phone:9*)", ALICE);
+        assertQueryFinds("tag:Science and not tag:Math", ALICE);
+    }
+
+    @Test
+    public void execute_childRelation_parentFound() throws Exception {
+        assertQueryFinds("child(tag:Math)", DANIEL);
+    }
+
+    @Test
+    public void execute_orOfLookups_multiplePersonsFound() throws Exception {
+        assertQueryFinds("name:kurz or email:LYDIA@example.com", CARL, FIONA);
+    }
+
+    @Test
+    public void execute_noMatch_noPersonFound() throws Exception {
+        assertQueryFinds("tag:Math and parent(phone:9*)");
+    }
+
+    @Test
+    public void execute_personsEditedAfterwards_listFollowsEdits() throws Exception {
+        new QueryCommandParser().parse("tag:Math").execute(model);
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+
+        Person aliceWithMath = new PersonBuilder(ALICE).withTags("Science", "Math").buildStudent();
+        model.setPerson(ALICE, aliceWithMath);
+        Person bensonWithoutMath = new PersonBuilder(BENSON).withTags("Science").buildStudent();
+        model.setPerson(BENSON, bensonWithoutMath);
+
+        assertEquals(List.of(aliceWithMath), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_explain_showsPlanAndKeepsList() throws Exception {
+        QueryCommand command = new QueryCommandParser().parse("explain tag:Science and not tag:Math");
+        String expectedMessage = String.format(QueryCommand.MESSAGE_EXPLAIN, "tag:Science and not tag:Math",
+                "Filter [not tag:Math] -> 1 row\n"
+                + "  Tag lookup [tag:Science] -> 2 rows");
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void toStringMethod() {
+        QueryExpression expression = QueryExpression.condition(QueryField.TAG, "Math");
+        QueryCommand queryCommand = new QueryCommand(expression, true);
+        String expected = QueryCommand.class.getCanonicalName() + "{expression=" + expression + ", isExplain=true}";
+        assertEquals(expected, queryCommand.toString());
+    }
+
+    /**
+     * Executes the query {@code userInput} and confirms that it lists exactly {@code expectedPersons}, in the order
+     * of the address book.
+     */
+    private void assertQueryFinds(String userInput, Person... expectedPersons) throws ParseException {
+        Set<Person> expected = Set.of(expectedPersons);
+        expectedModel.updateFilteredPersonList(expected::contains);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, expectedPersons.length);
+        assertCommandSuccess(new QueryCommandParser().parse(userInput), model, expectedMessage, expectedModel);
+        assertEquals(List.of(expectedPersons), model.getFilteredPersonList());
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
@@ -31,4 +32,48 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_prefixSearch_returnsFindCommandWithWildcards() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Al*", "Bob")));
+        assertParseSuccess(parser, "Al* Bob", expectedFindCommand);
+
+        // flag makes every keyword a prefix
+        expectedFindCommand = new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Al*", "Bo*")));
+        assertParseSuccess(parser, FindCommand.FLAG_PREFIX_SEARCH + " Al* Bo", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_prefixSearchWithoutKeywords_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, FindCommand.FLAG_PREFIX_SEARCH, expectedMessage);
+        assertParseFailure(parser, "Alice *", expectedMessage);
+    }
+
+    @Test
+    public void parse_soundAlikeSearch_returnsFindCommandWithMarkers() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("~Yeo", "Bob")));
+        assertParseSuccess(parser, "~Yeo Bob", expectedFindCommand);
+
+        // flag makes every keyword a sound-alike
+        expectedFindCommand = new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("~Yeo", "~Bob")));
+        assertParseSuccess(parser, FindCommand.FLAG_SOUND_ALIKE_SEARCH + " ~Yeo Bob", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_soundAlikeSearchWithoutKeywords_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, FindCommand.FLAG_SOUND_ALIKE_SEARCH, expectedMessage);
+        assertParseFailure(parser, "Alice ~", expectedMessage);
+    }
+
+    @Test
+    public void parsePrefixSearch_validArgs_everyKeywordIsPrefix() throws Exception {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Al*", "Bo*")));
+        assertEquals(expectedFindCommand, parser.parsePrefixSearch(" Al Bo "));
+        assertEquals(expectedFindCommand, parser.parsePrefixSearch(FindCommand.FLAG_PREFIX_SEARCH + " Al Bo*"));
+    }
+
 }
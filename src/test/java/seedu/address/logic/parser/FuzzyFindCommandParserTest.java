@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FuzzyFindCommand;
+
+public class FuzzyFindCommandParserTest {
+
+    private FuzzyFindCommandParser parser = new FuzzyFindCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FuzzyFindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFuzzyFindCommand() {
+        FuzzyFindCommand expectedCommand = new FuzzyFindCommand(Arrays.asList("Charlote", "Oliveira"));
+        assertParseSuccess(parser, "Charlote Oliveira", expectedCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n Charlote \n \t Oliveira  \t", expectedCommand);
+    }
+
+}
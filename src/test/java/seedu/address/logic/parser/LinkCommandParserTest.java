@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.LinkCommand;
+import seedu.address.model.person.Name;
+
+public class LinkCommandParserTest {
+
+    private final LinkCommandParser parser = new LinkCommandParser();
+
+    @Test
+    public void parse_validNames_success() {
+        assertParseSuccess(parser, " sn/alice pauline pn/Carl Kurz ",
+                new LinkCommand(new Name("Alice Pauline"), new Name("Carl Kurz")));
+    }
+
+    @Test
+    public void parse_invalidName_failure() {
+        assertParseFailure(parser, " sn/Alice P4uline pn/Carl Kurz", Name.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " sn/Alice Pauline pn/C@rl", Name.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_missingPrefix_failure() {
+        assertParseFailure(parser, " sn/Alice Pauline",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, LinkCommand.MESSAGE_USAGE));
+    }
+}
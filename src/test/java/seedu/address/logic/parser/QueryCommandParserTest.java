@@ -0,0 +1,107 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.model.query.QueryExpression;
+import seedu.address.model.query.QueryField;
+import seedu.address.model.query.QueryRelation;
+import seedu.address.model.tag.Tag;
+
+public class QueryCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE);
+
+    private static final QueryExpression TAG_MATH = QueryExpression.condition(QueryField.TAG, "Math");
+    private static final QueryExpression TAG_SCIENCE = QueryExpression.condition(QueryField.TAG, "Science");
+    private static final QueryExpression ROLE_STUDENT = QueryExpression.condition(QueryField.ROLE, "student");
+
+    private QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " explain ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_andNot_returnsQueryCommand() {
+        QueryCommand expectedCommand = new QueryCommand(
+                QueryExpression.and(List.of(TAG_MATH, QueryExpression.not(TAG_SCIENCE))), false);
+        assertParseSuccess(parser, "tag:Math and not tag:Science", expectedCommand);
+
+        // and left out
+        assertParseSuccess(parser, "tag:Math not tag:Science", expectedCommand);
+
+        // keywords in any case, and extra whitespace
+        assertParseSuccess(parser, " \n TAG:Math  AND \t Not tag:Science ", expectedCommand);
+    }
+
+    @Test
+    public void parse_explain_returnsExplainingQueryCommand() {
+        assertParseSuccess(parser, "explain tag:Math", new QueryCommand(TAG_MATH, true));
+        assertParseSuccess(parser, "EXPLAIN tag:Math", new QueryCommand(TAG_MATH, true));
+    }
+
+    @Test
+    public void parse_andBindsTighterThanOr_returnsQueryCommand() {
+        assertParseSuccess(parser, "tag:Math or tag:Science and role:student", new QueryCommand(
+                QueryExpression.or(List.of(TAG_MATH, QueryExpression.and(List.of(TAG_SCIENCE, ROLE_STUDENT)))),
+                false));
+        assertParseSuccess(parser, "(tag:Math or tag:Science) and role:student", new QueryCommand(
+                QueryExpression.and(List.of(QueryExpression.or(List.of(TAG_MATH, TAG_SCIENCE)), ROLE_STUDENT)),
+                false));
+    }
+
+    @Test
+    public void parse_relation_returnsQueryCommand() {
+        QueryExpression parentWithPhone = QueryExpression.related(QueryRelation.PARENT,
+                QueryExpression.condition(QueryField.PHONE, "9*"));
+        assertParseSuccess(parser, "role:student and parent(phone:9*)",
+                new QueryCommand(QueryExpression.and(List.of(ROLE_STUDENT, parentWithPhone)), false));
+        assertParseSuccess(parser, "Parent ( phone:9* )", new QueryCommand(parentWithPhone, false));
+    }
+
+    @Test
+    public void parse_quotedValue_returnsQueryCommand() {
+        QueryExpression name = QueryExpression.condition(QueryField.NAME, "alex (al) yeo");
+        assertParseSuccess(parser, "name:\"alex (al) yeo\"", new QueryCommand(name, false));
+
+        // the canonical text of a query parses to the same query
+        assertParseSuccess(parser, name.toString(), new QueryCommand(name, false));
+    }
+
+    @Test
+    public void parse_invalidCondition_throwsParseException() {
+        assertParseFailure(parser, "colour:red", String.format(QueryCommandParser.MESSAGE_UNKNOWN_FIELD, "colour"));
+        assertParseFailure(parser, "role:teacher", QueryField.MESSAGE_INVALID_ROLE);
+        assertParseFailure(parser, "tag:Math and name:", QueryField.MESSAGE_BLANK_VALUE);
+        assertParseFailure(parser, "email:*", QueryField.MESSAGE_BLANK_VALUE);
+        assertParseFailure(parser, "tag:#math", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "name:\"alex yeo", QueryCommandParser.MESSAGE_UNTERMINATED_QUOTE);
+    }
+
+    @Test
+    public void parse_unbalancedParentheses_throwsParseException() {
+        assertParseFailure(parser, "(tag:Math", QueryCommandParser.MESSAGE_UNBALANCED_PARENTHESES);
+        assertParseFailure(parser, "tag:Math)", QueryCommandParser.MESSAGE_UNBALANCED_PARENTHESES);
+        assertParseFailure(parser, "parent(tag:Math or tag:Science", QueryCommandParser.MESSAGE_UNBALANCED_PARENTHESES);
+    }
+
+    @Test
+    public void parse_invalidSyntax_throwsParseException() {
+        assertParseFailure(parser, "tag:Math and", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "tag:Math or or tag:Science", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "parent tag:Math", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "math", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "\"tag:Math\"", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "()", MESSAGE_INVALID_FORMAT);
+    }
+}
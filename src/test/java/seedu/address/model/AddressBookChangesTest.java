@@ -0,0 +1,112 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.util.Pair;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.tag.Tag;
+
+public class AddressBookChangesTest {
+
+    private static final PersonId FIRST_ID = new PersonId(1);
+    private static final PersonId SECOND_ID = new PersonId(2);
+
+    @Test
+    public void isEmpty() {
+        assertTrue(AddressBookChanges.NONE.isEmpty());
+        assertFalse(AddressBookChanges.ALL.isEmpty());
+        assertFalse(new AddressBookChanges.Builder().recordTagRemoved(new Tag("Math")).build().isEmpty());
+    }
+
+    @Test
+    public void recordLinkAdded_idsInEitherOrder_smallerIdFirst() {
+        AddressBookChanges changes = new AddressBookChanges.Builder().recordLinkAdded(SECOND_ID, FIRST_ID).build();
+        assertEquals(Set.of(new Pair<>(FIRST_ID, SECOND_ID)), changes.getAddedLinks());
+    }
+
+    @Test
+    public void recordPersonRemoved_changedPerson_onlyRemovalRecorded() {
+        AddressBookChanges changes = new AddressBookChanges.Builder()
+                .recordPersonChanged(FIRST_ID)
+                .recordPersonRemoved(FIRST_ID)
+                .build();
+        assertEquals(Set.of(), changes.getChangedPersonIds());
+        assertEquals(Set.of(FIRST_ID), changes.getRemovedPersonIds());
+    }
+
+    @Test
+    public void recordPersonChanged_afterReplaced_notRecorded() {
+        AddressBookChanges changes = new AddressBookChanges.Builder()
+                .recordReplaced()
+                .recordPersonChanged(FIRST_ID)
+                .build();
+        assertEquals(AddressBookChanges.ALL, changes);
+    }
+
+    @Test
+    public void merge_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> AddressBookChanges.NONE.merge(null));
+    }
+
+    @Test
+    public void merge_emptyChanges_otherChangesReturned() {
+        AddressBookChanges changes = new AddressBookChanges.Builder().recordPersonChanged(FIRST_ID).build();
+        assertSame(changes, AddressBookChanges.NONE.merge(changes));
+        assertSame(changes, changes.merge(AddressBookChanges.NONE));
+    }
+
+    @Test
+    public void merge_laterChanges_combined() {
+        AddressBookChanges earlier = new AddressBookChanges.Builder()
+                .recordPersonChanged(FIRST_ID)
+                .recordLinkAdded(FIRST_ID, SECOND_ID)
+                .recordTagAdded(new Tag("Math"))
+                .build();
+        AddressBookChanges later = new AddressBookChanges.Builder()
+                .recordPersonChanged(SECOND_ID)
+                .recordLinkRemoved(FIRST_ID, SECOND_ID)
+                .recordTagRemoved(new Tag("Physics"))
+                .build();
+
+        AddressBookChanges expected = new AddressBookChanges.Builder()
+                .recordPersonChanged(FIRST_ID)
+                .recordPersonChanged(SECOND_ID)
+                .recordTagAdded(new Tag("Math"))
+                .recordTagRemoved(new Tag("Physics"))
+                .build();
+        assertEquals(expected, earlier.merge(later));
+    }
+
+    @Test
+    public void merge_laterReplaced_replaced() {
+        AddressBookChanges earlier = new AddressBookChanges.Builder().recordPersonChanged(FIRST_ID).build();
+        assertEquals(AddressBookChanges.ALL, earlier.merge(AddressBookChanges.ALL));
+        assertEquals(AddressBookChanges.ALL, AddressBookChanges.ALL.merge(earlier));
+    }
+
+    @Test
+    public void equals() {
+        AddressBookChanges changes = new AddressBookChanges.Builder().recordPersonChanged(FIRST_ID).build();
+
+        // same values -> returns true
+        assertTrue(changes.equals(new AddressBookChanges.Builder().recordPersonChanged(FIRST_ID).build()));
+
+        // same object -> returns true
+        assertTrue(changes.equals(changes));
+
+        // null -> returns false
+        assertFalse(changes.equals(null));
+
+        // different values -> returns false
+        assertFalse(changes.equals(new AddressBookChanges.Builder().recordPersonRemoved(FIRST_ID).build()));
+        assertFalse(changes.equals(AddressBookChanges.ALL));
+    }
+}
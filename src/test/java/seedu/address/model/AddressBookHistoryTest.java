@@ -0,0 +1,161 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookHistoryTest {
+
+    private final AddressBookHistory history = new AddressBookHistory();
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = getTypicalAddressBook();
+        addressBook.setHistory(history);
+    }
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AddressBookHistory(0));
+    }
+
+    @Test
+    public void commit_noMutation_nothingToUndo() {
+        assertFalse(history.commit());
+        assertFalse(history.canUndo());
+        assertThrows(IllegalStateException.class, () -> history.undo(addressBook));
+        assertThrows(IllegalStateException.class, () -> history.redo(addressBook));
+    }
+
+    @Test
+    public void undo_addPerson_personRemoved() {
+        addressBook.addPerson(HOON);
+        history.commit();
+
+        history.undo(addressBook);
+        assertEquals(getTypicalAddressBook(), addressBook);
+        assertFalse(history.canUndo());
+        assertTrue(history.canRedo());
+
+        history.redo(addressBook);
+        assertTrue(addressBook.hasPerson(HOON));
+        assertTrue(history.canUndo());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void undo_setPerson_personRestored() {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").buildStudent();
+        addressBook.setPerson(ALICE, editedAlice);
+        history.commit();
+
+        history.undo(addressBook);
+        assertEquals(getTypicalAddressBook(), addressBook);
+
+        history.redo(addressBook);
+        assertEquals(List.of(editedAlice), addressBook.getPersonList().subList(0, 1));
+    }
+
+    @Test
+    public void undo_removeLinkedPerson_personRestoredAtItsPositionWithLinks() {
+        addressBook.linkPersons(BENSON, CARL);
+        history.commit();
+        addressBook.removePerson(BENSON);
+        history.commit();
+
+        history.undo(addressBook);
+        assertEquals(getTypicalAddressBook(), addressBook);
+        assertEquals(List.of(CARL), addressBook.getLinkedPersons(BENSON));
+
+        history.undo(addressBook);
+        assertEquals(List.of(), addressBook.getLinkedPersons(BENSON));
+
+        history.redo(addressBook);
+        history.redo(addressBook);
+        assertFalse(addressBook.hasPerson(BENSON));
+        assertEquals(List.of(), addressBook.getLinkedPersons(CARL));
+    }
+
+    @Test
+    public void undo_deleteTagTypes_tagsRestoredToStudents() {
+        Tag tag = new Tag("Physics");
+        Person taggedAlice = new PersonBuilder(ALICE).withTags("Physics").buildStudent();
+        addressBook.addTagTypes(Set.of(tag));
+        addressBook.setPerson(ALICE, taggedAlice);
+        history.commit();
+        AddressBook expected = new AddressBook(addressBook);
+
+        addressBook.deleteTagTypes(Set.of(tag));
+        history.commit();
+        history.undo(addressBook);
+
+        assertEquals(expected, addressBook);
+        assertTrue(addressBook.hasTag(tag));
+    }
+
+    @Test
+    public void undo_resetData_addressBookRestored() {
+        addressBook.linkPersons(BENSON, CARL);
+        history.commit();
+
+        addressBook.resetData(new AddressBook());
+        history.commit();
+        history.undo(addressBook);
+
+        assertEquals(getTypicalAddressBook(), addressBook);
+        assertEquals(List.of(CARL), addressBook.getLinkedPersons(BENSON));
+    }
+
+    @Test
+    public void undo_uncommittedMutations_undoneAsOneEdit() {
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(ALICE);
+
+        history.undo(addressBook);
+        assertEquals(getTypicalAddressBook(), addressBook);
+    }
+
+    @Test
+    public void commit_afterUndo_redoForgotten() {
+        addressBook.addPerson(HOON);
+        history.commit();
+        history.undo(addressBook);
+
+        addressBook.removePerson(ALICE);
+        history.commit();
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void commit_beyondCapacity_oldestEditForgotten() {
+        AddressBookHistory shortHistory = new AddressBookHistory(1);
+        addressBook.setHistory(shortHistory);
+        addressBook.removePerson(ALICE);
+        shortHistory.commit();
+        addressBook.removePerson(BENSON);
+        shortHistory.commit();
+
+        shortHistory.undo(addressBook);
+        assertFalse(shortHistory.canUndo());
+        assertTrue(addressBook.hasPerson(BENSON));
+        assertFalse(addressBook.hasPerson(ALICE));
+    }
+
+}
@@ -0,0 +1,123 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.util.Pair;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.RelationshipGraph;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookSnapshotTest {
+
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = getTypicalAddressBook();
+        addressBook.addTagTypes(Set.of(new Tag("Science"), new Tag("Math")));
+        addressBook.linkPersons(ALICE, CARL);
+    }
+
+    @Test
+    public void snapshot_unchangedAddressBook_sameSnapshot() {
+        assertSame(addressBook.snapshot(), addressBook.snapshot());
+    }
+
+    @Test
+    public void snapshot_laterChanges_snapshotUnchanged() {
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+        AddressBook expected = new AddressBook(addressBook);
+        long modificationCount = addressBook.getModificationCount();
+
+        addressBook.addPerson(HOON);
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("99999999").buildStudent());
+        addressBook.removePerson(ALICE);
+        addressBook.linkPersons(BENSON, DANIEL);
+        addressBook.deleteTagTypes(Set.of(new Tag("Math")));
+
+        assertEquals(expected, new AddressBook(snapshot));
+        assertEquals(expected.getPersonList(), snapshot.getPersonList());
+        assertEquals(expected.getTags(), snapshot.getTags());
+        assertEquals(expected.getRelationshipGraph(), snapshot.getRelationshipGraph());
+        assertEquals(modificationCount, snapshot.getModificationCount());
+        assertTrue(snapshot.getPersonWithId(ALICE.getId()).isPresent());
+        assertFalse(snapshot.getPersonWithId(HOON.getId()).isPresent());
+    }
+
+    @Test
+    public void snapshot_afterChanges_sameContentsAsAddressBook() {
+        addressBook.addPerson(HOON);
+        Person editedCarl = new PersonBuilder(CARL).withPhone("99999999").buildParent();
+        addressBook.setPerson(CARL, editedCarl);
+        addressBook.removePerson(BENSON);
+        addressBook.linkPersons(HOON, DANIEL);
+        addressBook.unlinkPersons(ALICE, editedCarl);
+        addressBook.deleteTagTypes(Set.of(new Tag("Math")));
+
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+        assertEquals(addressBook.getPersonList(), snapshot.getPersonList());
+        assertEquals(addressBook.getTags(), snapshot.getTags());
+        assertEquals(addressBook.getRelationshipGraph(), snapshot.getRelationshipGraph());
+        assertEquals(addressBook.getModificationCount(), snapshot.getModificationCount());
+        assertEquals(snapshot, AddressBookSnapshot.of(addressBook));
+    }
+
+    @Test
+    public void snapshot_resetData_sameContentsAsAddressBook() {
+        AddressBook other = new AddressBook();
+        other.addPerson(HOON);
+        other.addPerson(DANIEL);
+        other.linkPersons(HOON, DANIEL);
+        addressBook.resetData(other);
+
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+        assertEquals(List.of(HOON, DANIEL), snapshot.getPersonList());
+        assertEquals(other.getRelationshipGraph(), snapshot.getRelationshipGraph());
+    }
+
+    @Test
+    public void getRelationshipGraph_linksUnchanged_sameGraph() {
+        RelationshipGraph graph = addressBook.snapshot().getRelationshipGraph();
+        addressBook.addPerson(HOON);
+        assertSame(graph, addressBook.snapshot().getRelationshipGraph());
+    }
+
+    @Test
+    public void forEachLink_sameLinksAsAddressBook() {
+        addressBook.linkPersons(BENSON, DANIEL);
+        addressBook.unlinkPersons(ALICE, CARL);
+        addressBook.linkPersons(ALICE, DANIEL);
+
+        List<Pair<PersonId, PersonId>> links = new ArrayList<>();
+        addressBook.snapshot().forEachLink((a, b) -> links.add(new Pair<>(a, b)));
+        assertEquals(Set.copyOf(addressBook.getRelationshipGraph().getAllLinksAsPairs()), Set.copyOf(links));
+        assertEquals(2, links.size());
+    }
+
+    @Test
+    public void modify_snapshot_throwsUnsupportedOperationException() {
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.addTagTypes(Set.of(new Tag("Art"))));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+}
@@ -2,27 +2,41 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_MATH;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_SCIENCE;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Student;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.UniqueTagList;
+import seedu.address.model.util.RelationshipGraph;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -81,6 +95,232 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getPersonsWithEmail_emailDiffersInCase_returnsPerson() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(CARL);
+        assertEquals(Set.of(ALICE), addressBook.getPersonsWithEmail(new Email(ALICE.getEmail().value.toUpperCase())));
+        assertEquals(Set.of(), addressBook.getPersonsWithEmail(new Email(VALID_EMAIL_BOB)));
+    }
+
+    @Test
+    public void getPersonsWithPhone_sharedPhone_returnsAllPersons() {
+        Person parentWithAlicePhone = new PersonBuilder(CARL).withPhone(ALICE.getPhone().value).buildParent();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(parentWithAlicePhone);
+        assertEquals(Set.of(ALICE, parentWithAlicePhone), addressBook.getPersonsWithPhone(ALICE.getPhone()));
+    }
+
+    @Test
+    public void setPerson_editedEmailAndPhone_indexesUpdated() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB).withPhone(VALID_PHONE_BOB)
+                .buildStudent();
+        addressBook.setPerson(ALICE, editedAlice);
+
+        assertEquals(Set.of(), addressBook.getPersonsWithEmail(ALICE.getEmail()));
+        assertEquals(Set.of(), addressBook.getPersonsWithPhone(ALICE.getPhone()));
+        assertEquals(Set.of(editedAlice), addressBook.getPersonsWithEmail(new Email(VALID_EMAIL_BOB)));
+        assertEquals(Set.of(editedAlice), addressBook.getPersonsWithPhone(new Phone(VALID_PHONE_BOB)));
+    }
+
+    @Test
+    public void removePerson_indexedPerson_indexesUpdated() {
+        addressBook.addPerson(ALICE);
+        addressBook.removePerson(ALICE);
+        assertEquals(Optional.empty(), addressBook.getPersonWithName(ALICE.getName()));
+        assertEquals(Set.of(), addressBook.getPersonsWithEmail(ALICE.getEmail()));
+        assertEquals(Set.of(), addressBook.getPersonsWithPhone(ALICE.getPhone()));
+    }
+
+    @Test
+    public void getPersonIdsWithNameKeywords_anyKeywordMatches_returnsUnionIgnoringCase() {
+        Person aliceKurz = new PersonBuilder(CARL).withName("Alice Kurz").buildParent();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(CARL);
+        addressBook.addPerson(aliceKurz);
+
+        assertEquals(Set.of(ALICE.getId(), aliceKurz.getId()),
+                addressBook.getPersonIdsWithNameKeywords(List.of("aLIce")));
+        assertEquals(Set.of(ALICE.getId(), CARL.getId(), aliceKurz.getId()),
+                addressBook.getPersonIdsWithNameKeywords(List.of("pauline", "KURZ")));
+        // partial words do not match
+        assertEquals(Set.of(), addressBook.getPersonIdsWithNameKeywords(List.of("Ali", "Kur")));
+    }
+
+    @Test
+    public void getPersonIdsWithNamePrefixes_anyPrefixMatches_returnsUnionIgnoringCase() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(CARL);
+        assertEquals(Set.of(ALICE.getId(), CARL.getId()),
+                addressBook.getPersonIdsWithNamePrefixes(List.of("aLI", "ku")));
+        assertEquals(Set.of(), addressBook.getPersonIdsWithNamePrefixes(List.of("lice")));
+    }
+
+    @Test
+    public void getSimilarNameTokens_afterFirstSearch_keptUpToDate() {
+        addressBook.addPerson(ALICE);
+        assertEquals(Map.of("alice", 1), addressBook.getSimilarNameTokens("Alise", 1));
+
+        Person alyse = new PersonBuilder(CARL).withName("Alyse Kurz").buildParent();
+        addressBook.addPerson(alyse);
+        assertEquals(Map.of("alice", 1, "alyse", 1), addressBook.getSimilarNameTokens("ALISE", 1));
+
+        addressBook.removePerson(ALICE);
+        assertEquals(Map.of("alyse", 1), addressBook.getSimilarNameTokens("alise", 1));
+    }
+
+    @Test
+    public void getPersonIdsWithNameSoundingLike_returnsUnionOfPostings() {
+        addressBook.addPerson(ALICE);
+        Person yeoh = new PersonBuilder(CARL).withName("Bernice Yeoh").buildParent();
+        addressBook.addPerson(yeoh);
+
+        assertEquals(Set.of(yeoh.getId()), addressBook.getPersonIdsWithNameSoundingLike(List.of("yeo")));
+        assertEquals(Set.of(ALICE.getId(), yeoh.getId()),
+                addressBook.getPersonIdsWithNameSoundingLike(List.of("Berenice", "Alyce")));
+        assertEquals(Set.of(), addressBook.getPersonIdsWithNameSoundingLike(List.of("Bob", "h")));
+    }
+
+    @Test
+    public void getPersonsWithNameSoundingLike_wholeNameInOrder() {
+        Person yeoh = new PersonBuilder(CARL).withName("Bernice Yeoh").buildParent();
+        Person yeo = new PersonBuilder(BOB).withName("Yeo Bernice").buildParent();
+        addressBook.addPerson(yeoh);
+        addressBook.addPerson(yeo);
+
+        assertEquals(Set.of(yeoh), addressBook.getPersonsWithNameSoundingLike(new Name("Berenice Yeo")));
+        assertEquals(Set.of(yeo), addressBook.getPersonsWithNameSoundingLike(new Name("yeo berenice")));
+        assertEquals(Set.of(), addressBook.getPersonsWithNameSoundingLike(new Name("Berenice")));
+
+        Person edited = new PersonBuilder(yeoh).withName("Bernice Tan").buildParent();
+        addressBook.setPerson(yeoh, edited);
+        assertEquals(Set.of(), addressBook.getPersonsWithNameSoundingLike(new Name("Berenice Yeo")));
+        assertEquals(Set.of(edited), addressBook.getPersonsWithNameSoundingLike(new Name("Berenice Tan")));
+    }
+
+    @Test
+    public void setPerson_editedName_nameIndexUpdated() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").buildStudent();
+        addressBook.setPerson(ALICE, editedAlice);
+
+        assertEquals(Set.of(), addressBook.getPersonIdsWithNameKeywords(List.of("Alice")));
+        assertEquals(Set.of(editedAlice.getId()), addressBook.getPersonIdsWithNameKeywords(List.of("Alicia")));
+        assertEquals(Set.of(editedAlice.getId()), addressBook.getPersonIdsWithNamePrefixes(List.of("Ali")));
+
+        addressBook.removePerson(editedAlice);
+        assertEquals(Set.of(), addressBook.getPersonIdsWithNameKeywords(List.of("Alicia", "Pauline")));
+        assertEquals(Set.of(), addressBook.getPersonIdsWithNamePrefixes(List.of("")));
+    }
+
+    @Test
+    public void deleteTagTypes_tagOfSomeStudents_onlyTheirTagsRemoved() {
+        Student mathStudent = new PersonBuilder(ALICE).withTags(VALID_TAG_MATH).buildStudent();
+        Student scienceStudent = new PersonBuilder(BOB).withTags(VALID_TAG_SCIENCE).buildStudent();
+        addressBook.addTagTypes(Set.of(new Tag(VALID_TAG_MATH), new Tag(VALID_TAG_SCIENCE)));
+        addressBook.addPerson(mathStudent);
+        addressBook.addPerson(scienceStudent);
+
+        addressBook.deleteTagTypes(Set.of(new Tag(VALID_TAG_MATH)));
+
+        Student updatedMathStudent = (Student) addressBook.getPersonWithId(mathStudent.getId()).get();
+        assertEquals(Set.of(), updatedMathStudent.getTags());
+        assertSame(scienceStudent, addressBook.getPersonWithId(scienceStudent.getId()).get());
+        assertTrue(addressBook.getTagList().getStudentsWithTag(new Tag(VALID_TAG_MATH)).isEmpty());
+    }
+
+    @Test
+    public void setPerson_editedTags_tagIndexUpdated() {
+        Student mathStudent = new PersonBuilder(ALICE).withTags(VALID_TAG_MATH).buildStudent();
+        Student scienceStudent = new PersonBuilder(ALICE).withTags(VALID_TAG_SCIENCE).buildStudent();
+        addressBook.addPerson(mathStudent);
+        addressBook.setPerson(mathStudent, scienceStudent);
+
+        assertTrue(addressBook.getTagList().getStudentsWithTag(new Tag(VALID_TAG_MATH)).isEmpty());
+        assertEquals(Set.of(scienceStudent.getId()),
+                addressBook.getTagList().getStudentsWithTag(new Tag(VALID_TAG_SCIENCE)));
+    }
+
+    @Test
+    public void getModificationCount_modifyingOperations_increased() {
+        long count = addressBook.getModificationCount();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getModificationCount() > count);
+
+        count = addressBook.getModificationCount();
+        addressBook.addTagTypes(Set.of(new Tag(VALID_TAG_MATH)));
+        assertTrue(addressBook.getModificationCount() > count);
+
+        count = addressBook.getModificationCount();
+        addressBook.addPerson(CARL);
+        addressBook.linkPersons(ALICE, CARL);
+        assertTrue(addressBook.getModificationCount() > count);
+    }
+
+    @Test
+    public void getModificationCount_unchangedData_notIncreased() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(CARL);
+        addressBook.linkPersons(ALICE, CARL);
+        addressBook.addTagTypes(Set.of(new Tag(VALID_TAG_MATH)));
+        long count = addressBook.getModificationCount();
+
+        addressBook.hasPerson(ALICE);
+        addressBook.getLinkedPersons(ALICE);
+        addressBook.linkPersons(ALICE, CARL);
+        addressBook.unlinkPersons(ALICE, BOB);
+        addressBook.addTagTypes(Set.of(new Tag(VALID_TAG_MATH)));
+        addressBook.deleteTagTypes(Set.of(new Tag("Geography")));
+
+        assertEquals(count, addressBook.getModificationCount());
+    }
+
+    @Test
+    public void takeChanges_personsLinksAndTagsChanged_changesReturnedOnce() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(CARL);
+        addressBook.linkPersons(CARL, ALICE);
+        addressBook.addTagTypes(Set.of(new Tag(VALID_TAG_MATH)));
+
+        AddressBookChanges expected = new AddressBookChanges.Builder()
+                .recordPersonChanged(ALICE.getId())
+                .recordPersonChanged(CARL.getId())
+                .recordLinkAdded(ALICE.getId(), CARL.getId())
+                .recordTagAdded(new Tag(VALID_TAG_MATH))
+                .build();
+        assertEquals(expected, addressBook.takeChanges());
+        assertEquals(AddressBookChanges.NONE, addressBook.takeChanges());
+
+        addressBook.removePerson(ALICE);
+        expected = new AddressBookChanges.Builder()
+                .recordPersonRemoved(ALICE.getId())
+                .recordLinkRemoved(ALICE.getId(), CARL.getId())
+                .build();
+        assertEquals(expected, addressBook.takeChanges());
+    }
+
+    @Test
+    public void takeChanges_linkAddedAndRemovedAgain_noChanges() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(CARL);
+        addressBook.takeChanges();
+
+        addressBook.linkPersons(ALICE, CARL);
+        addressBook.unlinkPersons(CARL, ALICE);
+
+        assertTrue(addressBook.takeChanges().isEmpty());
+    }
+
+    @Test
+    public void takeChanges_dataReset_replaced() {
+        addressBook.addPerson(ALICE);
+        addressBook.resetData(getTypicalAddressBook());
+        addressBook.addPerson(BOB);
+
+        assertEquals(AddressBookChanges.ALL, addressBook.takeChanges());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -107,6 +347,11 @@ public class AddressBookTest {
             return persons;
         }
 
+        @Override
+        public Optional<Person> getPersonWithId(PersonId id) {
+            return persons.stream().filter(person -> person.getId().equals(id)).findFirst();
+        }
+
         @Override
         public UniqueTagList getTagList() {
             return new UniqueTagList();
@@ -134,6 +379,21 @@ public class AddressBookTest {
         public Set<Tag> getTags() {
             return Set.of();
         }
+
+        @Override
+        public RelationshipGraph getRelationshipGraph() {
+            return new RelationshipGraph();
+        }
+
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
+
+        @Override
+        public AddressBookSnapshot snapshot() {
+            return AddressBookSnapshot.of(this);
+        }
     }
 
 }
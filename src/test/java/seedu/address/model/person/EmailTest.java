@@ -51,6 +51,8 @@ public class EmailTest {
         assertFalse(Email.isValidEmail("peterjack@-example.com")); // domain name starts with a hyphen
         assertFalse(Email.isValidEmail("peterjack@example.com-")); // domain name ends with a hyphen
         assertFalse(Email.isValidEmail("peterjack@example.c")); // top level domain has less than two chars
+        assertFalse(Email.isValidEmail("peterjack@example.c-o-m")); // no two characters in a row in top level domain
+        assertFalse(Email.isValidEmail("peterjack@" + "a".repeat(300) + "!")); // almost valid long domain
 
         // valid email
         assertTrue(Email.isValidEmail("e1234567@example.com")); // underscore in local part
@@ -56,6 +56,18 @@ public class NameContainsKeywordsPredicateTest {
         // Mixed-case keywords
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("aLIce", "bOB"));
         assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").buildStudent()));
+
+        // Prefix keywords
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("Carol", "bO*"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").buildStudent()));
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("Alice*"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").buildStudent()));
+
+        // Sound-alike keywords
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("Carol", "~yeo"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Bernice Yeoh").buildStudent()));
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("~BERENICE"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Bernice Yeoh").buildStudent()));
     }
 
     @Test
@@ -68,6 +80,14 @@ public class NameContainsKeywordsPredicateTest {
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("Carol"));
         assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").buildStudent()));
 
+        // Partial word without wildcard, and prefix that is not at the start of a word
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("Ali", "li*"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").buildStudent()));
+
+        // Sound-alike keyword that sounds different, and sound-alike without the marker
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("~Ben", "Berenice"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Bernice Yeoh").buildStudent()));
+
         // Keywords match phone, email and address, but does not match name
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("12345", "alice@email.com", "Main", "Street"));
         assertFalse(predicate.test(new PersonBuilder().withName("Alice").withPhone("12345")
@@ -1,9 +1,13 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -58,4 +62,43 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void getSearchTokens() {
+        assertEquals(List.of("alice"), new Name("ALICE").getSearchTokens());
+        assertEquals(List.of("mary-jane", "o'neil"), new Name("Mary-Jane  O'Neil").getSearchTokens());
+    }
+
+    @Test
+    public void toSearchToken() {
+        assertEquals("alice", Name.toSearchToken(" aLIce "));
+    }
+
+    @Test
+    public void getSearchTokens_turkishDefaultLocale_sameTokens() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            // a Turkish capital I would otherwise be lower-cased to a dotless i
+            assertEquals(List.of("ida"), new Name("IDA").getSearchTokens());
+            assertEquals("ida", Name.toSearchToken("IDA"));
+            assertEquals(new Name("ida").hashCode(), new Name("IDA").hashCode());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void getPhoneticKeys() {
+        assertEquals(List.of("Y", "BRNS"), new Name("Yeoh Bernice").getPhoneticKeys());
+        assertEquals(new Name("Yeo Berenice").getPhoneticKeys(), new Name("yeoh bernice").getPhoneticKeys());
+        // words without sounded letters have no key
+        assertEquals(List.of("AN"), new Name("Ian H").getPhoneticKeys());
+    }
+
+    @Test
+    public void toPhoneticKey() {
+        assertEquals("BRNS", Name.toPhoneticKey("Berenice"));
+        assertEquals("", Name.toPhoneticKey("h"));
+    }
 }
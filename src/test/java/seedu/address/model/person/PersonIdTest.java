@@ -0,0 +1,61 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonIdTest {
+
+    @Test
+    public void constructor_invalidId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonId(0));
+        assertThrows(IllegalArgumentException.class, () -> new PersonId(-1));
+    }
+
+    @Test
+    public void isValidId() {
+        assertFalse(PersonId.isValidId(0));
+        assertFalse(PersonId.isValidId(-5));
+
+        assertTrue(PersonId.isValidId(1));
+        assertTrue(PersonId.isValidId(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void generate_calledTwice_returnsDifferentIds() {
+        assertNotEquals(PersonId.generate(), PersonId.generate());
+    }
+
+    @Test
+    public void reserve_idAheadOfGenerator_notGeneratedAfterwards() {
+        PersonId reserved = new PersonId(PersonId.generate().value + 10);
+        PersonId.reserve(reserved);
+        assertTrue(PersonId.generate().value > reserved.value);
+    }
+
+    @Test
+    public void equals() {
+        PersonId id = new PersonId(7);
+
+        // same values -> returns true
+        assertTrue(id.equals(new PersonId(7)));
+
+        // same object -> returns true
+        assertTrue(id.equals(id));
+
+        // null -> returns false
+        assertFalse(id.equals(null));
+
+        // different types -> returns false
+        assertFalse(id.equals(7));
+
+        // different values -> returns false
+        assertFalse(id.equals(new PersonId(8)));
+
+        assertEquals(id.hashCode(), new PersonId(7).hashCode());
+    }
+}
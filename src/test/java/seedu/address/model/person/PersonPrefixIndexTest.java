@@ -0,0 +1,90 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonPrefixIndexTest {
+
+    // indexes Alice Pauline, Benson Meier, Carl Kurz and Daniel Meier by their name words
+    private final PersonPrefixIndex index = new PersonPrefixIndex(person -> person.getName().getSearchTokens());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonPrefixIndex(null));
+    }
+
+    @Test
+    public void get_wholeKeysOnly() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(DANIEL);
+        assertEquals(Set.of(ALICE.getId()), index.get("alice"));
+        assertEquals(Set.of(BENSON.getId(), DANIEL.getId()), index.get("meier"));
+        assertEquals(Set.of(), index.get("ali"));
+        assertEquals(Set.of(), index.get("alicea"));
+    }
+
+    @Test
+    public void getWithPrefix_keysStartingWithPrefix() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CARL);
+        index.add(DANIEL);
+
+        assertEquals(Set.of(ALICE.getId()), index.getWithPrefix("al"));
+        assertEquals(Set.of(ALICE.getId()), index.getWithPrefix("pauline"));
+        assertEquals(Set.of(BENSON.getId(), DANIEL.getId()), index.getWithPrefix("me"));
+        assertEquals(Set.of(ALICE.getId(), BENSON.getId(), CARL.getId(), DANIEL.getId()), index.getWithPrefix(""));
+        assertEquals(Set.of(), index.getWithPrefix("alicea"));
+        assertEquals(Set.of(), index.getWithPrefix("x"));
+    }
+
+    @Test
+    public void remove_keyWithLongerKeyBelow_longerKeyKept() {
+        Person al = new PersonBuilder(CARL).withName("Al Kurz").buildParent();
+        index.add(al);
+        index.add(ALICE);
+
+        index.remove(al);
+        assertEquals(Set.of(), index.get("al"));
+        assertEquals(Set.of(ALICE.getId()), index.getWithPrefix("al"));
+
+        index.remove(ALICE);
+        assertEquals(Set.of(), index.getWithPrefix(""));
+    }
+
+    @Test
+    public void remove_personSharingKey_otherPersonKept() {
+        index.add(BENSON);
+        index.add(DANIEL);
+        index.remove(BENSON);
+        assertEquals(Set.of(DANIEL.getId()), index.getWithPrefix("meier"));
+        assertEquals(Set.of(), index.getWithPrefix("benson"));
+    }
+
+    @Test
+    public void keys_alphabeticalOrder() {
+        index.add(BENSON);
+        index.add(ALICE);
+        index.add(DANIEL);
+        assertEquals(List.of("alice", "benson", "daniel", "meier", "pauline"), index.keys());
+    }
+
+    @Test
+    public void clear_removesAllKeys() {
+        index.add(ALICE);
+        index.clear();
+        assertEquals(Set.of(), index.getWithPrefix(""));
+    }
+}
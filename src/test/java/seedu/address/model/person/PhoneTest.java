@@ -30,13 +30,16 @@ public class PhoneTest {
         assertFalse(Phone.isValidPhone("91")); // less than 3 numbers
         assertFalse(Phone.isValidPhone("phone")); // non-numeric
         assertFalse(Phone.isValidPhone("9011p041")); // alphabets within digits
-
+        assertFalse(Phone.isValidPhone("12345678901234567890123456")); // more than 25 characters
+        assertFalse(Phone.isValidPhone("\u0661\u0662\u0663")); // digits outside 0-9
 
         // valid phone numbers
         assertTrue(Phone.isValidPhone("911")); // exactly 3 numbers
         assertTrue(Phone.isValidPhone("93121534"));
         assertTrue(Phone.isValidPhone("9312 1534")); // spaces within digits
         assertTrue(Phone.isValidPhone("124293842033123")); // long phone numbers (longest allowed)
+        assertTrue(Phone.isValidPhone("+65 (6123)-4567")); // all allowed symbols
+        assertTrue(Phone.isValidPhone("1234567890123456789012345")); // exactly 25 characters
     }
 
     @Test
@@ -0,0 +1,133 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+
+public class QueryExpressionTest {
+
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = getTypicalAddressBook();
+        addressBook.linkPersons(ALICE, CARL);
+    }
+
+    @Test
+    public void condition_invalidValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> QueryExpression.condition(QueryField.NAME, " "));
+        assertThrows(IllegalArgumentException.class, () -> QueryExpression.condition(QueryField.PHONE, "*"));
+        assertThrows(IllegalArgumentException.class, () -> QueryExpression.condition(QueryField.TAG, "a b"));
+        assertThrows(IllegalArgumentException.class, () -> QueryExpression.condition(QueryField.ROLE, "teacher"));
+    }
+
+    @Test
+    public void test_name() {
+        assertTrue(condition(QueryField.NAME, "PAULINE alice").test(ALICE, addressBook));
+        assertTrue(condition(QueryField.NAME, "al* paul*").test(ALICE, addressBook));
+        assertFalse(condition(QueryField.NAME, "alice meier").test(ALICE, addressBook));
+        assertFalse(condition(QueryField.NAME, "ali").test(ALICE, addressBook));
+    }
+
+    @Test
+    public void test_emailAndPhone() {
+        assertTrue(condition(QueryField.EMAIL, "ALICE@example.com").test(ALICE, addressBook));
+        assertTrue(condition(QueryField.EMAIL, "alice@*").test(ALICE, addressBook));
+        assertFalse(condition(QueryField.EMAIL, "alice").test(ALICE, addressBook));
+
+        // phone numbers are compared by their digits
+        assertTrue(condition(QueryField.PHONE, "9435 1253").test(ALICE, addressBook));
+        assertTrue(condition(QueryField.PHONE, "9435*").test(ALICE, addressBook));
+        assertFalse(condition(QueryField.PHONE, "9435").test(ALICE, addressBook));
+    }
+
+    @Test
+    public void test_address() {
+        assertTrue(condition(QueryField.ADDRESS, "JURONG west").test(ALICE, addressBook));
+        assertTrue(condition(QueryField.ADDRESS, "123*").test(ALICE, addressBook));
+        assertFalse(condition(QueryField.ADDRESS, "jurong*").test(ALICE, addressBook));
+    }
+
+    @Test
+    public void test_tagAndRole() {
+        assertTrue(condition(QueryField.TAG, "science").test(ALICE, addressBook));
+        assertFalse(condition(QueryField.TAG, "Math").test(ALICE, addressBook));
+        assertFalse(condition(QueryField.TAG, "Science").test(CARL, addressBook));
+
+        assertTrue(condition(QueryField.ROLE, "Student").test(ALICE, addressBook));
+        assertFalse(condition(QueryField.ROLE, "parent").test(ALICE, addressBook));
+    }
+
+    @Test
+    public void test_related() {
+        QueryExpression parentKurz = QueryExpression.related(QueryRelation.PARENT, condition(QueryField.NAME, "kurz"));
+        assertTrue(parentKurz.test(ALICE, addressBook));
+        assertFalse(parentKurz.test(BENSON, addressBook));
+
+        // Carl is Alice's parent, not her child
+        QueryExpression childKurz = QueryExpression.related(QueryRelation.CHILD, condition(QueryField.NAME, "kurz"));
+        assertFalse(childKurz.test(ALICE, addressBook));
+        assertTrue(QueryExpression.related(QueryRelation.LINKED, condition(QueryField.NAME, "kurz"))
+                .test(ALICE, addressBook));
+    }
+
+    @Test
+    public void test_combinations() {
+        QueryExpression math = condition(QueryField.TAG, "Math");
+        QueryExpression science = condition(QueryField.TAG, "Science");
+        assertTrue(QueryExpression.and(List.of(science, QueryExpression.not(math))).test(ALICE, addressBook));
+        assertFalse(QueryExpression.and(List.of(science, QueryExpression.not(math))).test(BENSON, addressBook));
+        assertTrue(QueryExpression.or(List.of(math, science)).test(ALICE, addressBook));
+        assertFalse(QueryExpression.or(List.of(math, science)).test(CARL, addressBook));
+    }
+
+    @Test
+    public void toStringMethod() {
+        QueryExpression math = condition(QueryField.TAG, "Math");
+        QueryExpression student = condition(QueryField.ROLE, "student");
+        QueryExpression name = condition(QueryField.NAME, " alex  yeo ");
+
+        assertEquals("name:\"alex  yeo\"", name.toString());
+        assertEquals("(tag:Math or name:\"alex  yeo\") and role:student", QueryExpression.and(List.of(
+                QueryExpression.or(List.of(math, name)), student)).toString());
+        assertEquals("tag:Math or tag:Math and role:student", QueryExpression.or(List.of(
+                math, QueryExpression.and(List.of(math, student)))).toString());
+        assertEquals("not (tag:Math and role:student)",
+                QueryExpression.not(QueryExpression.and(List.of(math, student))).toString());
+        assertEquals("parent(tag:Math or role:student)",
+                QueryExpression.related(QueryRelation.PARENT, QueryExpression.or(List.of(math, student))).toString());
+    }
+
+    @Test
+    public void equals() {
+        QueryExpression math = condition(QueryField.TAG, "Math");
+
+        // same canonical text -> returns true
+        assertEquals(math, condition(QueryField.TAG, "Math"));
+        assertEquals(math, condition(QueryField.TAG, "MATH"));
+        assertEquals(QueryExpression.and(List.of(math)), math);
+
+        // different values -> returns false
+        assertNotEquals(math, condition(QueryField.TAG, "Science"));
+        assertNotEquals(math, QueryExpression.not(math));
+        assertFalse(math.equals(null));
+    }
+
+    private static QueryExpression condition(QueryField field, String value) {
+        return QueryExpression.condition(field, value);
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+public class QueryPlannerTest {
+
+    private static final QueryExpression TAG_MATH = QueryExpression.condition(QueryField.TAG, "Math");
+    private static final QueryExpression TAG_SCIENCE = QueryExpression.condition(QueryField.TAG, "Science");
+    private static final QueryExpression ROLE_STUDENT = QueryExpression.condition(QueryField.ROLE, "student");
+    private static final QueryExpression PHONE_9 = QueryExpression.condition(QueryField.PHONE, "9*");
+
+    private Model model;
+    private QueryPlanner planner;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.link(ALICE, CARL);
+        model.link(BENSON, DANIEL);
+        planner = new QueryPlanner(model);
+    }
+
+    @Test
+    public void plan_residualOnly_scansAllPersons() {
+        assertPlan(QueryExpression.not(TAG_MATH),
+                "Filter [not tag:Math] -> 6 rows\n"
+                + "  Full scan -> 7 rows");
+        assertPlan(QueryExpression.or(List.of(TAG_MATH, PHONE_9)),
+                "Filter [tag:Math or phone:9*] -> 6 rows\n"
+                + "  Full scan -> 7 rows");
+    }
+
+    @Test
+    public void plan_andOfLookups_intersectsFromSmallestPostings() {
+        // the intersection is empty after the two smallest postings, so the largest is never read
+        assertPlan(QueryExpression.and(List.of(TAG_SCIENCE, TAG_MATH, condition(QueryField.NAME, "alice"))),
+                "Intersect -> 0 rows\n"
+                + "  Tag lookup [tag:Science] (skipped)\n"
+                + "  Tag lookup [tag:Math] -> 1 row\n"
+                + "  Name token lookup [name:alice] -> 1 row");
+    }
+
+    @Test
+    public void plan_andWithResiduals_filtersLookedUpPersons() {
+        assertPlan(QueryExpression.and(List.of(ROLE_STUDENT, TAG_SCIENCE, QueryExpression.not(TAG_MATH),
+                        QueryExpression.related(QueryRelation.PARENT, PHONE_9))),
+                "Filter [role:student and not tag:Math and parent(phone:9*)] -> 1 row\n"
+                + "  Tag lookup [tag:Science] -> 2 rows");
+    }
+
+    @Test
+    public void plan_nameWords_intersectsTokenAndPrefixLookups() {
+        assertPlan(condition(QueryField.NAME, "Meier d*"),
+                "Intersect -> 1 row\n"
+                + "  Name token lookup [name:meier] -> 2 rows\n"
+                + "  Name prefix lookup [name:d*] -> 1 row");
+    }
+
+    @Test
+    public void plan_orOfLookups_unitesPostings() {
+        assertPlan(QueryExpression.or(List.of(condition(QueryField.EMAIL, "Heinz@Example.com"),
+                        condition(QueryField.PHONE, "9435 1253"))),
+                "Union -> 2 rows\n"
+                + "  Email lookup [email:Heinz@Example.com] -> 1 row\n"
+                + "  Phone lookup [phone:\"9435 1253\"] -> 1 row");
+    }
+
+    @Test
+    public void plan_relationOfLookup_followsLinks() {
+        assertPlan(QueryExpression.related(QueryRelation.CHILD, TAG_MATH),
+                "Link lookup [child] -> 1 row\n"
+                + "  Tag lookup [tag:Math] -> 1 row");
+
+        // the parent found is not a parent of itself
+        assertPlan(QueryExpression.related(QueryRelation.CHILD, condition(QueryField.NAME, "kurz")),
+                "Link lookup [child] -> 0 rows\n"
+                + "  Name token lookup [name:kurz] -> 1 row");
+    }
+
+    @Test
+    public void explain_notExecuted_showsStepsSkipped() {
+        QueryPlan plan = planner.plan(QueryExpression.and(List.of(TAG_MATH, ROLE_STUDENT)));
+        assertEquals("Filter [role:student] (skipped)\n"
+                + "  Tag lookup [tag:Math] (skipped)", plan.explain());
+        assertEquals(-1, plan.getRowCount());
+    }
+
+    /**
+     * Confirms that {@code expression} is planned as {@code expectedExplanation} and that the plan finds the same
+     * persons as testing every person against the expression.
+     */
+    private void assertPlan(QueryExpression expression, String expectedExplanation) {
+        QueryPlan plan = planner.plan(expression);
+        Set<PersonId> found = plan.execute();
+        assertEquals(expectedExplanation, plan.explain());
+
+        Set<PersonId> expected = new HashSet<>();
+        for (Person person : model.getAddressBook().getPersonList()) {
+            if (expression.test(person, model.getAddressBook())) {
+                expected.add(person.getId());
+            }
+        }
+        assertEquals(expected, found);
+    }
+
+    private static QueryExpression condition(QueryField field, String value) {
+        return QueryExpression.condition(field, value);
+    }
+}
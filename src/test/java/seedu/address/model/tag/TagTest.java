@@ -1,5 +1,7 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -21,6 +23,16 @@ public class TagTest {
     public void isValidTagName() {
         // null tag name
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
+
+        // invalid tag names
+        assertFalse(Tag.isValidTagName("")); // empty string
+        assertFalse(Tag.isValidTagName("Sec 3")); // contains a space
+        assertFalse(Tag.isValidTagName("Caf\u00e9")); // letters outside A-Z
+        assertFalse(Tag.isValidTagName("a".repeat(31))); // more than 30 characters
+
+        // valid tag names
+        assertTrue(Tag.isValidTagName("Sec3_Physics"));
+        assertTrue(Tag.isValidTagName("a".repeat(30))); // exactly 30 characters
     }
 
 }
@@ -5,11 +5,17 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Student;
+import seedu.address.testutil.PersonBuilder;
+
 class UniqueTagListTest {
 
     private UniqueTagList uniqueTagList;
@@ -108,4 +114,49 @@ class UniqueTagListTest {
         assertFalse(uniqueTagList.contains(mathTag));
         assertTrue(uniqueTagList.contains(scienceTag));
     }
+
+    @Test
+    void deleteTagTypes_indexedStudents_returnsIdsOfAffectedStudents() {
+        Student mathStudent = new PersonBuilder().withName("Amy Math").withTags("Math").buildStudent();
+        Student scienceStudent = new PersonBuilder().withName("Bob Science").withTags("Science").buildStudent();
+        uniqueTagList.addTagTypes(Set.of(mathTag, scienceTag));
+        uniqueTagList.indexStudent(mathStudent);
+        uniqueTagList.indexStudent(scienceStudent);
+
+        Set<PersonId> affected = uniqueTagList.deleteTagTypes(Set.of(mathTag));
+
+        assertEquals(Set.of(mathStudent.getId()), affected);
+        assertFalse(uniqueTagList.contains(mathTag));
+        assertEquals(Set.of(scienceStudent.getId()), uniqueTagList.getStudentsWithTag(scienceTag));
+    }
+
+    @Test
+    void getStudentsWithAnyTag_multipleTags_returnsUnion() {
+        Student mathStudent = new PersonBuilder().withName("Amy Math").withTags("Math").buildStudent();
+        Student bothStudent = new PersonBuilder().withName("Cat Both").withTags("Math", "Science").buildStudent();
+        Student scienceStudent = new PersonBuilder().withName("Bob Science").withTags("Science").buildStudent();
+        uniqueTagList.indexStudent(mathStudent);
+        uniqueTagList.indexStudent(bothStudent);
+        uniqueTagList.indexStudent(scienceStudent);
+
+        assertEquals(2, uniqueTagList.getStudentsWithTag(mathTag).size());
+        assertEquals(3, uniqueTagList.getStudentsWithAnyTag(List.of(mathTag, scienceTag)).size());
+    }
+
+    @Test
+    void unindexStudent_indexedStudent_removedFromAllTags() {
+        Student bothStudent = new PersonBuilder().withName("Cat Both").withTags("Math", "Science").buildStudent();
+        uniqueTagList.indexStudent(bothStudent);
+        uniqueTagList.unindexStudent(bothStudent);
+
+        assertTrue(uniqueTagList.getStudentsWithAnyTag(List.of(mathTag, scienceTag)).isEmpty());
+    }
+
+    @Test
+    void indexStudent_parent_ignored() {
+        Parent parent = new PersonBuilder().withTags("Math").buildParent();
+        uniqueTagList.indexStudent(parent);
+
+        assertTrue(uniqueTagList.getStudentsWithTag(mathTag).isEmpty());
+    }
 }
@@ -0,0 +1,95 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+
+public class BkTreeTest {
+
+    private final BkTree tree = new BkTree();
+
+    @Test
+    public void add_existingWord_returnsFalse() {
+        assertTrue(tree.add("yeo"));
+        assertTrue(tree.add("yeoh"));
+        assertFalse(tree.add("yeo"));
+        assertEquals(2, tree.size());
+    }
+
+    @Test
+    public void search_wordsWithinDistance_returnedWithDistances() {
+        tree.add("oliveiro");
+        tree.add("olivia");
+        tree.add("charlotte");
+        tree.add("oliveira");
+
+        assertEquals(Map.of("oliveiro", 1, "olivia", 2, "oliveira", 0), tree.search("oliveira", 2));
+        assertEquals(Map.of("oliveiro", 1, "oliveira", 0), tree.search("oliveira", 1));
+        assertEquals(Map.of("oliveira", 0), tree.search("oliveira", 0));
+        assertEquals(Map.of(), tree.search("tan", 2));
+        assertThrows(IllegalArgumentException.class, () -> tree.search("tan", -1));
+    }
+
+    @Test
+    public void remove_word_notFoundButWordsBelowItAre() {
+        tree.add("bernice");
+        tree.add("berenice");
+        tree.add("bernie");
+
+        assertTrue(tree.remove("bernice"));
+        assertFalse(tree.remove("bernice"));
+        assertFalse(tree.remove("beatrice"));
+        assertEquals(2, tree.size());
+        assertEquals(Map.of("berenice", 1, "bernie", 1), tree.search("bernice", 1));
+
+        // added again after being removed
+        assertTrue(tree.add("bernice"));
+        assertEquals(Map.of("bernice", 0), tree.search("bernice", 0));
+    }
+
+    @Test
+    public void search_randomWords_sameAsComparingEveryWord() {
+        Random random = new Random(7);
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder word = new StringBuilder();
+            for (int j = random.nextInt(8); j >= 0; j--) {
+                word.append((char) ('a' + random.nextInt(4)));
+            }
+            words.add(word.toString());
+            tree.add(word.toString());
+        }
+        // removing most words rebuilds the tree at least once
+        Set<String> remaining = new HashSet<>(words);
+        for (int i = 0; i < 1500; i++) {
+            tree.remove(words.get(i));
+            remaining.remove(words.get(i));
+        }
+        assertEquals(remaining.size(), tree.size());
+
+        for (int i = 0; i < 50; i++) {
+            String query = words.get(random.nextInt(words.size()));
+            Map<String, Integer> expected = new HashMap<>();
+            for (String word : remaining) {
+                int distance = StringUtil.editDistance(query, word);
+                if (distance <= 2) {
+                    expected.put(word, distance);
+                }
+            }
+            assertEquals(expected, tree.search(query, 2));
+        }
+    }
+}
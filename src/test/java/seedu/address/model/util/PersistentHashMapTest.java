@@ -0,0 +1,81 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentHashMapTest {
+
+    @Test
+    public void plus_newKey_derivedMapOnlyChanged() {
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty().plus("a", 1);
+        PersistentHashMap<String, Integer> derived = map.plus("b", 2);
+
+        assertEquals(1, map.size());
+        assertNull(map.get("b"));
+        assertEquals(2, derived.size());
+        assertEquals(Integer.valueOf(1), derived.get("a"));
+        assertEquals(Integer.valueOf(2), derived.get("b"));
+    }
+
+    @Test
+    public void plus_sameValue_sameMapReturned() {
+        Integer value = 1000;
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty().plus("a", value);
+        assertSame(map, map.plus("a", value));
+    }
+
+    @Test
+    public void minus_absentKey_sameMapReturned() {
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty().plus("a", 1);
+        assertSame(map, map.minus("b"));
+        assertTrue(map.minus("a").isEmpty());
+    }
+
+    @Test
+    public void plusAndMinus_collidingHashes_keysKeptApart() {
+        // both strings have the hash code 2112
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty().plus("Aa", 1).plus("BB", 2);
+
+        assertEquals(2, map.size());
+        assertEquals(Integer.valueOf(1), map.get("Aa"));
+        assertEquals(Integer.valueOf(2), map.get("BB"));
+        PersistentHashMap<String, Integer> removed = map.minus("Aa");
+        assertFalse(removed.containsKey("Aa"));
+        assertEquals(Integer.valueOf(2), removed.get("BB"));
+    }
+
+    @Test
+    public void randomOperations_sameAsHashMap() {
+        Random random = new Random(7);
+        Map<Integer, Integer> expected = new HashMap<>();
+        PersistentHashMap<Integer, Integer> map = PersistentHashMap.empty();
+        for (int i = 0; i < 20000; i++) {
+            int key = random.nextInt(3000) * 31;
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.minus(key);
+            } else {
+                expected.put(key, i);
+                map = map.plus(key, i);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        Map<Integer, Integer> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+        for (int key = 0; key < 3000 * 31; key += 31) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+
+}
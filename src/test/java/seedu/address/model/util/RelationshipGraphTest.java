@@ -0,0 +1,152 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.util.Pair;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Student;
+import seedu.address.testutil.PersonBuilder;
+
+public class RelationshipGraphTest {
+
+    private final RelationshipGraph graph = new RelationshipGraph();
+
+    @Test
+    public void addLink_newLink_linkedBothWays() {
+        Student student = new PersonBuilder().buildStudent();
+        Parent parent = new PersonBuilder().buildParent();
+
+        assertTrue(graph.addLink(student, parent));
+        assertEquals(Set.of(parent.getId()), graph.getLinked(student));
+        assertEquals(Set.of(student.getId()), graph.getLinked(parent));
+        assertEquals(1, graph.getParentCount(student));
+    }
+
+    @Test
+    public void addLink_existingOrSelfLink_returnsFalse() {
+        Student student = new PersonBuilder().buildStudent();
+        Parent parent = new PersonBuilder().buildParent();
+        graph.addLink(student, parent);
+
+        assertFalse(graph.addLink(parent, student));
+        assertFalse(graph.addLink(student, student));
+        assertEquals(1, graph.getAllLinksAsPairs().size());
+    }
+
+    @Test
+    public void addLink_thirdParent_returnsFalse() {
+        Student student = new PersonBuilder().buildStudent();
+        assertTrue(graph.addLink(student, new PersonBuilder().buildParent()));
+        assertTrue(graph.addLink(new PersonBuilder().buildParent(), student));
+
+        assertFalse(graph.addLink(student, new PersonBuilder().buildParent()));
+        assertEquals(2, graph.getParentCount(student));
+
+    }
+
+    @Test
+    public void addLink_studentWithTwoParents_returnsFalse() {
+        Student student = new PersonBuilder().buildStudent();
+        graph.addLink(student, new PersonBuilder().buildParent());
+        graph.addLink(student, new PersonBuilder().buildParent());
+        Student otherStudent = new PersonBuilder().buildStudent();
+
+        assertFalse(graph.addLink(student, otherStudent));
+        assertEquals(2, graph.getLinked(student).size());
+    }
+
+    @Test
+    public void removeLink_parentRemoved_parentSlotFreed() {
+        Student student = new PersonBuilder().buildStudent();
+        Parent parent = new PersonBuilder().buildParent();
+        graph.addLink(student, parent);
+        graph.addLink(student, new PersonBuilder().buildParent());
+
+        assertTrue(graph.removeLink(parent, student));
+        assertFalse(graph.removeLink(parent, student));
+        assertTrue(graph.getLinked(parent).isEmpty());
+        assertEquals(1, graph.getParentCount(student));
+        assertTrue(graph.addLink(student, new PersonBuilder().buildParent()));
+    }
+
+    @Test
+    public void removeAll_parentWithManyChildren_allLinksRemoved() {
+        Parent parent = new PersonBuilder().buildParent();
+        List<Student> children = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Student child = new PersonBuilder().buildStudent();
+            children.add(child);
+            graph.addLink(parent, child);
+        }
+        Parent otherParent = new PersonBuilder().buildParent();
+        graph.addLink(otherParent, children.get(0));
+
+        graph.removeAll(parent);
+
+        assertTrue(graph.getLinked(parent).isEmpty());
+        assertEquals(Set.of(otherParent.getId()), graph.getLinked(children.get(0)));
+        assertEquals(1, graph.getParentCount(children.get(0)));
+        assertTrue(graph.getLinked(children.get(1)).isEmpty());
+        assertEquals(0, graph.getParentCount(children.get(1)));
+        assertEquals(1, graph.getAllLinksAsPairs().size());
+    }
+
+    @Test
+    public void replace_differentId_linksMoved() {
+        Student student = new PersonBuilder().buildStudent();
+        Parent parent = new PersonBuilder().buildParent();
+        graph.addLink(student, parent);
+        Student edited = new PersonBuilder(student).buildStudent();
+
+        graph.replace(student, edited);
+
+        assertTrue(graph.getLinked(student).isEmpty());
+        assertEquals(Set.of(parent.getId()), graph.getLinked(edited));
+        assertEquals(Set.of(edited.getId()), graph.getLinked(parent));
+        assertEquals(1, graph.getParentCount(edited));
+    }
+
+    @Test
+    public void getAllLinksAsPairs_manyLinks_eachLinkOnceSmallerIdFirst() {
+        List<Parent> parents = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            parents.add(new PersonBuilder().buildParent());
+        }
+        Set<Pair<PersonId, PersonId>> expected = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            Student student = new PersonBuilder().buildStudent();
+            Parent parent = parents.get(i % parents.size());
+            graph.addLink(student, parent);
+            expected.add(new Pair<>(parent.getId(), student.getId()));
+        }
+
+        List<Pair<PersonId, PersonId>> pairs = graph.getAllLinksAsPairs();
+        assertEquals(expected.size(), pairs.size());
+        assertEquals(expected, new HashSet<>(pairs));
+        assertTrue(pairs.stream().allMatch(pair -> pair.getKey().value < pair.getValue().value));
+    }
+
+    @Test
+    public void copyFrom_laterChanges_notShared() {
+        Student student = new PersonBuilder().buildStudent();
+        Parent parent = new PersonBuilder().buildParent();
+        graph.addLink(student, parent);
+        RelationshipGraph copy = new RelationshipGraph();
+        copy.copyFrom(graph);
+
+        graph.removeLink(student, parent);
+
+        assertEquals(Set.of(parent.getId()), copy.getLinked(student));
+        assertFalse(graph.equals(copy));
+    }
+}
@@ -0,0 +1,258 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BackgroundAddressBookSaverTest {
+
+    private static final long LONG_DEBOUNCE_MILLIS = 60_000;
+
+    @Test
+    public void requestSave_burstOfRequests_latestCopySavedOnce() {
+        RecordingStorage storage = new RecordingStorage();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, LONG_DEBOUNCE_MILLIS);
+        AddressBook addressBook = new AddressBook();
+
+        addressBook.addPerson(ALICE);
+        saver.requestSave(addressBook);
+        addressBook.addPerson(BENSON);
+        saver.requestSave(addressBook);
+        saver.flush();
+
+        assertEquals(1, storage.saved.size());
+        assertEquals(addressBook, storage.saved.get(0));
+        assertNotSame(addressBook, storage.saved.get(0));
+    }
+
+    @Test
+    public void requestSave_laterChanges_notInSavedCopy() {
+        RecordingStorage storage = new RecordingStorage();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, LONG_DEBOUNCE_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.requestSave(addressBook);
+        addressBook.addPerson(HOON);
+        saver.flush();
+
+        assertEquals(getTypicalAddressBook(), storage.saved.get(0));
+    }
+
+    @Test
+    public void requestSave_debounceDelayPassed_savedWithoutFlush() throws Exception {
+        RecordingStorage storage = new RecordingStorage();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, 0);
+
+        saver.requestSave(getTypicalAddressBook());
+
+        for (int i = 0; i < 100 && storage.saved.isEmpty(); i++) {
+            Thread.sleep(50);
+        }
+        assertEquals(List.of(getTypicalAddressBook()), storage.saved);
+    }
+
+    @Test
+    public void flush_nothingRequested_nothingSaved() {
+        RecordingStorage storage = new RecordingStorage();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, 0);
+
+        saver.flush();
+
+        assertEquals(0, storage.saved.size());
+    }
+
+    @Test
+    public void takeFailure_saveFailed_failureReturnedOnce() {
+        IOException failure = new IOException("dummy IO exception");
+        RecordingStorage storage = new RecordingStorage() {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, LONG_DEBOUNCE_MILLIS);
+
+        saver.requestSave(new AddressBook());
+        saver.flush();
+
+        assertSame(failure, saver.takeFailure().get());
+        assertFalse(saver.takeFailure().isPresent());
+    }
+
+    @Test
+    public void requestSave_burstOfRequests_changesMerged() {
+        RecordingStorage storage = new RecordingStorage();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, LONG_DEBOUNCE_MILLIS);
+        AddressBook addressBook = new AddressBook();
+
+        addressBook.addPerson(ALICE);
+        saver.requestSave(addressBook, addressBook.takeChanges());
+        addressBook.addPerson(BENSON);
+        saver.requestSave(addressBook, addressBook.takeChanges());
+        saver.flush();
+
+        AddressBookChanges expected = new AddressBookChanges.Builder()
+                .recordPersonChanged(ALICE.getId())
+                .recordPersonChanged(BENSON.getId())
+                .build();
+        assertEquals(List.of(expected), storage.savedChanges);
+    }
+
+    @Test
+    public void requestSave_previousSaveFailed_changesSavedWithNextCopy() {
+        RecordingStorage storage = new RecordingStorage() {
+            @Override
+            public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes)
+                    throws IOException {
+                if (savedChanges.isEmpty()) {
+                    savedChanges.add(AddressBookChanges.NONE);
+                    throw new IOException("dummy IO exception");
+                }
+                super.saveAddressBookChanges(addressBook, changes);
+            }
+        };
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, LONG_DEBOUNCE_MILLIS);
+        AddressBook addressBook = new AddressBook();
+
+        addressBook.addPerson(ALICE);
+        saver.requestSave(addressBook, addressBook.takeChanges());
+        saver.flush();
+        addressBook.addPerson(BENSON);
+        saver.requestSave(addressBook, addressBook.takeChanges());
+        saver.flush();
+
+        AddressBookChanges expected = new AddressBookChanges.Builder()
+                .recordPersonChanged(ALICE.getId())
+                .recordPersonChanged(BENSON.getId())
+                .build();
+        assertEquals(expected, storage.savedChanges.get(1));
+        assertEquals(List.of(addressBook), storage.saved);
+    }
+
+    @Test
+    public void shutdown_pendingSave_saved() {
+        RecordingStorage storage = new RecordingStorage();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, LONG_DEBOUNCE_MILLIS);
+
+        saver.requestSave(getTypicalAddressBook());
+        saver.shutdown();
+
+        assertEquals(List.of(getTypicalAddressBook()), storage.saved);
+    }
+
+    @Test
+    public void shutdown_saveFailedOnce_latestCopySaved() {
+        RecordingStorage storage = new FailingOnceStorage();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, LONG_DEBOUNCE_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.requestSave(addressBook);
+        saver.flush();
+        saver.shutdown();
+
+        assertEquals(List.of(getTypicalAddressBook()), storage.saved);
+        assertTrue(saver.takeFailure().isPresent());
+    }
+
+    @Test
+    public void shutdown_firstWriteFails_latestCopySaved() {
+        RecordingStorage storage = new FailingOnceStorage();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, LONG_DEBOUNCE_MILLIS);
+
+        saver.requestSave(getTypicalAddressBook());
+        saver.shutdown();
+
+        assertEquals(List.of(getTypicalAddressBook()), storage.saved);
+    }
+
+    @Test
+    public void requestSave_saveFailedOnce_retriedInBackground() throws Exception {
+        RecordingStorage storage = new FailingOnceStorage();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, 0);
+
+        saver.requestSave(getTypicalAddressBook());
+
+        long waitMillis = BackgroundAddressBookSaver.MIN_RETRY_DELAY_MILLIS * 5;
+        for (int i = 0; i < waitMillis / 50 && storage.saved.isEmpty(); i++) {
+            Thread.sleep(50);
+        }
+        assertEquals(List.of(getTypicalAddressBook()), storage.saved);
+    }
+
+    /**
+     * A {@code RecordingStorage} whose first save fails.
+     */
+    private static class FailingOnceStorage extends RecordingStorage {
+        private boolean hasFailed;
+
+        @Override
+        public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes)
+                throws IOException {
+            if (!hasFailed) {
+                hasFailed = true;
+                throw new IOException("dummy IO exception");
+            }
+            super.saveAddressBookChanges(addressBook, changes);
+        }
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records the address books it is asked to save, and their changes.
+     */
+    private static class RecordingStorage implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new CopyOnWriteArrayList<>();
+        protected final List<AddressBookChanges> savedChanges = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Path getAddressBookFilePath() {
+            return Paths.get("unused.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            saveAddressBook(addressBook, getAddressBookFilePath());
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            // the saver hands over snapshots, which are compared with address books by their contents
+            saved.add(new AddressBook(addressBook));
+        }
+
+        @Override
+        public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes)
+                throws IOException {
+            savedChanges.add(changes);
+            saveAddressBook(addressBook);
+        }
+    }
+}
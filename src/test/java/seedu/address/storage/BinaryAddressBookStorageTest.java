@@ -0,0 +1,136 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.tag.Tag;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath() {
+        return testFolder.resolve("TempAddressBook.bin");
+    }
+
+    private AddressBook readBack() throws Exception {
+        return (AddressBook) new BinaryAddressBookStorage(filePath()).readAddressBook().get();
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(filePath()).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(filePath()).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_missingFileWithImportStorage_imported() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFilePath);
+        jsonStorage.saveAddressBook(getTypicalAddressBook());
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath(), jsonStorage);
+
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook().get());
+        // only the storage's own snapshot is imported
+        assertFalse(storage.readAddressBook(testFolder.resolve("Other.bin")).isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addTagTypes(Set.of(new Tag("Physics")));
+        original.linkPersons(ALICE, CARL);
+        original.linkPersons(BENSON, CARL);
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath());
+
+        storage.saveAddressBook(original);
+        AddressBook readBack = readBack();
+        assertEquals(original, readBack);
+        assertEquals(original.getTags(), readBack.getTags());
+        assertEquals(original.getRelationshipGraph(), readBack.getRelationshipGraph());
+        assertEquals(ALICE.getId(), readBack.getPersonWithName(ALICE.getName()).get().getId());
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        readBack = readBack();
+        assertEquals(original, readBack);
+        assertEquals(original.getRelationshipGraph(), readBack.getRelationshipGraph());
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath()).saveAddressBook(addressBook);
+        Path jsonFilePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(jsonFilePath, false).saveAddressBook(addressBook);
+
+        assertTrue(Files.size(filePath()) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_notSnapshot_throwsDataLoadingException() throws Exception {
+        Files.copy(Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "typicalPersonsAddressBook.json"), filePath());
+
+        assertThrows(DataLoadingException.class, this::readBack);
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        new BinaryAddressBookStorage(filePath()).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath());
+        ByteBuffer.wrap(bytes).putInt(4, BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        Files.write(filePath(), bytes);
+
+        assertThrows(DataLoadingException.class, this::readBack);
+    }
+
+    @Test
+    public void readAddressBook_truncatedSnapshot_throwsDataLoadingException() throws Exception {
+        new BinaryAddressBookStorage(filePath()).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath());
+        Files.write(filePath(), Arrays.copyOf(bytes, bytes.length - 6));
+
+        assertThrows(DataLoadingException.class, this::readBack);
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(filePath()).saveAddressBook(null));
+    }
+
+    @Test
+    public void getSnapshotFilePath() {
+        assertEquals(Paths.get("data", "ClassConnect.bin"),
+                BinaryAddressBookStorage.getSnapshotFilePath(Paths.get("data", "ClassConnect.json")));
+        assertEquals(Paths.get("data", "ClassConnect.bin"),
+                BinaryAddressBookStorage.getSnapshotFilePath(Paths.get("data", "ClassConnect")));
+    }
+}
@@ -0,0 +1,406 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Student;
+import seedu.address.model.tag.Tag;
+
+public class JournalingAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath() {
+        return testFolder.resolve("TempAddressBook.json");
+    }
+
+    private Path journalFilePath() {
+        return JournalingAddressBookStorage.getJournalFilePath(filePath());
+    }
+
+    private JournalingAddressBookStorage createStorage() {
+        return new JournalingAddressBookStorage(new JsonAddressBookStorage(filePath()));
+    }
+
+    private JournalingAddressBookStorage createStorage(Clock clock) {
+        return new JournalingAddressBookStorage(new JsonAddressBookStorage(filePath()),
+                JournalingAddressBookStorage.DEFAULT_CHECKPOINT_INTERVAL, clock);
+    }
+
+    private AddressBook readBack() throws Exception {
+        return (AddressBook) createStorage().readAddressBook().get();
+    }
+
+    /**
+     * Saves the changes made to {@code addressBook} since it was last saved through {@code storage}.
+     */
+    private static void save(JournalingAddressBookStorage storage, AddressBook addressBook) throws Exception {
+        storage.saveAddressBookChanges(addressBook, addressBook.takeChanges());
+    }
+
+    private static Student renamed(Student student, Name name) {
+        return new Student(student.getId(), name, student.getPhone(), student.getEmail(), student.getAddress(),
+                student.getRemark(), student.getTags());
+    }
+
+    private static void assertSameData(AddressBook expected, AddressBook actual) {
+        assertEquals(expected.getPersonList(), actual.getPersonList());
+        assertEquals(expected.getTags(), actual.getTags());
+        assertEquals(expected.getRelationshipGraph(), actual.getRelationshipGraph());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        createStorage().saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(Files.exists(filePath()));
+        assertFalse(Files.exists(journalFilePath()));
+        assertSameData(getTypicalAddressBook(), readBack());
+    }
+
+    @Test
+    public void saveAddressBookChanges_noChanges_nothingWritten() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JournalingAddressBookStorage storage = createStorage();
+        save(storage, addressBook);
+
+        save(storage, addressBook);
+
+        assertFalse(Files.exists(journalFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_unknownChanges_writesSnapshot() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JournalingAddressBookStorage storage = createStorage();
+        save(storage, addressBook);
+        addressBook.addPerson(HOON);
+        save(storage, addressBook);
+        assertTrue(Files.exists(journalFilePath()));
+
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(journalFilePath()));
+        assertSameData(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBookChanges_personInsertedBeforeEnd_writesSnapshot() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JournalingAddressBookStorage storage = createStorage();
+        save(storage, addressBook);
+
+        // a new id in place of Benson, which replaying would append to the list instead
+        Student renumberedBenson = new Student(BENSON.getName(), BENSON.getPhone(), BENSON.getEmail(),
+                BENSON.getAddress(), BENSON.getRemark(), BENSON.getTags());
+        addressBook.setPerson(BENSON, renumberedBenson);
+        addressBook.addPerson(HOON);
+        save(storage, addressBook);
+
+        assertFalse(Files.exists(journalFilePath()));
+        assertSameData(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournalAndReplayed() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JournalingAddressBookStorage storage = createStorage();
+        save(storage, addressBook);
+        String snapshot = Files.readString(filePath());
+
+        addressBook.addTagTypes(Set.of(new Tag("Physics")));
+        addressBook.addPerson(HOON);
+        save(storage, addressBook);
+        addressBook.linkPersons(ALICE, CARL);
+        addressBook.linkPersons(BENSON, DANIEL);
+        save(storage, addressBook);
+        Student editedBenson = new Student(BENSON.getId(), BENSON.getName(), new Phone("91234567"),
+                BENSON.getEmail(), BENSON.getAddress(), BENSON.getRemark(), BENSON.getTags());
+        addressBook.setPerson(BENSON, editedBenson);
+        addressBook.unlinkPersons(ALICE, CARL);
+        addressBook.removePerson(DANIEL);
+        save(storage, addressBook);
+
+        // the snapshot is left alone, the changes go to the journal
+        assertEquals(snapshot, Files.readString(filePath()));
+        assertTrue(Files.exists(journalFilePath()));
+        assertSameData(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBookChanges_personRenamedToDeletedName_replayed() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JournalingAddressBookStorage storage = createStorage();
+        save(storage, addressBook);
+
+        addressBook.removePerson(ALICE);
+        addressBook.setPerson(BENSON, renamed(BENSON, ALICE.getName()));
+        save(storage, addressBook);
+
+        assertTrue(Files.exists(journalFilePath()));
+        assertSameData(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBookChanges_namesSwapped_writesSnapshot() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JournalingAddressBookStorage storage = createStorage();
+        save(storage, addressBook);
+
+        Student aliceAsBenson = renamed(ALICE, BENSON.getName());
+        addressBook.setPerson(ALICE, renamed(ALICE, new Name("Someone Else")));
+        addressBook.setPerson(BENSON, renamed(BENSON, ALICE.getName()));
+        addressBook.setPerson(addressBook.getPersonWithId(ALICE.getId()).get(), aliceAsBenson);
+        save(storage, addressBook);
+
+        assertFalse(Files.exists(journalFilePath()));
+        assertSameData(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBookChanges_appendFails_nextSaveWritesSnapshot() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JournalingAddressBookStorage storage = createStorage();
+        save(storage, addressBook);
+
+        // a directory in place of the journal makes appending to it fail
+        Files.createDirectory(journalFilePath());
+        addressBook.removePerson(ALICE);
+        assertThrows(IOException.class, () -> save(storage, addressBook));
+        Files.delete(journalFilePath());
+
+        save(storage, addressBook);
+        assertFalse(Files.exists(journalFilePath()));
+        assertSameData(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_deletedTagTypes_replayed() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addTagTypes(Set.of(new Tag("Physics"), new Tag("Chemistry")));
+        JournalingAddressBookStorage storage = createStorage();
+        save(storage, addressBook);
+
+        addressBook.deleteTagTypes(Set.of(new Tag("Chemistry")));
+        save(storage, addressBook);
+
+        assertSameData(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_continuesJournal() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        save(createStorage(), addressBook);
+        addressBook.addPerson(HOON);
+        JournalingAddressBookStorage storage = createStorage();
+        storage.readAddressBook();
+
+        save(storage, addressBook);
+
+        assertTrue(Files.exists(journalFilePath()));
+        assertSameData(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_checkpointIntervalReached_snapshotWrittenAndJournalCleared() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        JournalingAddressBookStorage storage =
+                new JournalingAddressBookStorage(new JsonAddressBookStorage(filePath()), 2);
+        save(storage, addressBook);
+
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        save(storage, addressBook);
+        assertTrue(Files.exists(journalFilePath()));
+
+        addressBook.addPerson(CARL);
+        save(storage, addressBook);
+        assertFalse(Files.exists(journalFilePath()));
+        assertSameData(addressBook, readBack());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignored() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JournalingAddressBookStorage storage = createStorage();
+        save(storage, addressBook);
+        addressBook.addPerson(HOON);
+        save(storage, addressBook);
+
+        Files.writeString(journalFilePath(), "{\"type\":\"DELETE_PER", StandardOpenOption.APPEND);
+
+        assertSameData(addressBook, readBack());
+    }
+
+    @Test
+    public void readAddressBook_invalidRecord_recordsBeforeItReplayed() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JournalingAddressBookStorage storage = createStorage();
+        save(storage, addressBook);
+        addressBook.addPerson(HOON);
+        save(storage, addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+
+        Files.write(journalFilePath(), List.of("{\"type\":\"DELETE_PERSON\"}",
+                "{\"type\":\"DELETE_PERSON\",\"id\":" + HOON.getId().value + "}", "{\"type\":\"COMMIT\",\"time\":0}"),
+                StandardOpenOption.APPEND);
+
+        JournalingAddressBookStorage recoveringStorage = createStorage();
+        AddressBook recovered = (AddressBook) recoveringStorage.readAddressBook().get();
+        assertSameData(expected, recovered);
+
+        // the damaged journal is replaced by a snapshot on the next save
+        recoveringStorage.saveAddressBook(recovered);
+        assertFalse(Files.exists(journalFilePath()));
+        assertSameData(expected, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_changes_committedWithTimeOfSave() throws Exception {
+        ManualClock clock = new ManualClock();
+        AddressBook addressBook = getTypicalAddressBook();
+        JournalingAddressBookStorage storage = createStorage(clock);
+        save(storage, addressBook);
+
+        addressBook.addPerson(HOON);
+        addressBook.linkPersons(HOON, CARL);
+        save(storage, addressBook);
+
+        List<String> lines = Files.readAllLines(journalFilePath());
+        assertEquals(3, lines.size());
+        assertEquals("{\"type\":\"COMMIT\",\"time\":" + clock.now.toEpochMilli() + "}", lines.get(2));
+    }
+
+    @Test
+    public void readAddressBook_recoveryPoint_laterSavesIgnored() throws Exception {
+        ManualClock clock = new ManualClock();
+        AddressBook addressBook = getTypicalAddressBook();
+        JournalingAddressBookStorage storage = createStorage(clock);
+        save(storage, addressBook);
+        addressBook.addPerson(HOON);
+        save(storage, addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+        Instant recoveryPoint = clock.now;
+
+        clock.now = clock.now.plusSeconds(60);
+        addressBook.removePerson(ALICE);
+        addressBook.linkPersons(HOON, CARL);
+        save(storage, addressBook);
+
+        JournalingAddressBookStorage recoveringStorage = createStorage(clock);
+        recoveringStorage.setRecoveryPoint(recoveryPoint);
+        AddressBook recovered = (AddressBook) recoveringStorage.readAddressBook().get();
+        assertSameData(expected, recovered);
+
+        // the recovery point only applies to one read
+        assertSameData(addressBook, (AddressBook) recoveringStorage.readAddressBook().get());
+
+        // a recovered address book is saved as a snapshot, which discards the later saves
+        recoveringStorage.setRecoveryPoint(recoveryPoint);
+        recoveringStorage.readAddressBook();
+        recoveringStorage.saveAddressBook(recovered);
+        assertFalse(Files.exists(journalFilePath()));
+        assertSameData(expected, readBack());
+    }
+
+    @Test
+    public void readAddressBook_uncommittedRecords_ignored() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JournalingAddressBookStorage storage = createStorage();
+        save(storage, addressBook);
+        addressBook.addPerson(HOON);
+        save(storage, addressBook);
+
+        // as if a save was interrupted before its commit record was written
+        Files.write(journalFilePath(), List.of("{\"type\":\"DELETE_PERSON\",\"id\":" + HOON.getId().value + "}"),
+                StandardOpenOption.APPEND);
+
+        assertSameData(addressBook, readBack());
+    }
+
+    @Test
+    public void readAddressBook_journalWithoutCommitRecords_allRecordsReplayed() throws Exception {
+        createStorage().saveAddressBook(getTypicalAddressBook());
+
+        // journals written before commit records existed
+        Files.write(journalFilePath(), List.of("{\"type\":\"DELETE_PERSON\",\"id\":" + ALICE.getId().value + "}"));
+
+        AddressBook expected = getTypicalAddressBook();
+        expected.removePerson(ALICE);
+        assertSameData(expected, readBack());
+    }
+
+    @Test
+    public void readAddressBook_unreadableSnapshot_throwsDataLoadingException() throws Exception {
+        createStorage().saveAddressBook(getTypicalAddressBook());
+
+        Files.writeString(filePath(), "{ not json");
+
+        assertThrows(DataLoadingException.class, () -> createStorage().readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_recordsAlreadyInSnapshot_replayedHarmlessly() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JournalingAddressBookStorage storage = createStorage();
+        save(storage, addressBook);
+        addressBook.addPerson(HOON);
+        addressBook.linkPersons(HOON, CARL);
+        save(storage, addressBook);
+
+        // as if a checkpoint was interrupted after writing the snapshot but before clearing the journal
+        new JsonAddressBookStorage(filePath()).saveAddressBook(addressBook);
+
+        assertSameData(addressBook, readBack());
+    }
+
+    /**
+     * A clock that stays at the time it is set to.
+     */
+    private static class ManualClock extends Clock {
+        private Instant now = Instant.parse("2024-03-01T10:15:30Z");
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
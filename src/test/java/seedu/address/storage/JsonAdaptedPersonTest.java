@@ -16,9 +16,11 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Remark;
 import seedu.address.model.person.Role;
+import seedu.address.model.tag.Tag;
 
 public class JsonAdaptedPersonTest {
     private static final String INVALID_NAME = "R@chel";
@@ -217,4 +219,20 @@ public class JsonAdaptedPersonTest {
         assertThrows(IllegalValueException.class, student::toModelType);
     }
 
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedParent parent = new JsonAdaptedParent(Role.PARENT, 0, VALID_NAME, VALID_PHONE,
+                VALID_EMAIL, VALID_ADDRESS, VALID_REMARK);
+        assertThrows(IllegalValueException.class, PersonId.MESSAGE_CONSTRAINTS, parent::toModelType);
+    }
+
+    @Test
+    public void toModelType_nullTag_throwsIllegalValueException() {
+        List<JsonAdaptedTag> invalidTags = new ArrayList<>(VALID_TAGS);
+        invalidTags.add(new JsonAdaptedTag((String) null));
+        JsonAdaptedStudent student = new JsonAdaptedStudent(Role.STUDENT, VALID_NAME, VALID_PHONE,
+                VALID_EMAIL, VALID_ADDRESS, VALID_REMARK, invalidTags);
+        assertThrows(IllegalValueException.class, Tag.MESSAGE_CONSTRAINTS, student::toModelType);
+    }
+
 }
@@ -2,15 +2,27 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -19,6 +31,12 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_ID_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonIdAddressBook.json");
+    private static final Path NAME_LINKED_FILE = TEST_DATA_FOLDER.resolve("nameLinkedAddressBook.json");
+    private static final Path LINKS_FIRST_FILE = TEST_DATA_FOLDER.resolve("linksFirstAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -44,4 +62,154 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicatePersonIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_ID_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON_ID,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_linksStoredByName_linksRestored() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(NAME_LINKED_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+        Person alice = addressBookFromFile.findPersonByName(ALICE.getName().fullName);
+        Person carl = addressBookFromFile.findPersonByName(CARL.getName().fullName);
+        assertEquals(List.of(carl), addressBookFromFile.getLinkedPersons(alice));
+    }
+
+    @Test
+    public void toModelType_savedAddressBook_idsAndLinksKept() throws Exception {
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        original.linkPersons(ALICE, CARL);
+
+        AddressBook restored = new JsonSerializableAddressBook(original).toModelType();
+
+        assertEquals(original, restored);
+        Person restoredAlice = restored.getPersonWithId(ALICE.getId()).get();
+        assertEquals(ALICE, restoredAlice);
+        assertEquals(List.of(CARL), restored.getLinkedPersons(restoredAlice));
+    }
+
+    @Test
+    public void toModelType_personsWithAndWithoutIds_distinctIds() throws Exception {
+        AddressBook addressBook = createMixedIdAddressBook().toModelType();
+        assertEquals(2, addressBook.getPersonList().stream().map(Person::getId).distinct().count());
+    }
+
+    @Test
+    public void read_typicalPersonsFile_sameAsToModelType() throws Exception {
+        AddressBook streamed = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE, JsonSerializableAddressBook::read).get();
+        AddressBook converted = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
+                JsonSerializableAddressBook.class).get().toModelType();
+        assertEquals(converted, streamed);
+        assertEquals(converted.getTags(), streamed.getTags());
+    }
+
+    @Test
+    public void read_linksBeforePersons_linksRestored() throws Exception {
+        AddressBook addressBookFromFile = JsonUtil.readJsonFile(LINKS_FIRST_FILE,
+                JsonSerializableAddressBook::read).get();
+        Person alice = addressBookFromFile.findPersonByName(ALICE.getName().fullName);
+        Person carl = addressBookFromFile.findPersonByName(CARL.getName().fullName);
+        assertEquals(List.of(carl), addressBookFromFile.getLinkedPersons(alice));
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> JsonUtil.readJsonFile(INVALID_PERSON_FILE,
+                JsonSerializableAddressBook::read));
+    }
+
+    @Test
+    public void read_duplicatePersonIds_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> JsonUtil.readJsonFile(DUPLICATE_PERSON_ID_FILE,
+                JsonSerializableAddressBook::read));
+    }
+
+    @Test
+    public void read_personsWithAndWithoutIds_distinctIds() throws Exception {
+        Path filePath = testFolder.resolve("mixedIdAddressBook.json");
+        JsonUtil.saveJsonFile(createMixedIdAddressBook(), filePath);
+
+        AddressBook addressBook = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook::read).get();
+        assertEquals(2, addressBook.getPersonList().stream().map(Person::getId).distinct().count());
+    }
+
+    @Test
+    public void readLargestId_personsWithAndWithoutIds_largestSavedId() throws Exception {
+        Path filePath = testFolder.resolve("mixedIdAddressBook.json");
+        JsonSerializableAddressBook mixedIdAddressBook = createMixedIdAddressBook();
+        JsonUtil.saveJsonFile(mixedIdAddressBook, filePath);
+        int savedId = mixedIdAddressBook.toModelType().getPersonList().get(1).getId().value;
+
+        assertEquals(Optional.of(savedId), JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook::readLargestId));
+        assertEquals(Optional.of(0), JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
+                JsonSerializableAddressBook::readLargestId));
+    }
+
+    @Test
+    public void addPersons_parallel_sameOrderAsFile() throws Exception {
+        List<JsonAdaptedPerson> jsonPersons = createJsonParents(3000);
+        AddressBook sequential = new AddressBook();
+        AddressBook parallel = new AddressBook();
+
+        JsonSerializableAddressBook.addPersons(sequential, jsonPersons, Integer.MAX_VALUE);
+        JsonSerializableAddressBook.addPersons(parallel, jsonPersons, 1);
+
+        assertEquals(sequential.getPersonList(), parallel.getPersonList());
+    }
+
+    @Test
+    public void addPersons_parallelWithSeveralInvalidPersons_firstInvalidPersonReported() {
+        List<JsonAdaptedPerson> jsonPersons = createJsonParents(3000);
+        jsonPersons.set(2700, new JsonAdaptedParent(Role.PARENT, 2701, "R@chel", "91234567",
+                "parent@example.com", "Blk 1", ""));
+        jsonPersons.set(1500, new JsonAdaptedParent(Role.PARENT, 1501, "Rachel", "+651a234",
+                "parent@example.com", "Blk 1", ""));
+
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+                JsonSerializableAddressBook.addPersons(new AddressBook(), jsonPersons, 1));
+    }
+
+    @Test
+    public void addPersons_parallelWithDuplicateBeforeInvalidPerson_duplicateReported() {
+        List<JsonAdaptedPerson> jsonPersons = createJsonParents(3000);
+        jsonPersons.set(2000, new JsonAdaptedParent(Role.PARENT, 2001, "R@chel", "91234567",
+                "parent@example.com", "Blk 1", ""));
+        jsonPersons.add(100, jsonPersons.get(10));
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonSerializableAddressBook.addPersons(new AddressBook(), jsonPersons, 1));
+    }
+
+    /**
+     * Returns an address book whose first person was saved without an id, and whose second person was saved with the
+     * id that would be generated next for the first one.
+     */
+    private static JsonSerializableAddressBook createMixedIdAddressBook() {
+        int nextId = PersonId.generate().value + 1;
+        return new JsonSerializableAddressBook(List.of(
+                new JsonAdaptedStudent(Role.STUDENT, "Alice Pauline", "94351253", "alice@example.com",
+                        "123, Jurong West Ave 6", "", List.of()),
+                new JsonAdaptedParent(Role.PARENT, nextId, "Carl Kurz", "95352563", "heinz@example.com",
+                        "wall street", "")));
+    }
+
+    /**
+     * Returns {@code count} adapted parents with distinct names and ids.
+     */
+    private static List<JsonAdaptedPerson> createJsonParents(int count) {
+        List<JsonAdaptedPerson> jsonPersons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String letters = Integer.toString(i, 10).chars()
+                    .mapToObj(digit -> String.valueOf((char) ('a' + digit - '0')))
+                    .collect(Collectors.joining());
+            jsonPersons.add(new JsonAdaptedParent(Role.PARENT, i + 1, "Parent " + letters, "91234567",
+                    "parent" + i + "@example.com", "Blk " + i, ""));
+        }
+        return jsonPersons;
+    }
 }
@@ -0,0 +1,323 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.person.Student;
+import seedu.address.model.tag.Tag;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath() {
+        return testFolder.resolve("TempAddressBook.shards").resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+    }
+
+    private AddressBook readBack() throws Exception {
+        return (AddressBook) new ShardedAddressBookStorage(filePath()).readAddressBook().get();
+    }
+
+    private Set<String> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(filePath().getParent())) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(fileName -> !fileName.startsWith(ShardedAddressBookStorage.MANIFEST_FILE_NAME))
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ShardedAddressBookStorage(filePath()).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingManifest_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(filePath()).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_missingManifestWithImportStorage_imported() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFilePath);
+        jsonStorage.saveAddressBook(getTypicalAddressBook());
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath(), jsonStorage);
+
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook().get());
+        // only the storage's own manifest is imported
+        assertFalse(storage.readAddressBook(testFolder.resolve("Other.json")).isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addTagTypes(Set.of(new Tag("Physics")));
+        original.linkPersons(ALICE, CARL);
+        original.linkPersons(BENSON, CARL);
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath());
+
+        storage.saveAddressBook(original);
+        AddressBook readBack = readBack();
+        assertEquals(original, readBack);
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(original.getTags(), readBack.getTags());
+        assertEquals(original.getRelationshipGraph(), readBack.getRelationshipGraph());
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.deleteTagTypes(Set.of(new Tag("Physics")));
+        storage.saveAddressBook(original);
+        readBack = readBack();
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(original.getTags(), readBack.getTags());
+        assertEquals(original.getRelationshipGraph(), readBack.getRelationshipGraph());
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_onlyItsSegmentRewritten() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath());
+        storage.saveAddressBook(addressBook);
+        Set<String> filesBefore = segmentFiles();
+
+        addressBook.setPerson(BENSON, ((Student) BENSON).withoutTags(Set.of(new Tag("Math"))));
+        storage.saveAddressBook(addressBook);
+        Set<String> filesAfter = segmentFiles();
+
+        // one segment file of the next generation has been added, and the one it replaces is kept for the previous
+        // manifest
+        Set<String> added = new HashSet<>(filesAfter);
+        added.removeAll(filesBefore);
+        int shard = BENSON.getId().value % ShardedAddressBookStorage.DEFAULT_SHARD_COUNT;
+        assertEquals(Set.of(String.format("persons-%02d.2.json", shard)), added);
+        assertTrue(filesAfter.containsAll(filesBefore));
+        assertEquals(addressBook.getPersonList(), readBack().getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_nothingRewritten() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath());
+        storage.saveAddressBook(addressBook);
+        Set<String> filesBefore = segmentFiles();
+
+        storage.saveAddressBook(new AddressBook(addressBook));
+
+        assertEquals(filesBefore, segmentFiles());
+    }
+
+    @Test
+    public void saveAddressBookChanges_linkAdded_onlyLinkSegmentRewritten() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath());
+        storage.saveAddressBook(addressBook);
+        addressBook.takeChanges();
+        Set<String> filesBefore = segmentFiles();
+
+        addressBook.linkPersons(CARL, ALICE);
+        storage.saveAddressBookChanges(addressBook, addressBook.takeChanges());
+
+        Set<String> added = new HashSet<>(segmentFiles());
+        added.removeAll(filesBefore);
+        int shard = Math.min(ALICE.getId().value, CARL.getId().value) % ShardedAddressBookStorage.DEFAULT_SHARD_COUNT;
+        assertEquals(Set.of(String.format("links-%02d.2.json", shard)), added);
+        assertEquals(addressBook.getRelationshipGraph(), readBack().getRelationshipGraph());
+    }
+
+    @Test
+    public void saveAddressBookChanges_replaced_savedByComparison() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath());
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(HOON);
+
+        storage.saveAddressBookChanges(replacement, AddressBookChanges.ALL);
+
+        assertEquals(replacement.getPersonList(), readBack().getPersonList());
+    }
+
+    @Test
+    public void saveAddressBookChanges_personsNotInIdOrder_listOrderKept() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(HOON);
+        addressBook.addPerson(CARL);
+        addressBook.addPerson(ALICE);
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath());
+        storage.saveAddressBook(addressBook);
+        addressBook.takeChanges();
+        assertEquals(addressBook.getPersonList(), readBack().getPersonList());
+
+        addressBook.addPerson(BENSON);
+        addressBook.removePerson(CARL);
+        storage.saveAddressBookChanges(addressBook, addressBook.takeChanges());
+
+        assertEquals(List.of(HOON, ALICE, BENSON), readBack().getPersonList());
+    }
+
+    @Test
+    public void saveAddressBookChanges_personInsertedBeforeEnd_listOrderKept() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath());
+        storage.saveAddressBook(addressBook);
+        addressBook.takeChanges();
+
+        // a new id in place of Benson, which would otherwise be numbered after the last person
+        Student renumberedBenson = new Student(BENSON.getName(), BENSON.getPhone(), BENSON.getEmail(),
+                BENSON.getAddress(), BENSON.getRemark(), BENSON.getTags());
+        addressBook.setPerson(BENSON, renumberedBenson);
+        storage.saveAddressBookChanges(addressBook, addressBook.takeChanges());
+
+        assertEquals(addressBook.getPersonList(), readBack().getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_differentShardCount_readAndResharded() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.linkPersons(ALICE, CARL);
+        new ShardedAddressBookStorage(filePath(), null, 3).saveAddressBook(addressBook);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath());
+        AddressBook readBack = (AddressBook) storage.readAddressBook().get();
+        assertEquals(addressBook.getPersonList(), readBack.getPersonList());
+
+        readBack.addPerson(HOON);
+        storage.saveAddressBook(readBack);
+        // the segments of the previous manifest, with three shards, are kept as well
+        assertEquals(2 * ShardedAddressBookStorage.DEFAULT_SHARD_COUNT + 1 + 2 * 3 + 1, segmentFiles().size());
+        assertEquals(readBack.getPersonList(), readBack().getPersonList());
+        assertEquals(addressBook.getRelationshipGraph(), readBack().getRelationshipGraph());
+    }
+
+    @Test
+    public void readAddressBook_missingSegment_throwsDataLoadingException() throws Exception {
+        new ShardedAddressBookStorage(filePath()).saveAddressBook(getTypicalAddressBook());
+        Files.delete(filePath().resolveSibling("tags.1.json"));
+
+        assertThrows(DataLoadingException.class, this::readBack);
+    }
+
+    @Test
+    public void saveAddressBook_secondSave_previousManifestAndItsSegmentsKept() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath());
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(ShardedAddressBookStorage.getPreviousManifestFilePath(filePath())));
+
+        addressBook.setPerson(BENSON, ((Student) BENSON).withoutTags(Set.of(new Tag("Math"))));
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // the segments of the first save are only named by the manifest of the second save, which is kept
+        int shard = BENSON.getId().value % ShardedAddressBookStorage.DEFAULT_SHARD_COUNT;
+        assertTrue(Files.exists(ShardedAddressBookStorage.getPreviousManifestFilePath(filePath())));
+        assertTrue(segmentFiles().contains(String.format("persons-%02d.2.json", shard)));
+        assertFalse(segmentFiles().contains(String.format("persons-%02d.1.json", shard)));
+    }
+
+    @Test
+    public void readAddressBook_missingSegmentAfterSecondSave_previousAddressBookRead() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath());
+        storage.saveAddressBook(addressBook);
+        AddressBook previous = new AddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        int shard = HOON.getId().value % ShardedAddressBookStorage.DEFAULT_SHARD_COUNT;
+        Files.delete(filePath().resolveSibling(String.format("persons-%02d.2.json", shard)));
+
+        ShardedAddressBookStorage recoveringStorage = new ShardedAddressBookStorage(filePath());
+        AddressBook recovered = (AddressBook) recoveringStorage.readAddressBook().get();
+        assertEquals(previous.getPersonList(), recovered.getPersonList());
+
+        // the recovered address book becomes the previous one once the next save replaces the damaged manifest
+        recovered.addPerson(HOON);
+        recoveringStorage.saveAddressBook(recovered);
+        assertEquals(recovered.getPersonList(), readBack().getPersonList());
+        assertTrue(segmentFiles().contains(String.format("persons-%02d.1.json", shard)));
+    }
+
+    @Test
+    public void readAddressBook_corruptManifest_previousAddressBookRead() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath());
+        storage.saveAddressBook(addressBook);
+        AddressBook previous = new AddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        Files.writeString(filePath(), "{ \"formatVersion\": ");
+
+        assertEquals(previous.getPersonList(), readBack().getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_previousManifestUnreadableToo_throwsDataLoadingException() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath());
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        Files.writeString(filePath(), "{ \"formatVersion\": ");
+        Files.writeString(ShardedAddressBookStorage.getPreviousManifestFilePath(filePath()), "[]");
+
+        assertThrows(DataLoadingException.class, this::readBack);
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        new ShardedAddressBookStorage(filePath()).saveAddressBook(getTypicalAddressBook());
+        JsonUtil.saveJsonFile(new JsonSerializableShardManifest(ShardedAddressBookStorage.FORMAT_VERSION + 1, 1,
+                "tags.1.json", List.of("persons-00.1.json"), List.of("links-00.1.json")), filePath());
+
+        assertThrows(DataLoadingException.class, this::readBack);
+    }
+
+    @Test
+    public void readAddressBook_segmentOutsideDirectory_throwsDataLoadingException() throws Exception {
+        JsonUtil.saveJsonFile(new JsonSerializableShardManifest(ShardedAddressBookStorage.FORMAT_VERSION, 1,
+                "../tags.1.json", List.of("persons-00.1.json"), List.of("links-00.1.json")), filePath());
+
+        assertThrows(DataLoadingException.class, this::readBack);
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new ShardedAddressBookStorage(filePath()).saveAddressBook(null));
+    }
+
+    @Test
+    public void getManifestFilePath() {
+        assertEquals(Paths.get("data", "ClassConnect.shards", "manifest.json"),
+                ShardedAddressBookStorage.getManifestFilePath(Paths.get("data", "ClassConnect.json")));
+    }
+}